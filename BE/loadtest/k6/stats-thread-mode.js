@@ -0,0 +1,88 @@
+// 통계 API cache-miss 부하 + 동시 리다이렉트: platform thread vs virtual thread 비교용
+//
+// 실행 (같은 데이터셋에서 모드만 바꿔 두 번):
+//   SPRING_THREADS_VIRTUAL_ENABLED=false ./gradlew bootRun
+//   k6 run -e MODE=platform -e CAMPAIGN_ID=1 -e ADVERTISER_ID=1 -e SLUG=abcd1234 loadtest/k6/stats-thread-mode.js
+//
+//   SPRING_THREADS_VIRTUAL_ENABLED=true ./gradlew bootRun   (JDK 21+ 런타임 필요)
+//   k6 run -e MODE=virtual  -e CAMPAIGN_ID=1 -e ADVERTISER_ID=1 -e SLUG=abcd1234 loadtest/k6/stats-thread-mode.js
+//
+// 결과 요약은 loadtest/results/stats-thread-mode-<MODE>.json 으로 저장된다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const CAMPAIGN_ID = __ENV.CAMPAIGN_ID || '1';
+const ADVERTISER_ID = __ENV.ADVERTISER_ID || '1';
+const SLUG = __ENV.SLUG || '';
+const STATS_RPS = Number(__ENV.STATS_RPS || 5);
+const REDIRECT_RPS = Number(__ENV.REDIRECT_RPS || 200);
+const DURATION = __ENV.DURATION || '3m';
+
+export const options = {
+    scenarios: {
+        // 기존 시나리오: 기간 통계 1~5 RPS. 매 요청 기간을 달리해 cache miss 를 만든다.
+        stats: {
+            executor: 'constant-arrival-rate',
+            exec: 'stats',
+            rate: STATS_RPS,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 2000,
+        },
+        // 통계 요청이 Tomcat 스레드를 붙잡는 동안 리다이렉트가 얼마나 밀리는지
+        redirect: {
+            executor: 'constant-arrival-rate',
+            exec: 'redirect',
+            rate: SLUG ? REDIRECT_RPS : 1,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 1000,
+        },
+    },
+    thresholds: {
+        'http_req_failed{scenario:stats}': ['rate<0.01'],
+        'http_req_duration{scenario:stats}': ['max>=0'], // 요약용 서브메트릭 생성
+        'http_req_duration{scenario:redirect}': ['p(95)<200'],
+    },
+    tags: { mode: MODE },
+};
+
+function isoDate(d) {
+    return d.toISOString().slice(0, 10);
+}
+
+export function stats() {
+    // 최근 365일 안에서 임의 구간 → 캐시 키가 매번 달라짐
+    const end = new Date(Date.now() - Math.floor(Math.random() * 365) * 86400000);
+    const start = new Date(end.getTime() - (1 + Math.floor(Math.random() * 90)) * 86400000);
+    const url = `${BASE_URL}/api/stats/campaigns/${CAMPAIGN_ID}/combinations`
+        + `?advertiserId=${ADVERTISER_ID}&from=${isoDate(start)}&to=${isoDate(end)}`;
+
+    const res = http.get(url, { timeout: '180s', tags: { name: 'stats-combinations' } });
+    check(res, { 'stats 200': (r) => r.status === 200 });
+}
+
+export function redirect() {
+    if (!SLUG) return;
+    const res = http.get(`${BASE_URL}/t/${SLUG}`, { redirects: 0, tags: { name: 'redirect' } });
+    check(res, { 'redirect 302': (r) => r.status === 302 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`loadtest/results/stats-thread-mode-${MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: `\n[${MODE}] stats p95=${pick(data, 'http_req_duration{scenario:stats}')}ms`
+            + ` redirect p95=${pick(data, 'http_req_duration{scenario:redirect}')}ms`
+            + ` failed=${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`,
+    };
+}
+
+function pick(data, metric) {
+    const m = data.metrics[metric];
+    return m ? m.values['p(95)'].toFixed(1) : 'n/a';
+}
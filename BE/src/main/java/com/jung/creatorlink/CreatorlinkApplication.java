@@ -1,11 +1,39 @@
 package com.jung.creatorlink;
 
+import com.jung.creatorlink.config.props.AnalyticsDataSourceProperties;
+import com.jung.creatorlink.config.props.ClickCampaignBackfillProperties;
+import com.jung.creatorlink.config.props.ClickCounterProperties;
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import com.jung.creatorlink.config.props.ClickRollupProperties;
+import com.jung.creatorlink.config.props.RedirectServerProperties;
+import com.jung.creatorlink.config.props.SlugAllocProperties;
+import com.jung.creatorlink.config.props.SlugBloomProperties;
+import com.jung.creatorlink.config.props.SlugCacheProperties;
+import com.jung.creatorlink.config.props.SlugIndexProperties;
+import com.jung.creatorlink.config.props.StatsBulkheadProperties;
 import com.jung.creatorlink.config.props.StatsCacheProperties;
+import com.jung.creatorlink.config.props.StatsWarmProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableConfigurationProperties(StatsCacheProperties.class)
+@EnableConfigurationProperties({
+        StatsCacheProperties.class,
+        SlugCacheProperties.class,
+        ClickIngestProperties.class,
+        SlugBloomProperties.class,
+        SlugIndexProperties.class,
+        RedirectServerProperties.class,
+        SlugAllocProperties.class,
+        ClickRollupProperties.class,
+        ClickCounterProperties.class,
+        StatsWarmProperties.class,
+        StatsBulkheadProperties.class,
+        AnalyticsDataSourceProperties.class,
+        ClickCampaignBackfillProperties.class
+})
+@EnableScheduling
 @SpringBootApplication
 //스프링 부트 메인
 public class CreatorlinkApplication {
@@ -1,11 +1,14 @@
 package com.jung.creatorlink.common.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -32,4 +35,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(Map.of("message", e.getMessage()));
     }
+
+    // 통계 집계 대기 초과 / loader 큐 포화 -> 503 (잠시 후 재시도하면 캐시 HIT)
+    //SERVICE_UNAVAILABLE(503, Series.SERVER_ERROR, "Service Unavailable")
+    @ExceptionHandler({TimeoutException.class, RejectedExecutionException.class})
+    public ResponseEntity<?> handleUnavailable(Exception e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("message", "통계 집계가 지연되고 있습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    // 통계 bulkhead 포화 -> 503 + Retry-After (DB 를 기다리지 않고 바로 거절)
+    @ExceptionHandler(StatsOverloadedException.class)
+    public ResponseEntity<?> handleOverloaded(StatsOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("message", e.getMessage()));
+    }
 }
@@ -0,0 +1,15 @@
+package com.jung.creatorlink.common.exception;
+
+import lombok.Getter;
+
+// 통계 bulkhead 포화 → 503 + Retry-After
+@Getter
+public class StatsOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public StatsOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
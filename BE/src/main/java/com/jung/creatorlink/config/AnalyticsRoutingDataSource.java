@@ -0,0 +1,40 @@
+package com.jung.creatorlink.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+// primary / analytics 커넥션 풀 라우팅
+// - analytics(...) 범위 안의 읽기(readOnly 트랜잭션 또는 트랜잭션 없는 조회)만 analytics 풀로, 나머지는 전부 primary
+//   → 리다이렉트/클릭 적재/CRUD 의 readOnly 조회는 primary 그대로 (replica 지연으로 새 slug 가 안 보이는 일 없음)
+// - 실제 커넥션은 LazyConnectionDataSourceProxy 가 첫 쿼리 시점에 가져온다
+//   (트랜잭션 시작 시점엔 readOnly 플래그가 아직 안 잡혀 있음)
+// - 스레드 로컬이라 다른 스레드로 넘기는 작업(집계 풀 등)은 그 스레드에서 다시 감싸야 한다
+public class AnalyticsRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String ANALYTICS = "analytics";
+
+    private static final ThreadLocal<Boolean> ANALYTICS_SCOPE = new ThreadLocal<>();
+
+    public static <T> T analytics(Supplier<T> work) {
+        if (Boolean.TRUE.equals(ANALYTICS_SCOPE.get())) return work.get();
+
+        ANALYTICS_SCOPE.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            ANALYTICS_SCOPE.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!Boolean.TRUE.equals(ANALYTICS_SCOPE.get())) return PRIMARY;
+
+        boolean readOnly = !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly ? ANALYTICS : PRIMARY;
+    }
+}
@@ -0,0 +1,21 @@
+package com.jung.creatorlink.config;
+
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import org.springframework.context.annotation.Conditional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Conditional(OnClickIngestModeCondition.class)
+// app.click-ingest.mode 가 이 값일 때만 등록
+// @ConditionalOnProperty(havingValue = "redis-stream") 는 문자열 비교라 REDIS_STREAM / redis_stream 처럼
+// ClickIngestProperties 바인딩은 받아주는 표기에서 빈이 빠진다 → 바인딩과 같은 enum 변환으로 판단
+public @interface ConditionalOnClickIngestMode {
+    ClickIngestProperties.Mode value();
+}
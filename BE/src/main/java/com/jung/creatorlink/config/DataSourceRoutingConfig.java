@@ -0,0 +1,81 @@
+package com.jung.creatorlink.config;
+
+import com.jung.creatorlink.config.props.AnalyticsDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+@Configuration
+// 커넥션 풀 분리: primary(클릭/리다이렉트/CRUD) + analytics(통계 집계, replica 가능) + slug-sequence(slug 블록 예약)
+// - primary/analytics 라우팅은 app.analytics-datasource.enabled=true 일 때만
+// - 각 풀은 따로 크기/타임아웃 설정 (spring.datasource.hikari.* / app.analytics-datasource.hikari.*)
+// - JPA/JdbcTemplate 은 @Primary 인 라우팅 DataSource 하나만 보고, 어느 풀을 쓸지는 AnalyticsRoutingDataSource 가 정함
+// - DataSource 빈을 직접 만들면 Boot 기본 DataSource 자동 설정은 빠진다 (풀별 Hikari 지표는 그대로 등록됨)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.analytics-datasource", name = "enabled", havingValue = "true")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.analytics-datasource", name = "enabled", havingValue = "true")
+    @ConfigurationProperties("app.analytics-datasource.hikari")
+    public HikariDataSource analyticsDataSource(DataSourceProperties properties, AnalyticsDataSourceProperties analytics) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("analytics");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(StringUtils.hasText(analytics.getUrl()) ? analytics.getUrl() : properties.determineUrl());
+        dataSource.setUsername(StringUtils.hasText(analytics.getUsername()) ? analytics.getUsername() : properties.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(analytics.getPassword()) ? analytics.getPassword() : properties.determinePassword());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.analytics-datasource", name = "enabled", havingValue = "true")
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("analyticsDataSource") DataSource analytics) {
+        AnalyticsRoutingDataSource routing = new AnalyticsRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                AnalyticsRoutingDataSource.PRIMARY, primary,
+                AnalyticsRoutingDataSource.ANALYTICS, analytics));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+        // 기본값 확인용으로 아무 풀에서나 커넥션을 미리 꺼내지 않도록 (MySQL 기본값)
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        return proxy;
+    }
+
+    // SlugAllocator 블록 예약 전용 (autocommit, 커넥션 1개, 안 쓰는 동안은 닫아 둠)
+    // 링크 생성 트랜잭션이 공용 풀 커넥션을 쥔 채 같은 풀에서 두 번째 커넥션을 기다리지 않도록 풀을 따로 둔다 (풀이 바닥나면 교착)
+    // defaultCandidate=false: 타입으로는 안 잡힘 → JPA/JdbcTemplate 이 쓰는 기본 DataSource(자동 설정 포함)에 영향 없음, 이름으로만 주입
+    @Bean(destroyMethod = "close", defaultCandidate = false)
+    public HikariDataSource slugSequenceDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("slug-sequence");
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setMinimumIdle(0);
+        dataSource.setAutoCommit(true);
+        return dataSource;
+    }
+}
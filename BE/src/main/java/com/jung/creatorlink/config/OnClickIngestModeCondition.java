@@ -0,0 +1,28 @@
+package com.jung.creatorlink.config;
+
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.util.Map;
+
+// ClickIngestProperties 와 같은 Binder(relaxed enum 변환)로 mode 를 읽는다. 값이 없으면 기본값 DIRECT
+class OnClickIngestModeCondition extends SpringBootCondition {
+
+    static final String PROPERTY = "app.click-ingest.mode";
+
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Map<String, Object> attributes = metadata.getAnnotationAttributes(ConditionalOnClickIngestMode.class.getName());
+        ClickIngestProperties.Mode required = (ClickIngestProperties.Mode) attributes.get("value");
+        ClickIngestProperties.Mode mode = Binder.get(context.getEnvironment())
+                .bind(PROPERTY, ClickIngestProperties.Mode.class)
+                .orElse(new ClickIngestProperties().getMode());
+
+        String message = PROPERTY + "=" + mode + " (required " + required + ")";
+        return mode == required ? ConditionOutcome.match(message) : ConditionOutcome.noMatch(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.analytics-datasource")
+public class AnalyticsDataSourceProperties {
+    // 통계 읽기 전용 커넥션 풀 (read replica 를 가리킬 수 있음). 풀 크기/타임아웃은 app.analytics-datasource.hikari.*
+    private boolean enabled = false;
+    private String url;        // 비우면 spring.datasource.url (같은 DB, 풀만 분리)
+    private String username;   // 비우면 spring.datasource.username
+    private String password;   // 비우면 spring.datasource.password
+}
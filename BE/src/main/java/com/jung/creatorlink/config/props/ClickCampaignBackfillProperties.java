@@ -0,0 +1,16 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.click-campaign-backfill")
+public class ClickCampaignBackfillProperties {
+    // click_logs.campaign_id 컬럼 추가 전 행을 tracking_links 에서 채움 (다 채우면 빈 행 확인만)
+    private boolean enabled = false;
+    private long intervalMs = 10_000;   // 실행 주기
+    private long chunkSize = 50_000;    // UPDATE 1번에 처리할 click_logs id 범위 (짧게 끊어서 락 시간 최소화)
+    private int maxChunksPerRun = 20;   // 1회 실행에서 처리할 chunk 수
+}
@@ -0,0 +1,16 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.click-counter")
+public class ClickCounterProperties {
+    // true 면 today/total 클릭을 Redis 카운터에서 읽는다 (click_logs COUNT 안 함)
+    private boolean enabled = false;
+    private int dayKeyTtlDays = 3;                       // 일별 카운터 보관 기간
+    private long todayReconcileIntervalMs = 5 * 60_000;  // 오늘 카운터 ↔ MySQL 보정 주기
+    private long totalReconcileIntervalMs = 60 * 60_000; // 누적 카운터 ↔ MySQL 보정 주기
+}
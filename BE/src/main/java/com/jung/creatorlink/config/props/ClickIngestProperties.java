@@ -0,0 +1,67 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.click-ingest")
+public class ClickIngestProperties {
+    // direct: 요청 스레드에서 바로 INSERT (기존 동작)
+    // async : 메모리 큐 + 백그라운드 배치 INSERT
+    // redis-stream : Redis Stream XADD 후 consumer group 이 배치 INSERT (여러 노드가 쓰기 부하 분담)
+    // journal : 로컬 디스크 mmap 저널에 append 후 replayer 가 배치 INSERT (DB 장애 중에도 클릭 보존)
+    private Mode mode = Mode.DIRECT;
+
+    // ===== async 모드 =====
+    private int queueCapacity = 100_000;   // 큐 상한 (넘치면 backpressure 정책 적용)
+    private int batchSize = 1000;          // 이만큼 모이면 즉시 flush
+    private long flushIntervalMs = 200;    // 덜 모여도 이 시간이 지나면 flush
+    private int writerThreads = 1;
+    private Backpressure backpressure = Backpressure.CALLER_RUNS;
+    private long offerTimeoutMs = 50;      // BLOCK 정책일 때 큐 자리를 기다리는 최대 시간
+    private int maxFlushRetries = 3;
+    private long shutdownTimeoutMs = 10_000; // 종료 시 큐를 비우는 데 쓸 최대 시간
+
+    // ===== redis-stream 모드 =====
+    private final Stream stream = new Stream();
+
+    // ===== journal 모드 =====
+    private final Journal journal = new Journal();
+
+    @Getter
+    @Setter
+    public static class Stream {
+        private String key = "clicks:stream";
+        private String group = "click-writers";
+        private String consumerName;            // 비우면 pid@host 사용
+        private int readCount = 1000;           // XREADGROUP COUNT (= 1회 bulk INSERT 크기)
+        private long blockMs = 2000;            // XREADGROUP BLOCK
+        private long reclaimIntervalMs = 30_000;
+        private long reclaimMinIdleMs = 60_000; // 이 시간 넘게 ACK 안 된 pending 은 죽은 consumer 것으로 보고 가져옴
+        private int maxDeliveries = 5;          // 이 횟수 넘게 재전달되면 경고 로그 (버리지 않음: DB 장애 중에도 유실 0)
+        private String deadLetterKey = "clicks:stream:dead"; // 깨졌거나 단독으로도 INSERT 가 안 되는 엔트리를 옮겨 두는 스트림
+    }
+
+    @Getter
+    @Setter
+    public static class Journal {
+        private String dir = "./click-journal";
+        private int segmentSizeBytes = 64 * 1024 * 1024; // 세그먼트 1개 크기 (다 차면 다음 파일로 rotate)
+        private long forceIntervalMs = 1000;             // 페이지 캐시 → 디스크 fsync 주기
+        private int replayBatchSize = 1000;
+        private long replayIntervalMs = 500;
+        private long replayRetryBackoffMs = 5000;        // DB 장애 시 재시도 간격
+    }
+
+    public enum Mode {
+        DIRECT, ASYNC, REDIS_STREAM, JOURNAL
+    }
+
+    public enum Backpressure {
+        BLOCK,       // offerTimeoutMs 만큼 기다렸다가 그래도 꽉 차 있으면 버림
+        DROP,        // 즉시 버림 (리다이렉트 지연 0 우선)
+        CALLER_RUNS  // 요청 스레드에서 직접 INSERT (유실 0 우선)
+    }
+}
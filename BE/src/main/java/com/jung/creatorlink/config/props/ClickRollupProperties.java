@@ -0,0 +1,17 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.click-rollup")
+public class ClickRollupProperties {
+    // true 면 통계 조회를 click_counts_hourly + 아직 안 말린 click_logs tail 로 계산
+    private boolean enabled = false;
+    private long intervalMs = 60_000;   // compactor 실행 주기
+    private long chunkSize = 200_000;   // 트랜잭션 1번에 말아 올릴 click_logs id 범위
+    // 롤업 때 비어 있던 id 구간을 늦은 커밋 대비로 지켜보는 기간 (클릭 적재 트랜잭션 최대 시간보다 충분히 길게)
+    private long gapRetentionMs = 3_600_000;
+}
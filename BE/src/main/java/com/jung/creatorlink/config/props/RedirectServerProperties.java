@@ -0,0 +1,18 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.redirect-server")
+public class RedirectServerProperties {
+    // Tomcat 과 별도 포트로 /t/{slug} 만 처리하는 Netty 서버
+    private boolean enabled = false;
+    private String host = "0.0.0.0";
+    private int port = 8081;
+    // 이벤트 루프 스레드 수 (0 = CPU 코어 수)
+    private int eventLoopThreads = 0;
+    private long shutdownTimeoutMs = 5_000;
+}
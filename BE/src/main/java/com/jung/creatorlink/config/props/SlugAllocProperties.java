@@ -0,0 +1,15 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.slug-alloc")
+public class SlugAllocProperties {
+    // 한 번에 시퀀스 테이블에서 예약하는 번호 수 (재시작 시 남은 번호는 버려짐 → 빈 번호만 생길 뿐 중복 없음)
+    private int blockSize = 1_000;
+    // 예약한 블록은 이 시간 동안만 발급에 씀 (남은 번호는 버림). Bloom filter 의 "아직 모르는 slug" 구간이 이 값에 의존
+    private long maxBlockAgeMs = 60_000;
+}
@@ -0,0 +1,21 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.slug-bloom")
+public class SlugBloomProperties {
+    private boolean enabled = true;
+    // 예상 ACTIVE slug 수 / 목표 오탐률로 비트 수·해시 수 결정
+    private long expectedInsertions = 1_000_000;
+    private double fpp = 0.01;
+    // 비활성화된 slug 는 지울 수 없으므로, (비활성화 수 / 전체) 가 이 비율을 넘으면 재빌드
+    private double rebuildStaleRatio = 0.2;
+    // pub/sub 를 놓친 노드가 새 링크를 따라잡는 주기
+    private long syncIntervalMs = 30_000;
+    // 시퀀스 끝 너머로 필터 miss 여도 DB 로 보낼 범위 (임의 문자열이 우회하지 않게 상한)
+    private long newSlugWindow = 1_000_000;
+}
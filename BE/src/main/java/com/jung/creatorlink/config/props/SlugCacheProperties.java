@@ -0,0 +1,16 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.slug-cache")
+public class SlugCacheProperties {
+    private boolean enabled = true;
+    // 캐시에 들고 있을 최대 slug 개수 (초과 시 Caffeine이 오래/덜 쓰인 것부터 제거)
+    private long maxSize = 100_000;
+    // write 기준 만료. 무효화를 못 받은 노드도 이 시간 뒤에는 DB 기준으로 다시 맞춰진다.
+    private long ttlSeconds = 300;
+}
@@ -0,0 +1,18 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.slug-index")
+public class SlugIndexProperties {
+    private boolean enabled = true;
+    // 기동 시 웹 서버 열기 전에 스냅샷을 다 올릴지 (cold 노드가 MySQL 워밍업 없이 리다이렉트)
+    private boolean loadBeforeServing = true;
+    private long refreshIntervalMs = 5_000;          // 증분 갱신 주기 (id / updated_at watermark)
+    private long fullRebuildIntervalMs = 30 * 60_000; // delta 를 스냅샷에 합치는 전체 재빌드 주기
+    private int maxDeltaSize = 50_000;               // 힙 delta 가 이만큼 커지면 조기 재빌드
+    private long watermarkOverlapSeconds = 60;       // 노드 간 시계 차이/늦은 커밋 대비 겹쳐 읽는 구간
+}
@@ -0,0 +1,32 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.stats-bulkhead")
+public class StatsBulkheadProperties {
+    // 통계 DB 경로를 엔드포인트별 동시 실행 수로 제한 (같은 커넥션 풀을 쓰는 클릭/리다이렉트 경로 보호)
+    // 엔드포인트별 칸 + 전체 상한. 전체 상한 + aggregation-threads 가 (analytics) 커넥션 풀 크기 이하여야 한다
+    private boolean enabled = false;
+    private int maxTotalConcurrent = 6;   // 모든 칸 합산 동시 DB 실행 수 (analytics 풀 8 - aggregation-threads 2)
+    private int maxConcurrent = 2;        // 엔드포인트별 동시 DB 실행 수 (커넥션 점유 수)
+    private int maxWaiting = 20;          // 자리 대기 최대 수 (넘으면 바로 503)
+    private long maxWaitMs = 5_000;       // 자리 대기 한도 (넘으면 503)
+    private long retryAfterSeconds = 2;   // 503 응답의 Retry-After
+    // 엔드포인트별 덮어쓰기 (combination, ranking, kpi, creators, campaigns, today, background)
+    private Map<String, Limit> endpoints = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private Integer maxConcurrent;
+        private Integer maxWaiting;
+        private Long maxWaitMs;
+    }
+}
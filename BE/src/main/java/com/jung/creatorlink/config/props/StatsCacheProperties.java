@@ -10,4 +10,31 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class StatsCacheProperties {
     private boolean enabled = false;
     private long ttlSeconds = 60;
+    // soft TTL(ttlSeconds) 이 지나도 이 시간 동안은 stale 값을 바로 주고 백그라운드에서 갱신 (Redis 키 만료 = soft + 이 값)
+    private long staleWhileRevalidateSeconds = 300;
+    private int refreshThreads = 2;                   // 백그라운드 갱신 스레드 (키당 동시에 1개만)
+    // L1: Redis 앞단 JVM 로컬 캐시 (역직렬화된 결과를 그대로 보관, HIT 시 네트워크/Jackson 없음)
+    private boolean localEnabled = true;
+    private long localTtlSeconds = 5;                 // 다른 노드 갱신을 pub/sub 로 못 받아도 이 시간 뒤엔 Redis 기준
+    private long localMaxWeightBytes = 64L << 20;     // 응답 바이트 길이 기준 가중치 합 한도
+    // passthrough: HIT 시 저장된 응답 JSON 바이트를 역직렬화 없이 그대로 응답
+    // 채널 랭킹에 적용. 조합 통계는 실시간 카운터(app.click-counter)를 끈 경우에만 (켜면 today/total 덮어쓰기 필요)
+    private boolean rawPassthrough = false;
+    private int gzipMinBytes = 2_048;                 // 이 크기 이상이면 gzip 으로 저장/응답 (0 이면 압축 안 함)
+    // 일별 partial: (캠페인, 날짜)별 링크 클릭 수를 캐시하고 임의 기간은 partial 을 더해서 조립
+    private boolean dailyPartials = false;
+    private long closedDayTtlSeconds = 30L * 24 * 3600; // 지난 날짜는 불변 → 길게 (0 이면 만료 없음)
+    private long dayCloseGraceSeconds = 600;            // 자정 후 이만큼 지나야 "지난 날짜"로 봄 (비동기 적재 지연분)
+    // cache miss 집계는 요청 스레드가 아니라 별도 loader 풀에서 (같은 키 동시 miss 는 1건으로 합침)
+    private int loaderThreads = 8;           // DB 커넥션 풀보다 작게
+    private int loaderQueueCapacity = 1_000; // 넘으면 503
+    private long waitTimeoutMs = 30_000;     // 요청별 대기 한도 (넘으면 503, 집계 자체는 계속 돌아 캐시를 채움)
+    // cold miss 병렬 집계: 긴 기간 집계 1건을 날짜 slice / 링크 id shard 로 나눠 별도 풀에서 동시에 (조각마다 커넥션 1개)
+    private int aggregationThreads = 1;      // 1 이면 기존처럼 쿼리 1번. 전체 요청 합산 동시 커넥션 상한
+    private int aggregationSliceDays = 15;   // 일별 partial 계산 시 조각당 날짜 수
+    private int aggregationShards = 4;       // 원본 조합 집계 시 ACTIVE 링크를 나누는 조각 수
+    // 노드 간 stampede 방지: Redis lease 를 잡은 노드 1개만 집계, 나머지 노드는 캐시를 polling
+    private boolean distributedLease = false;
+    private long leaseMs = 15_000;           // 짧게 잡고 집계 중에는 leaseMs/3 마다 연장 (노드가 죽으면 곧 만료)
+    private long leasePollMs = 200;          // 다른 노드 결과를 기다릴 때 캐시 확인 간격 (최대, 50ms 부터 증가)
 }
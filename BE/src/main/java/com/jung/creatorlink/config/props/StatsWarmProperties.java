@@ -0,0 +1,22 @@
+package com.jung.creatorlink.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.stats-warm")
+public class StatsWarmProperties {
+    // 요청 로그(어떤 캠페인/기간이 많이 조회됐는지)를 보고 한가한 시간에 통계 캐시를 미리 채움
+    private boolean enabled = false;
+    private String cron = "0 30 4 * * *";         // 새벽 (자정 + 유예 뒤라 어제 partial 도 닫힌 날짜로 캐시됨)
+    private int lookbackDays = 7;                 // 요청 로그를 몇 일치 볼지
+    private int topRangesPerCampaign = 5;         // 캠페인별로 미리 계산할 (종류, 기간) 수
+    private int maxConcurrency = 2;               // 동시에 돌리는 집계 수 (DB 커넥션 점유 상한)
+    private int maxComputations = 500;            // 1회 실행에서 실제 DB 집계 최대 횟수
+    private long maxDurationMs = 20 * 60_000;     // 1회 실행 시간 한도 (넘으면 남은 대상은 건너뜀)
+    private long logFlushIntervalMs = 60_000;     // 요청 카운트를 Redis 로 내보내는 주기
+    private int maxPendingMembers = 10_000;       // 한 주기에 모으는 서로 다른 (종류, 캠페인, 기간) 수 상한
+    private int maxMembersPerDay = 50_000;        // 하루치 요청 로그 ZSET 에 남기는 항목 수 (요청 수 상위)
+}
@@ -1,15 +1,23 @@
 package com.jung.creatorlink.controller.stats;
 
 import com.jung.creatorlink.dto.stats.*;
+import com.jung.creatorlink.service.cache.CachedPayload;
+import com.jung.creatorlink.service.stats.StatsBulkhead;
+import com.jung.creatorlink.service.stats.StatsRequestLog;
 import com.jung.creatorlink.service.stats.StatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/stats")
@@ -18,6 +26,9 @@ import java.util.List;
 public class StatsController {
 
     private final StatsService statsService;
+    private final StatsRequestLog statsRequestLog; // 캐시 워밍 대상 선정용 (성공 응답한 요청만 기록)
+    // 트랜잭션(커넥션)을 열기 전에 자리 획득 → 서비스 메서드 밖에서 감싼다. 조합/랭킹은 서비스의 집계 직전에서
+    private final StatsBulkhead statsBulkhead;
     //KPI
     @GetMapping("/campaigns/{campaignId}/kpi")
     @Operation(summary = "캠페인 KPI (성과 탭 상단 요약)",
@@ -28,34 +39,56 @@ public class StatsController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
-        return statsService.getCampaignKpi(campaignId, advertiserId, from, to);
+        return statsBulkhead.call(StatsBulkhead.KPI, () -> statsService.getCampaignKpi(campaignId, advertiserId, from, to));
     }
 
     //  UC-10-1
     @GetMapping("/campaigns/{campaignId}/combinations")
     @Operation(summary = "조합별 성과 비교 (Creator x Channel)",
             description = "캠페인 범위에서 크리에이터×채널 조합별 today/range/total 클릭을 조회한다. 클릭이 없어도 0으로 반환한다.")
-    public List<CombinationStatsResponse> getCombinationStats(
+    public CompletableFuture<ResponseEntity<?>> getCombinationStats(
             @PathVariable Long campaignId,
             @RequestParam Long advertiserId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        return statsService.getCombinationStats(campaignId, advertiserId, from, to);
+        Optional<CachedPayload> cached = statsService.findCachedCombinationPayload(campaignId, advertiserId, from, to);
+        if (cached.isPresent()) {
+            statsRequestLog.recordCombination(campaignId, advertiserId, from, to);
+            return CompletableFuture.completedFuture(rawJson(cached.get(), acceptEncoding));
+        }
+
+        return statsService.getCombinationStats(campaignId, advertiserId, from, to)
+                .<ResponseEntity<?>>thenApply(stats -> {
+                    statsRequestLog.recordCombination(campaignId, advertiserId, from, to);
+                    return ResponseEntity.ok(stats);
+                });
     }
 
     //  UC-10-2
     @GetMapping("/campaigns/{campaignId}/channels/ranking")
     @Operation(summary = "채널 랭킹 (Top-N)",
             description = "캠페인 범위에서 기간(from~to) 내 채널별 클릭 수 Top-N을 조회한다. 클릭이 있는 채널 중심으로 반환한다.")
-    public List<ChannelRankingResponse> getChannelRanking(
+    public CompletableFuture<ResponseEntity<?>> getChannelRanking(
             @PathVariable Long campaignId,
             @RequestParam Long advertiserId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-            @RequestParam(defaultValue = "10") int limit
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        return statsService.getChannelRanking(campaignId, advertiserId, from, to, limit);
+        Optional<CachedPayload> cached = statsService.findCachedChannelRankingPayload(campaignId, advertiserId, from, to, limit);
+        if (cached.isPresent()) {
+            statsRequestLog.recordChannelRanking(campaignId, advertiserId, from, to, limit);
+            return CompletableFuture.completedFuture(rawJson(cached.get(), acceptEncoding));
+        }
+
+        return statsService.getChannelRanking(campaignId, advertiserId, from, to, limit)
+                .<ResponseEntity<?>>thenApply(ranking -> {
+                    statsRequestLog.recordChannelRanking(campaignId, advertiserId, from, to, limit);
+                    return ResponseEntity.ok(ranking);
+                });
     }
 
     @GetMapping("/creators")
@@ -65,19 +98,32 @@ public class StatsController {
         //지금은 인증이 없어서 advertiserId를 쿼리 파라미터로 받는다.
         //나중에 JWT 붙이면 @RequestParam 제거하고
         //SecurityContext에서 현재 로그인한 광고주의 id를 가져오자.
-        return statsService.getCreatorStats(advertiserId);
+        return statsBulkhead.call(StatsBulkhead.CREATORS, () -> statsService.getCreatorStats(advertiserId));
     }
 
     @GetMapping("/campaigns")
     @Operation(summary = "캠페인별 클릭 통계",
             description = "광고주(advertiserId) 기준으로 캠페인별 총 클릭 수를 조회한다.")
     public List<CampaignStatsResponse> getCampaignStats(@RequestParam Long advertiserId) {
-        return statsService.getCampaignStats(advertiserId);
+        return statsBulkhead.call(StatsBulkhead.CAMPAIGNS, () -> statsService.getCampaignStats(advertiserId));
     }
 
     @GetMapping("/today")
     @Operation(summary = "오늘 클릭 통계", description = "광고주(advertiserId) 기준 오늘 발생한 총 클릭 수를 조회한다.")
     public TodayStatsResponse getTodayStats(@RequestParam Long advertiserId) {
-        return statsService.getTodayStats(advertiserId);
+        return statsBulkhead.call(StatsBulkhead.TODAY, () -> statsService.getTodayStats(advertiserId));
+    }
+
+    // 캐시에 저장된 응답 바이트를 그대로 내보냄 (Jackson 역직렬화/재직렬화 없음)
+    // gzip 으로 저장된 값은 클라이언트가 받을 수 있으면 압축된 채로, 아니면 여기서 풀어서
+    private static ResponseEntity<byte[]> rawJson(CachedPayload payload, String acceptEncoding) {
+        boolean sendGzip = payload.gzip() && acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (sendGzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.body());
+        }
+        return builder.body(payload.json());
     }
 }
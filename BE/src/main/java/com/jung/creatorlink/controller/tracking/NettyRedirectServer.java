@@ -0,0 +1,190 @@
+package com.jung.creatorlink.controller.tracking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jung.creatorlink.config.props.RedirectServerProperties;
+import com.jung.creatorlink.dto.tracking.RedirectTarget;
+import com.jung.creatorlink.service.ingest.ClickSink;
+import com.jung.creatorlink.service.tracking.OffHeapSlugIndex;
+import com.jung.creatorlink.service.tracking.TrackingLinkService;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.AsciiString;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.resources.LoopResources;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.redirect-server", name = "enabled", havingValue = "true")
+// /t/{slug} 전용 Netty(Reactor Netty) 서버
+// - 통계 API 로 Tomcat 스레드가 묶여도 리다이렉트는 별도 이벤트 루프에서 처리 → 처리량이 코어 수에 비례
+// - 캐시/인덱스/Bloom 으로 결정되면 이벤트 루프에서 바로 302
+// - DB 조회가 필요한 slug, 블로킹 ClickSink(direct 등)는 boundedElastic 으로 넘겨 이벤트 루프를 막지 않는다.
+// 기존 Tomcat 의 RedirectController 는 그대로 둠 (같은 서비스 로직 사용)
+public class NettyRedirectServer implements SmartLifecycle {
+
+    // 응답마다 만들지 않도록 미리 인코딩해 둔 헤더 값
+    private static final AsciiString NO_STORE = AsciiString.cached("no-store");
+    private static final AsciiString ZERO = AsciiString.cached("0");
+    private static final String BAD_REQUEST_FALLBACK = "{\"message\":\"Bad Request\"}";
+    // 이벤트 루프 스레드마다 하나씩 재사용하는 인덱스 조회 결과 (HIT 경로에서 객체 할당 없음)
+    private static final ThreadLocal<OffHeapSlugIndex.Hit> HITS = ThreadLocal.withInitial(OffHeapSlugIndex.Hit::new);
+
+    private final TrackingLinkService trackingLinkService;
+    private final RedirectServerProperties props;
+    private final ObjectMapper objectMapper;
+    private final boolean inlineClickSink;
+
+    private LoopResources loops;
+    private DisposableServer server;
+
+    public NettyRedirectServer(TrackingLinkService trackingLinkService,
+                               ClickSink clickSink,
+                               RedirectServerProperties props,
+                               ObjectMapper objectMapper) {
+        this.trackingLinkService = trackingLinkService;
+        this.props = props;
+        this.objectMapper = objectMapper;
+        this.inlineClickSink = clickSink.isNonBlocking();
+    }
+
+    private Publisher<Void> redirect(HttpServerRequest request, HttpServerResponse response) {
+        String slug = request.param("slug");
+
+        // off-heap 인덱스 HIT: 값만 꺼내서 바로 302 (Hit 는 재사용 객체라 다른 스레드로 넘기지 않음)
+        OffHeapSlugIndex.Hit hit = HITS.get();
+        if (slug != null && trackingLinkService.resolveIndexed(slug, hit)) {
+            recordClick(hit.linkId(), hit.campaignId(), clientIp(request),
+                    request.requestHeaders().get(HttpHeaderNames.USER_AGENT),
+                    request.requestHeaders().get(HttpHeaderNames.REFERER));
+            return found(response, hit.url());
+        }
+
+        RedirectTarget known;
+        try {
+            known = trackingLinkService.resolveWithoutDb(slug);
+        } catch (IllegalArgumentException e) {
+            return badRequest(response, e.getMessage());
+        }
+
+        Mono<RedirectTarget> target = known != null
+                ? Mono.just(known)
+                : Mono.fromCallable(() -> trackingLinkService.resolveActiveLink(slug))
+                        .subscribeOn(Schedulers.boundedElastic());
+
+        String ip = clientIp(request);
+        String userAgent = request.requestHeaders().get(HttpHeaderNames.USER_AGENT);
+        String referer = request.requestHeaders().get(HttpHeaderNames.REFERER);
+
+        return target
+                .flatMap(t -> {
+                    recordClick(t.getTrackingLinkId(), t.getCampaignId(), ip, userAgent, referer);
+                    return found(response, t.getFinalUrl());
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> badRequest(response, e.getMessage()));
+    }
+
+    // 클릭 적재는 응답과 분리 (블로킹 sink 면 별도 스레드에서, 결과를 기다리지 않음)
+    private void recordClick(long trackingLinkId, Long campaignId, String ip, String userAgent, String referer) {
+        if (inlineClickSink) {
+            trackingLinkService.recordClick(trackingLinkId, campaignId, ip, userAgent, referer);
+            return;
+        }
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                trackingLinkService.recordClick(trackingLinkId, campaignId, ip, userAgent, referer);
+            } catch (Exception e) {
+                log.warn("Click record failed for trackingLinkId={}", trackingLinkId, e);
+            }
+        });
+    }
+
+    private Mono<Void> found(HttpServerResponse response, String location) {
+        response.status(HttpResponseStatus.FOUND)
+                .header(HttpHeaderNames.LOCATION, location)
+                .header(HttpHeaderNames.CACHE_CONTROL, NO_STORE)
+                .header(HttpHeaderNames.CONTENT_LENGTH, ZERO);
+        return response.send().then();
+    }
+
+    // Tomcat 쪽 GlobalExceptionHandler 와 같은 형태 ({"message": ...}, 400)
+    private Mono<Void> badRequest(HttpServerResponse response, String message) {
+        response.status(HttpResponseStatus.BAD_REQUEST)
+                .header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+        return response.sendString(Mono.just(errorBody(message))).then();
+    }
+
+    // GlobalExceptionHandler 와 같은 {"message": ...} 형태. 메시지에 slug 등 입력값이 섞이므로 직접 이어 붙이지 않는다.
+    String errorBody(String message) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("message", String.valueOf(message)));
+        } catch (JsonProcessingException e) {
+            return BAD_REQUEST_FALLBACK;
+        }
+    }
+
+    private String clientIp(HttpServerRequest request) {
+        String ip = request.requestHeaders().get("X-Forwarded-For");
+        if (ip == null || ip.isBlank()) {
+            InetSocketAddress remote = request.remoteAddress();
+            ip = remote != null ? remote.getAddress().getHostAddress() : null;
+        }
+        return ip;
+    }
+
+    // ========== lifecycle ==========
+    @Override
+    public void start() {
+        int threads = props.getEventLoopThreads() > 0
+                ? props.getEventLoopThreads()
+                : Runtime.getRuntime().availableProcessors();
+        loops = LoopResources.create("redirect-netty", threads, true);
+
+        server = HttpServer.create()
+                .host(props.getHost())
+                .port(props.getPort())
+                .runOn(loops)
+                .route(routes -> routes.get("/t/{slug}", this::redirect))
+                .bindNow();
+        log.info("Netty redirect server started on {}:{} ({} event loop threads)", props.getHost(), server.port(), threads);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow(Duration.ofMillis(props.getShutdownTimeoutMs()));
+            server = null;
+        }
+        if (loops != null) {
+            loops.disposeLater().block(Duration.ofMillis(props.getShutdownTimeoutMs()));
+            loops = null;
+        }
+        log.info("Netty redirect server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    // 내장 Tomcat 과 같은 단계: 캐시/인덱스, 클릭 적재기(-4096)보다 늦게 시작하고 먼저 멈춘다.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+}
@@ -1,5 +1,7 @@
 package com.jung.creatorlink.controller.tracking;
 
+import com.jung.creatorlink.dto.tracking.TrackingLinkBulkCreateRequest;
+import com.jung.creatorlink.dto.tracking.TrackingLinkBulkCreateResponse;
 import com.jung.creatorlink.dto.tracking.TrackingLinkCreateRequest;
 import com.jung.creatorlink.dto.tracking.TrackingLinkResponse;
 import com.jung.creatorlink.service.tracking.TrackingLinkService;
@@ -30,6 +32,16 @@ public class TrackingLinkController {
         return trackingLinkService.createTrackingLink(request);
     }
 
+    //트래킹 링크 대량 발급 (캠페인 온보딩)
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "트래킹 링크 대량 발급",
+            description = "캠페인에 대해 creatorIds × channelIds 조합 전체를 한 번에 발급한다. "
+                    + "이미 ACTIVE 링크가 있는 조합은 건너뛴다.")
+    public TrackingLinkBulkCreateResponse createTrackingLinksBulk(@Valid @RequestBody TrackingLinkBulkCreateRequest request) {
+        return trackingLinkService.createTrackingLinksBulk(request);
+    }
+
     //나중에 목록 조회, 단건 조회 등도 여기에 추가 가능
 
     // 캠페인별 트래킹 링크 목록 조회
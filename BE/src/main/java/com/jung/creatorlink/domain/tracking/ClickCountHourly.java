@@ -0,0 +1,39 @@
+package com.jung.creatorlink.domain.tracking;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "click_counts_hourly")
+@IdClass(ClickCountHourly.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+// click_logs 시간 단위 집계 (tracking_link_id, 시각 버킷) → 클릭 수
+// ClickRollupCompactor 가 click_logs.id watermark 기준으로 upsert 하며 채운다. (읽기 전용 엔티티)
+public class ClickCountHourly {
+
+    @Id
+    @Column(name = "tracking_link_id")
+    private Long trackingLinkId;
+
+    // 정시 기준 버킷 시작 (예: 2025-01-01 13:00:00)
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long clickCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long trackingLinkId;
+        private LocalDateTime bucketStart;
+    }
+}
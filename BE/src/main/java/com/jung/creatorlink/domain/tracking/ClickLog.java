@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @Table(
         name = "click_logs",
         indexes = {
-                @Index(name = "idx_click_logs_link_clicked_at", columnList = "tracking_link_id, clicked_at")
+                @Index(name = "idx_click_logs_link_clicked_at", columnList = "tracking_link_id, clicked_at"),
+                // 캠페인 기간 통계: campaign_id 등호 + clicked_at 범위 스캔, tracking_link_id 까지 인덱스에서 바로 (커버링)
+                @Index(name = "idx_click_logs_campaign_clicked_link", columnList = "campaign_id, clicked_at, tracking_link_id")
                 // (선택) 전역 기간 필터/아카이빙이 많고 EXPLAIN으로 이득이 확인되면 추가
                 // @Index(name = "idx_click_logs_clicked_at", columnList = "clicked_at")
         }
@@ -33,6 +35,11 @@ public class ClickLog {
     @JoinColumn(name = "tracking_link_id", nullable = false)
     private TrackingLink trackingLink;
 
+    // tracking_links.campaign_id 비정규화 (링크의 캠페인은 바뀌지 않음)
+    // 적재 시점에 채우고, 컬럼 추가 전 행은 ClickCampaignBackfill 이 채운다
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
     @Column(nullable = false)
     private LocalDateTime clickedAt;
 
@@ -0,0 +1,21 @@
+package com.jung.creatorlink.domain.tracking;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "slug_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+// slug 번호 블록 예약용 시퀀스 (name → 다음에 예약할 번호)
+// 테이블만 ddl-auto 로 만들고, 예약/조회는 SlugAllocator 가 JDBC 로 (LAST_INSERT_ID 관용구)
+public class SlugSequence {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "next_val", nullable = false)
+    private long nextVal;
+}
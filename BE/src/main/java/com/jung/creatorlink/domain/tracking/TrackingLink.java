@@ -20,7 +20,10 @@ import java.time.LocalDateTime;
                 // Soft delete 기본 필터 + 조회/정책/통계용
                 @Index(name = "idx_tracking_links_campaign_status", columnList = "campaign_id, status"),
                 @Index(name = "idx_tracking_links_creator_status", columnList = "creator_id, status"),
-                @Index(name = "idx_tracking_links_channel_status", columnList = "channel_id, status")
+                @Index(name = "idx_tracking_links_channel_status", columnList = "channel_id, status"),
+
+                // 슬러그 인덱스 증분 갱신: 마지막 갱신 이후 상태가 바뀐 링크 조회
+                @Index(name = "idx_tracking_links_updated_at", columnList = "updated_at")
         }
 //        uniqueConstraints = {
 //                // 같은 조합 중복 생성 방지 (Soft delete 재발급 고려: status 포함)
@@ -65,9 +68,8 @@ public class TrackingLink {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
-    // (선택) 운영/추적 위해 updatedAt 두는 편이 보통 더 좋음
-    // @Column(nullable = false)
-    // private LocalDateTime updatedAt;
+    // 상태 변경 시각 (슬러그 인덱스 증분 갱신 watermark 용). 기존 row 는 null
+    private LocalDateTime updatedAt;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -76,6 +78,7 @@ public class TrackingLink {
 
     public void deactivate() {
         this.status = Status.INACTIVE;
+        this.updatedAt = LocalDateTime.now();
     }
 
     public boolean isActive() {
@@ -0,0 +1,14 @@
+package com.jung.creatorlink.dto.tracking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// /t/{slug} 리다이렉트에 필요한 최소 정보 (슬러그 캐시 값)
+// JPQL constructor expression 으로 바로 조회 → 영속성 컨텍스트에 안 올라가는 불변 projection
+public class RedirectTarget {
+    private final Long trackingLinkId;
+    private final String finalUrl;
+    private final Long campaignId;
+}
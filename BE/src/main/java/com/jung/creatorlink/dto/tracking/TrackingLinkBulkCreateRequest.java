@@ -0,0 +1,30 @@
+package com.jung.creatorlink.dto.tracking;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+// 캠페인 온보딩용: creatorIds × channelIds 조합 전체를 한 번에 발급
+public class TrackingLinkBulkCreateRequest {
+
+    @NotNull
+    private Long campaignId;
+
+    @NotEmpty
+    private List<Long> creatorIds;
+
+    @NotEmpty
+    private List<Long> channelIds;
+
+    private Long advertiserId; // JWT 없으면 넣는 게 더 안전(선택)
+
+    // 비워두면 Campaign의 landingUrl 사용
+    private String finalUrl;
+}
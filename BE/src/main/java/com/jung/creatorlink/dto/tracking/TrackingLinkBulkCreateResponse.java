@@ -0,0 +1,19 @@
+package com.jung.creatorlink.dto.tracking;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class TrackingLinkBulkCreateResponse {
+
+    private Long campaignId;
+    private int requested;        // creatorIds × channelIds 조합 수
+    private int created;
+    private int skippedExisting;  // 이미 ACTIVE 링크가 있어 건너뛴 조합 수
+    private List<TrackingLinkResponse> links; // 새로 발급된 링크만
+}
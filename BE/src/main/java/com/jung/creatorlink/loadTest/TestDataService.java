@@ -10,8 +10,13 @@ import com.jung.creatorlink.repository.campaign.CampaignRepository;
 import com.jung.creatorlink.repository.channel.ChannelRepository;
 import com.jung.creatorlink.repository.creator.CreatorRepository;
 import com.jung.creatorlink.repository.tracking.ClickLogRepository;
+import com.jung.creatorlink.repository.tracking.ClickRollupJdbcRepository;
 import com.jung.creatorlink.repository.tracking.TrackingLinkRepository;
 import com.jung.creatorlink.repository.user.UserRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
+import com.jung.creatorlink.service.cache.StatsCacheService;
+import com.jung.creatorlink.service.stats.DailyClickPartials;
+import com.jung.creatorlink.service.tracking.SlugBloomFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -19,6 +24,8 @@ import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.security.SecureRandom;
 import java.sql.PreparedStatement;
@@ -43,6 +50,11 @@ public class TestDataService {
     private final TrackingLinkRepository trackingLinkRepository;
 
     private final ClickLogRepository clickLogRepository; // 있으면 좋고, 없으면 reset에서 jdbc로만 지워도 됨
+    private final SlugBloomFilter slugBloomFilter;
+    private final ClickRollupJdbcRepository clickRollupJdbcRepository;
+    private final DailyClickPartials dailyClickPartials;
+    private final StatsCacheService statsCacheService;
+    private final StatsCacheGeneration statsCacheGeneration;
 
     private final SecureRandom random = new SecureRandom();
     private static final String ALPHANUM = "abcdefghijklmnopqrstuvwxyz0123456789";
@@ -58,6 +70,16 @@ public class TestDataService {
         jdbcTemplate.execute("TRUNCATE TABLE creators");
         jdbcTemplate.execute("TRUNCATE TABLE users");
         jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS=1");
+        // click_logs id 가 1부터 다시 시작하므로 롤업/watermark 도 초기화
+        clickRollupJdbcRepository.reset();
+        slugBloomFilter.rebuildAsync();
+        // 지난 날짜 partial 은 TTL 이 길어서 직접 지워야 함
+        afterCommit(dailyClickPartials::evictAll);
+        // 캠페인 id 가 1부터 다시 쓰이므로 세대만으로는 부족 → 응답 캐시도 비움
+        afterCommit(() -> {
+            statsCacheService.evictByPattern("stats:comb:*");
+            statsCacheService.evictByPattern("stats:rank:*");
+        });
     }
 
     @Transactional
@@ -167,6 +189,7 @@ public class TestDataService {
         int totalLinks = creators.size() * actualLinksPerCreator;
 
         List<TrackingLink> buffer = new ArrayList<>(5000);
+        List<String> activeSlugs = new ArrayList<>();
 
         int activeCnt = 0;
         int inactiveCnt = 0;
@@ -202,6 +225,8 @@ public class TestDataService {
                         .build();
 
                 buffer.add(tl);
+                // 시드 링크도 /t/{slug} 로 바로 호출되므로 Bloom filter 에 등록 (커밋 후 전체 노드)
+                if (status == Status.ACTIVE) activeSlugs.add(tl.getSlug());
 
                 if (buffer.size() >= 5000) {
                     trackingLinkRepository.saveAll(buffer);
@@ -213,6 +238,7 @@ public class TestDataService {
         if (!buffer.isEmpty()) {
             trackingLinkRepository.saveAll(buffer);
         }
+        slugBloomFilter.addAfterCommit(activeSlugs);
 
         if (activeCnt < 100) {
             log.warn("ACTIVE tracking_links too low: {}. Consider lowering inactiveLinkRatio={}", activeCnt, inactiveRatio);
@@ -275,8 +301,8 @@ public class TestDataService {
         int total = req.getTotalRows();
         int batchSize = Math.max(1000, req.getBatchSize());
 
-        String sql = "INSERT INTO click_logs (clicked_at, ip, referer, user_agent, tracking_link_id) " +
-                "VALUES (?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO click_logs (clicked_at, ip, referer, user_agent, tracking_link_id, campaign_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)";
 
         int inserted = 0;
 
@@ -316,7 +342,8 @@ public class TestDataService {
                     ps.setString(2, null);   // ip
                     ps.setString(3, null);   // referer
                     ps.setString(4, null);   // user_agent
-                    ps.setLong(5, trackingLinkId);//여기까지는 준비만 (DB 전송 아님)
+                    ps.setLong(5, trackingLinkId);
+                    ps.setLong(6, req.getCampaignId()); // campaign_id 비정규화 //여기까지는 준비만 (DB 전송 아님)
                 }
 
                 @Override
@@ -329,10 +356,27 @@ public class TestDataService {
             inserted += size; //“정확한 inserted”는 필요하면 마지막에 SELECT COUNT(*)로 확인하면 됨.
         }
 
+        // 과거 날짜에 클릭을 넣었으므로 해당 캠페인의 일별 partial 무효화 (커밋 후에 지워야 옛 값으로 다시 안 채워짐)
+        afterCommit(() -> dailyClickPartials.evict(req.getCampaignId()));
+        statsCacheGeneration.bump(req.getCampaignId()); // 지난 기간 응답 캐시도 TTL 이 길 수 있음
+
         long elapsed = System.currentTimeMillis() - start;
         return new SeedClickLogsResult(inserted, elapsed);
     }
 
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private List<Long> pickHotLinks(List<Long> linkIds, int topK) {
         if (topK <= 0) return Collections.emptyList();
         int k = Math.min(topK, linkIds.size());
@@ -3,8 +3,11 @@ package com.jung.creatorlink.repository.channel;
 import com.jung.creatorlink.domain.channel.Channel;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.jung.creatorlink.domain.common.Status;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +25,10 @@ public interface ChannelRepository extends JpaRepository<Channel, Long> {
     );
     Optional<Channel> findByAdvertiser_IdAndPlatformAndPlacement(Long advertiserId, String platform, String placement);
 
+    // 대량 발급 검증: ids 중 해당 광고주 소유 + status 인 것만 (엔티티 로딩 없이 id 만)
+    @Query("select ch.id from Channel ch where ch.id in :ids and ch.advertiser.id = :advertiserId and ch.status = :status")
+    List<Long> findIdsOwnedBy(@Param("ids") Collection<Long> ids,
+                              @Param("advertiserId") Long advertiserId,
+                              @Param("status") Status status);
+
 }
\ No newline at end of file
@@ -3,7 +3,10 @@ package com.jung.creatorlink.repository.creator;
 import com.jung.creatorlink.domain.common.Status;
 import com.jung.creatorlink.domain.creator.Creator;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CreatorRepository extends JpaRepository<Creator, Long> {
@@ -12,4 +15,10 @@ public interface CreatorRepository extends JpaRepository<Creator, Long> {
 //    List<Creator> findAllByAdvertiserId(Long advertiserId);
     List<Creator> findAllByAdvertiserIdAndStatus(Long advertiserId, Status status);
 
+    // 대량 발급 검증: ids 중 해당 광고주 소유 + status 인 것만 (엔티티 로딩 없이 id 만)
+    @Query("select c.id from Creator c where c.id in :ids and c.advertiser.id = :advertiserId and c.status = :status")
+    List<Long> findIdsOwnedBy(@Param("ids") Collection<Long> ids,
+                              @Param("advertiserId") Long advertiserId,
+                              @Param("status") Status status);
+
 }
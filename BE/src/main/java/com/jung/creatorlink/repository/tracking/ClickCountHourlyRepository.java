@@ -0,0 +1,89 @@
+package com.jung.creatorlink.repository.tracking;
+
+import com.jung.creatorlink.domain.common.Status;
+import com.jung.creatorlink.domain.tracking.ClickCountHourly;
+import com.jung.creatorlink.dto.stats.CampaignKpiClicksAgg;
+import com.jung.creatorlink.dto.stats.ChannelRankingResponse;
+import com.jung.creatorlink.dto.stats.CombinationStatsResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// click_counts_hourly 기반 통계 (ClickLogRepository 쿼리의 롤업 버전)
+// 시간 버킷 단위라 from/to/today 경계가 정시(일 단위)일 때 정확하다.
+public interface ClickCountHourlyRepository extends JpaRepository<ClickCountHourly, ClickCountHourly.Key> {
+
+    // UC-10-1 롤업분 (0도 포함해야 하므로 TrackingLink 기준 LEFT JOIN)
+    @Query("""
+            select new com.jung.creatorlink.dto.stats.CombinationStatsResponse(
+                cr.id,
+                cr.name,
+                ch.id,
+                concat(ch.platform, ' ', ch.placement),
+                coalesce(sum(case when h.bucketStart >= :todayStart and h.bucketStart < :tomorrowStart then h.clickCount else 0L end), 0L),
+                coalesce(sum(case when h.bucketStart >= :from and h.bucketStart < :to then h.clickCount else 0L end), 0L),
+                coalesce(sum(h.clickCount), 0L)
+            )
+            from TrackingLink tl
+              join tl.creator cr
+              join tl.channel ch
+              left join ClickCountHourly h on h.trackingLinkId = tl.id
+            where tl.campaign.id = :campaignId
+              and tl.status = :active
+            group by cr.id, cr.name, ch.id, ch.platform, ch.placement
+            """)
+    List<CombinationStatsResponse> findCombinationStats(
+            @Param("campaignId") Long campaignId,
+            @Param("active") Status active,
+            @Param("todayStart") LocalDateTime todayStart,
+            @Param("tomorrowStart") LocalDateTime tomorrowStart,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // UC-10-2 롤업분 (tail 과 합친 뒤 정렬/limit 해야 하므로 여기서는 자르지 않음)
+    @Query("""
+            select new com.jung.creatorlink.dto.stats.ChannelRankingResponse(
+                ch.id,
+                concat(ch.platform, ' ', ch.placement),
+                sum(h.clickCount)
+            )
+            from ClickCountHourly h
+              join TrackingLink tl on tl.id = h.trackingLinkId
+              join tl.channel ch
+            where tl.campaign.id = :campaignId
+              and tl.status = :active
+              and h.bucketStart >= :from and h.bucketStart < :to
+            group by ch.id, ch.platform, ch.placement
+            """)
+    List<ChannelRankingResponse> findChannelRanking(
+            @Param("campaignId") Long campaignId,
+            @Param("active") Status active,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // KPI 롤업분
+    @Query("""
+            select new com.jung.creatorlink.dto.stats.CampaignKpiClicksAgg(
+                coalesce(sum(case when h.bucketStart >= :todayStart and h.bucketStart < :tomorrowStart then h.clickCount else 0L end), 0L),
+                coalesce(sum(case when h.bucketStart >= :from and h.bucketStart < :to then h.clickCount else 0L end), 0L),
+                coalesce(sum(h.clickCount), 0L)
+            )
+            from ClickCountHourly h
+              join TrackingLink tl on tl.id = h.trackingLinkId
+            where tl.campaign.id = :campaignId
+              and tl.status = :active
+            """)
+    CampaignKpiClicksAgg findCampaignKpiClicks(
+            @Param("campaignId") Long campaignId,
+            @Param("active") Status active,
+            @Param("todayStart") LocalDateTime todayStart,
+            @Param("tomorrowStart") LocalDateTime tomorrowStart,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
@@ -0,0 +1,186 @@
+package com.jung.creatorlink.repository.tracking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+// 링크별 클릭 수 (MySQL 기준값) — 실시간 카운터 보정 / 통계 일별 partial
+// 롤업 사용 시: click_counts_hourly + watermark 이후 tail 을 한 문장으로 (같은 스냅샷 → 이중 집계 없음)
+public class ClickCountJdbcRepository {
+
+    private static final String ROLLUP_BETWEEN_SQL = """
+            SELECT tracking_link_id, SUM(cnt) FROM (
+                SELECT tracking_link_id, click_count AS cnt
+                  FROM click_counts_hourly
+                 WHERE bucket_start >= ? AND bucket_start < ?
+                UNION ALL
+                SELECT tracking_link_id, 1
+                  FROM click_logs
+                 WHERE id > (SELECT last_log_id FROM click_rollup_state WHERE name = 'click_counts_hourly')
+                   AND clicked_at >= ? AND clicked_at < ?
+            ) t
+            GROUP BY tracking_link_id
+            """;
+
+    private static final String ROLLUP_TOTAL_SQL = """
+            SELECT tracking_link_id, SUM(cnt) FROM (
+                SELECT tracking_link_id, click_count AS cnt
+                  FROM click_counts_hourly
+                UNION ALL
+                SELECT tracking_link_id, 1
+                  FROM click_logs
+                 WHERE id > (SELECT last_log_id FROM click_rollup_state WHERE name = 'click_counts_hourly')
+            ) t
+            GROUP BY tracking_link_id
+            """;
+
+    // 롤업 미사용 시 원본 집계 (click_logs 전체 스캔이므로 보정 주기를 길게)
+    private static final String RAW_BETWEEN_SQL =
+            "SELECT tracking_link_id, COUNT(*) FROM click_logs WHERE clicked_at >= ? AND clicked_at < ? GROUP BY tracking_link_id";
+
+    private static final String RAW_TOTAL_SQL =
+            "SELECT tracking_link_id, COUNT(*) FROM click_logs GROUP BY tracking_link_id";
+
+    // ========== 캠페인 단위 (통계 일별 partial 용) ==========
+    // 링크 × 날짜별 클릭 수. 링크 상태는 보지 않음 → ACTIVE 필터는 조립할 때 현재 링크 집합으로
+    private static final String ROLLUP_CAMPAIGN_DAILY_SQL = """
+            SELECT t.tracking_link_id, t.d, SUM(t.cnt) FROM (
+                SELECT h.tracking_link_id, DATE(h.bucket_start) AS d, h.click_count AS cnt
+                  FROM click_counts_hourly h
+                  JOIN tracking_links tl ON tl.id = h.tracking_link_id
+                 WHERE tl.campaign_id = ? AND h.bucket_start >= ? AND h.bucket_start < ?
+                UNION ALL
+                SELECT cl.tracking_link_id, DATE(cl.clicked_at), 1
+                  FROM click_logs cl
+                 WHERE cl.campaign_id = ?
+                   AND cl.id > (SELECT last_log_id FROM click_rollup_state WHERE name = 'click_counts_hourly')
+                   AND cl.clicked_at >= ? AND cl.clicked_at < ?
+                UNION ALL
+                SELECT cl.tracking_link_id, DATE(cl.clicked_at), 1
+                  FROM click_logs cl
+                  JOIN tracking_links tl ON tl.id = cl.tracking_link_id
+                 WHERE cl.campaign_id IS NULL AND tl.campaign_id = ?
+                   AND cl.id > (SELECT last_log_id FROM click_rollup_state WHERE name = 'click_counts_hourly')
+                   AND cl.clicked_at >= ? AND cl.clicked_at < ?
+            ) t
+            GROUP BY t.tracking_link_id, t.d
+            """;
+
+    // click_logs.campaign_id 비정규화 → (campaign_id, clicked_at, tracking_link_id) 커버링 인덱스 범위 스캔만, 조인 없음
+    // 컬럼 추가 전 행(campaign_id NULL)은 백필이 끝날 때까지 링크 조인으로 따로 센다 (백필 후엔 NULL 구간이 비어 있어 비용 없음)
+    private static final String RAW_CAMPAIGN_DAILY_SQL = """
+            SELECT t.tracking_link_id, t.d, SUM(t.cnt) FROM (
+                SELECT cl.tracking_link_id, DATE(cl.clicked_at) AS d, COUNT(*) AS cnt
+                  FROM click_logs cl
+                 WHERE cl.campaign_id = ? AND cl.clicked_at >= ? AND cl.clicked_at < ?
+                 GROUP BY cl.tracking_link_id, DATE(cl.clicked_at)
+                UNION ALL
+                SELECT cl.tracking_link_id, DATE(cl.clicked_at), COUNT(*)
+                  FROM click_logs cl
+                  JOIN tracking_links tl ON tl.id = cl.tracking_link_id
+                 WHERE cl.campaign_id IS NULL AND tl.campaign_id = ? AND cl.clicked_at >= ? AND cl.clicked_at < ?
+                 GROUP BY cl.tracking_link_id, DATE(cl.clicked_at)
+            ) t
+            GROUP BY t.tracking_link_id, t.d
+            """;
+
+    // 링크별 :before 이전 누적 (total = 어제까지 누적 + 오늘 partial)
+    private static final String ROLLUP_CAMPAIGN_BEFORE_SQL = """
+            SELECT t.tracking_link_id, SUM(t.cnt) FROM (
+                SELECT h.tracking_link_id, h.click_count AS cnt
+                  FROM click_counts_hourly h
+                  JOIN tracking_links tl ON tl.id = h.tracking_link_id
+                 WHERE tl.campaign_id = ? AND h.bucket_start < ?
+                UNION ALL
+                SELECT cl.tracking_link_id, 1
+                  FROM click_logs cl
+                 WHERE cl.campaign_id = ?
+                   AND cl.id > (SELECT last_log_id FROM click_rollup_state WHERE name = 'click_counts_hourly')
+                   AND cl.clicked_at < ?
+                UNION ALL
+                SELECT cl.tracking_link_id, 1
+                  FROM click_logs cl
+                  JOIN tracking_links tl ON tl.id = cl.tracking_link_id
+                 WHERE cl.campaign_id IS NULL AND tl.campaign_id = ?
+                   AND cl.id > (SELECT last_log_id FROM click_rollup_state WHERE name = 'click_counts_hourly')
+                   AND cl.clicked_at < ?
+            ) t
+            GROUP BY t.tracking_link_id
+            """;
+
+    private static final String RAW_CAMPAIGN_BEFORE_SQL = """
+            SELECT t.tracking_link_id, SUM(t.cnt) FROM (
+                SELECT cl.tracking_link_id, COUNT(*) AS cnt
+                  FROM click_logs cl
+                 WHERE cl.campaign_id = ? AND cl.clicked_at < ?
+                 GROUP BY cl.tracking_link_id
+                UNION ALL
+                SELECT cl.tracking_link_id, COUNT(*)
+                  FROM click_logs cl
+                  JOIN tracking_links tl ON tl.id = cl.tracking_link_id
+                 WHERE cl.campaign_id IS NULL AND tl.campaign_id = ? AND cl.clicked_at < ?
+                 GROUP BY cl.tracking_link_id
+            ) t
+            GROUP BY t.tracking_link_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Long, Long> countByLinkBetween(LocalDateTime from, LocalDateTime to, boolean useRollup) {
+        Timestamp f = Timestamp.valueOf(from);
+        Timestamp t = Timestamp.valueOf(to);
+        Map<Long, Long> counts = new HashMap<>();
+        RowCallbackHandler collect = rs -> counts.put(rs.getLong(1), rs.getLong(2));
+        if (useRollup) {
+            jdbcTemplate.query(ROLLUP_BETWEEN_SQL, collect, f, t, f, t);
+        } else {
+            jdbcTemplate.query(RAW_BETWEEN_SQL, collect, f, t);
+        }
+        return counts;
+    }
+
+    public Map<Long, Long> countByLinkTotal(boolean useRollup) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(useRollup ? ROLLUP_TOTAL_SQL : RAW_TOTAL_SQL,
+                (RowCallbackHandler) rs -> counts.put(rs.getLong(1), rs.getLong(2)));
+        return counts;
+    }
+
+    // [from, to) 구간의 날짜 → (링크 → 클릭 수)
+    public Map<LocalDate, Map<Long, Long>> countByLinkAndDayForCampaign(
+            Long campaignId, LocalDateTime from, LocalDateTime to, boolean useRollup) {
+        Timestamp f = Timestamp.valueOf(from);
+        Timestamp t = Timestamp.valueOf(to);
+        Map<LocalDate, Map<Long, Long>> counts = new HashMap<>();
+        RowCallbackHandler collect = rs -> counts
+                .computeIfAbsent(rs.getDate(2).toLocalDate(), d -> new HashMap<>())
+                .put(rs.getLong(1), rs.getLong(3));
+        if (useRollup) {
+            jdbcTemplate.query(ROLLUP_CAMPAIGN_DAILY_SQL, collect, campaignId, f, t, campaignId, f, t, campaignId, f, t);
+        } else {
+            jdbcTemplate.query(RAW_CAMPAIGN_DAILY_SQL, collect, campaignId, f, t, campaignId, f, t);
+        }
+        return counts;
+    }
+
+    public Map<Long, Long> countByLinkBeforeForCampaign(Long campaignId, LocalDateTime before, boolean useRollup) {
+        Timestamp b = Timestamp.valueOf(before);
+        Map<Long, Long> counts = new HashMap<>();
+        RowCallbackHandler collect = rs -> counts.put(rs.getLong(1), rs.getLong(2));
+        if (useRollup) {
+            jdbcTemplate.query(ROLLUP_CAMPAIGN_BEFORE_SQL, collect, campaignId, b, campaignId, b, campaignId, b);
+        } else {
+            jdbcTemplate.query(RAW_CAMPAIGN_BEFORE_SQL, collect, campaignId, b, campaignId, b);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,92 @@
+package com.jung.creatorlink.repository.tracking;
+
+import com.jung.creatorlink.service.ingest.ClickEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+// click_logs 배치 INSERT 전용 (IDENTITY 라 Hibernate 배치가 안 먹으므로 JDBC로 직접)
+// rewriteBatchedStatements=true 면 드라이버가 multi-row INSERT 로 합쳐서 보낸다.
+public class ClickLogJdbcRepository {
+
+    // campaign_id 가 없는 이벤트(컬럼 추가 전에 stream/journal 에 쌓인 것)는 링크에서 채운다
+    private static final String INSERT_SQL =
+            "INSERT INTO click_logs (clicked_at, ip, referer, user_agent, tracking_link_id, campaign_id) " +
+                    "VALUES (?, ?, ?, ?, ?, COALESCE(?, (SELECT tl.campaign_id FROM tracking_links tl WHERE tl.id = ?)))";
+
+    // 컬럼 추가 전 행 채우기 (id 구간 단위, 이미 채워진 행은 건드리지 않음)
+    private static final String BACKFILL_CAMPAIGN_SQL = """
+            UPDATE click_logs cl
+              JOIN tracking_links tl ON tl.id = cl.tracking_link_id
+               SET cl.campaign_id = tl.campaign_id
+             WHERE cl.id >= ? AND cl.id < ? AND cl.campaign_id IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertBatch(List<ClickEvent> events) {
+        if (events.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ClickEvent e = events.get(i);
+                ps.setTimestamp(1, Timestamp.valueOf(e.getClickedAt()));
+                ps.setString(2, e.getIp());
+                ps.setString(3, e.getReferer());
+                ps.setString(4, e.getUserAgent());
+                ps.setLong(5, e.getTrackingLinkId());
+                if (e.getCampaignId() != null) {
+                    ps.setLong(6, e.getCampaignId());
+                } else {
+                    ps.setNull(6, Types.BIGINT);
+                }
+                ps.setLong(7, e.getTrackingLinkId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        });
+    }
+
+    // campaign_id 가 비어 있는 가장 작은 id (없으면 null). campaign_id 선두 인덱스의 NULL 구간만 본다
+    public Long minIdWithoutCampaign() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM click_logs WHERE campaign_id IS NULL", Long.class);
+    }
+
+    // 링크 id → 캠페인 id (campaignId 없는 옛 이벤트용)
+    public Map<Long, Long> campaignIdsOfLinks(Collection<Long> linkIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (linkIds.isEmpty()) return result;
+        String placeholders = String.join(",", Collections.nCopies(linkIds.size(), "?"));
+        jdbcTemplate.query("SELECT id, campaign_id FROM tracking_links WHERE id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> result.put(rs.getLong(1), rs.getLong(2)), linkIds.toArray());
+        return result;
+    }
+
+    public long maxId() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM click_logs", Long.class);
+        return max == null ? 0L : max;
+    }
+
+    // [fromId, toId) 구간의 빈 campaign_id 를 채우고 갱신 행 수 반환
+    public int backfillCampaignIds(long fromId, long toId) {
+        return jdbcTemplate.update(BACKFILL_CAMPAIGN_SQL, fromId, toId);
+    }
+}
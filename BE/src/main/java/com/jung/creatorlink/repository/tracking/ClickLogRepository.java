@@ -46,7 +46,38 @@ public interface ClickLogRepository extends JpaRepository<ClickLog, Long> {
             @Param("to") LocalDateTime to
     );
 
+    // UC-10-1 병렬 집계용: 링크 id 조각 하나만 (정렬/조합 합치기는 호출 쪽에서)
+    @Query("""
+            select new com.jung.creatorlink.dto.stats.CombinationStatsResponse(
+                cr.id,
+                cr.name,
+                ch.id,
+                concat(ch.platform, ' ', ch.placement),
+                coalesce(sum(case when cl.clickedAt >= :todayStart and cl.clickedAt < :tomorrowStart then 1 else 0 end), 0),
+                coalesce(sum(case when cl.clickedAt >= :from and cl.clickedAt < :to then 1 else 0 end), 0),
+                count(cl.id)
+            )
+            from TrackingLink tl
+              join tl.creator cr
+              join tl.channel ch
+              left join ClickLog cl on cl.trackingLink = tl
+            where tl.id in :linkIds
+              and tl.status = :active
+            group by cr.id, cr.name, ch.id, ch.platform, ch.placement
+            """)
+    List<CombinationStatsResponse> findCombinationStatsForLinks(
+            @Param("linkIds") List<Long> linkIds,
+            @Param("active") Status active,
+            @Param("todayStart") LocalDateTime todayStart,
+            @Param("tomorrowStart") LocalDateTime tomorrowStart,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
     // UC-10-2: 채널 랭킹 (클릭 있는 것만 의미 -> ClickLog 기준 JOIN + limit)
+    // cl.campaignId(비정규화) 로 거르면 (campaign_id, clicked_at, tracking_link_id) 인덱스 범위 스캔 → 링크는 PK 로 1건씩만 조인
+    // 컬럼 추가 전 행(campaign_id NULL)은 백필이 끝날 때까지 링크의 캠페인으로 판단
+    // (campaign_id = ? OR campaign_id IS NULL 두 구간 범위 스캔. 백필이 끝나면 NULL 구간은 비어 있음)
     @Query("""
             select new com.jung.creatorlink.dto.stats.ChannelRankingResponse(
                 ch.id,
@@ -56,7 +87,7 @@ public interface ClickLogRepository extends JpaRepository<ClickLog, Long> {
             from ClickLog cl
               join cl.trackingLink tl
               join tl.channel ch
-            where tl.campaign.id = :campaignId
+            where (cl.campaignId = :campaignId or (cl.campaignId is null and tl.campaign.id = :campaignId))
               and tl.status = :active
               and cl.clickedAt >= :from and cl.clickedAt < :to
             group by ch.id, ch.platform, ch.placement
@@ -90,7 +121,7 @@ public interface ClickLogRepository extends JpaRepository<ClickLog, Long> {
                 )
                 from ClickLog cl
                   join cl.trackingLink tl
-                where tl.campaign.id = :campaignId
+                where (cl.campaignId = :campaignId or (cl.campaignId is null and tl.campaign.id = :campaignId))
                   and tl.status = :active
             """)
     CampaignKpiClicksAgg findCampaignKpiClicks(
@@ -171,7 +202,81 @@ public interface ClickLogRepository extends JpaRepository<ClickLog, Long> {
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
-}
 
+    // ========== 롤업 tail: click_counts_hourly 에 아직 반영 안 된 (id > afterId) 클릭만 ==========
+    // PK 범위 조건이라 tail 크기(= compactor 주기 동안의 클릭)에 비례
 
+    @Query("""
+            select new com.jung.creatorlink.dto.stats.CombinationStatsResponse(
+                cr.id,
+                cr.name,
+                ch.id,
+                concat(ch.platform, ' ', ch.placement),
+                coalesce(sum(case when cl.clickedAt >= :todayStart and cl.clickedAt < :tomorrowStart then 1L else 0L end), 0L),
+                coalesce(sum(case when cl.clickedAt >= :from and cl.clickedAt < :to then 1L else 0L end), 0L),
+                count(cl.id)
+            )
+            from ClickLog cl
+              join cl.trackingLink tl
+              join tl.creator cr
+              join tl.channel ch
+            where cl.id > :afterId
+              and (cl.campaignId = :campaignId or (cl.campaignId is null and tl.campaign.id = :campaignId))
+              and tl.status = :active
+            group by cr.id, cr.name, ch.id, ch.platform, ch.placement
+            """)
+    List<CombinationStatsResponse> findCombinationStatsTail(
+            @Param("afterId") long afterId,
+            @Param("campaignId") Long campaignId,
+            @Param("active") Status active,
+            @Param("todayStart") LocalDateTime todayStart,
+            @Param("tomorrowStart") LocalDateTime tomorrowStart,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query("""
+            select new com.jung.creatorlink.dto.stats.ChannelRankingResponse(
+                ch.id,
+                concat(ch.platform, ' ', ch.placement),
+                count(cl.id)
+            )
+            from ClickLog cl
+              join cl.trackingLink tl
+              join tl.channel ch
+            where cl.id > :afterId
+              and (cl.campaignId = :campaignId or (cl.campaignId is null and tl.campaign.id = :campaignId))
+              and tl.status = :active
+              and cl.clickedAt >= :from and cl.clickedAt < :to
+            group by ch.id, ch.platform, ch.placement
+            """)
+    List<ChannelRankingResponse> findChannelRankingTail(
+            @Param("afterId") long afterId,
+            @Param("campaignId") Long campaignId,
+            @Param("active") Status active,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 
+    @Query("""
+                select new com.jung.creatorlink.dto.stats.CampaignKpiClicksAgg(
+                    coalesce(sum(case when cl.clickedAt >= :todayStart and cl.clickedAt < :tomorrowStart then 1L else 0L end), 0L),
+                    coalesce(sum(case when cl.clickedAt >= :from and cl.clickedAt < :to then 1L else 0L end), 0L),
+                    count(cl.id)
+                )
+                from ClickLog cl
+                  join cl.trackingLink tl
+                where cl.id > :afterId
+                  and (cl.campaignId = :campaignId or (cl.campaignId is null and tl.campaign.id = :campaignId))
+                  and tl.status = :active
+            """)
+    CampaignKpiClicksAgg findCampaignKpiClicksTail(
+            @Param("afterId") long afterId,
+            @Param("campaignId") Long campaignId,
+            @Param("active") Status active,
+            @Param("todayStart") LocalDateTime todayStart,
+            @Param("tomorrowStart") LocalDateTime tomorrowStart,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+}
@@ -0,0 +1,160 @@
+package com.jung.creatorlink.repository.tracking;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+// click_logs → click_counts_hourly 롤업 SQL + watermark(마지막으로 말아 올린 click_logs.id) 관리
+// + gap(롤업 시점에 비어 있던 id 구간) 관리: 늦게 커밋된 행을 나중에 찾아 말아 올리기 위함
+public class ClickRollupJdbcRepository {
+
+    private static final String STATE_NAME = "click_counts_hourly";
+
+    // 같은 (링크, 시각) 이 이미 있으면 더한다. VALUES() 대신 derived table alias 사용 (MySQL 8.0.20+ 권장 형태)
+    private static final String ROLLUP_SQL = """
+            INSERT INTO click_counts_hourly (tracking_link_id, bucket_start, click_count)
+            SELECT * FROM (
+                SELECT tracking_link_id,
+                       DATE_FORMAT(clicked_at, '%Y-%m-%d %H:00:00') AS bucket_start,
+                       COUNT(*) AS cnt
+                  FROM click_logs
+                 WHERE id > ? AND id <= ?
+                 GROUP BY tracking_link_id, bucket_start
+            ) AS agg
+            ON DUPLICATE KEY UPDATE click_count = click_count + agg.cnt
+            """;
+
+    // 구간 안에서 앞 id 와 1 넘게 벌어진 곳 = 비어 있는 id 구간 (LAG 기본값 = 구간 시작 → 맨 앞 gap 도 잡힘)
+    private static final String GAP_SQL = """
+            SELECT prev_id + 1 AS gap_from, id - 1 AS gap_to FROM (
+                SELECT id, LAG(id, 1, ?) OVER (ORDER BY id) AS prev_id
+                  FROM click_logs
+                 WHERE id > ? AND id <= ?
+            ) AS t
+            WHERE id > prev_id + 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 롤업 때 click_logs 에 없던 id 구간 [fromId, toId]
+    // 롤백된 id 이거나, 아직 커밋 안 된 트랜잭션의 id (→ 나중에 나타나면 그때 말아 올림)
+    public record Gap(long id, long fromId, long toId) {
+    }
+
+    @PostConstruct
+    void initState() {
+        // 별도 마이그레이션 도구가 없어 기동 시 보장 (롤업 테이블 자체는 엔티티로 ddl-auto 생성)
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS click_rollup_state (
+                    name        VARCHAR(64) NOT NULL PRIMARY KEY,
+                    last_log_id BIGINT      NOT NULL
+                )
+                """);
+        jdbcTemplate.update("INSERT IGNORE INTO click_rollup_state (name, last_log_id) VALUES (?, 0)", STATE_NAME);
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS click_rollup_gap (
+                    id         BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    gap_from   BIGINT      NOT NULL,
+                    gap_to     BIGINT      NOT NULL,
+                    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+                )
+                """);
+    }
+
+    // 통계 조회용: 롤업에 반영된 마지막 click_logs.id (이후 id 는 tail 로 직접 집계)
+    public long currentWatermark() {
+        Long id = jdbcTemplate.queryForObject(
+                "SELECT last_log_id FROM click_rollup_state WHERE name = ?", Long.class, STATE_NAME);
+        return id == null ? 0L : id;
+    }
+
+    // compactor 용: 트랜잭션 안에서 row lock → 여러 노드가 동시에 같은 구간을 말지 않도록
+    public long lockWatermark() {
+        Long id = jdbcTemplate.queryForObject(
+                "SELECT last_log_id FROM click_rollup_state WHERE name = ? FOR UPDATE", Long.class, STATE_NAME);
+        return id == null ? 0L : id;
+    }
+
+    public void saveWatermark(long lastLogId) {
+        jdbcTemplate.update("UPDATE click_rollup_state SET last_log_id = ? WHERE name = ?", lastLogId, STATE_NAME);
+    }
+
+    public long maxClickLogId() {
+        Long id = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM click_logs", Long.class);
+        return id == null ? 0L : id;
+    }
+
+    // (fromIdExclusive, toIdInclusive] 구간 click_logs 를 시간 버킷으로 upsert
+    public int rollup(long fromIdExclusive, long toIdInclusive) {
+        return jdbcTemplate.update(ROLLUP_SQL, fromIdExclusive, toIdInclusive);
+    }
+
+    // (fromIdExclusive, toIdInclusive] 구간에서 click_logs 에 없는 id 구간들 (대부분은 빈 목록: COUNT 로 먼저 거름)
+    public List<long[]> findGaps(long fromIdExclusive, long toIdInclusive) {
+        long[] countMax = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), COALESCE(MAX(id), ?) FROM click_logs WHERE id > ? AND id <= ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                fromIdExclusive, fromIdExclusive, toIdInclusive);
+        if (countMax[0] == toIdInclusive - fromIdExclusive) return List.of();
+
+        List<long[]> gaps = new ArrayList<>(jdbcTemplate.query(GAP_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong("gap_from"), rs.getLong("gap_to")},
+                fromIdExclusive, fromIdExclusive, toIdInclusive));
+        if (countMax[1] < toIdInclusive) {
+            gaps.add(new long[]{countMax[1] + 1, toIdInclusive}); // 구간 끝쪽 gap
+        }
+        return gaps;
+    }
+
+    public void saveGaps(List<long[]> gaps) {
+        if (gaps.isEmpty()) return;
+        jdbcTemplate.batchUpdate("INSERT INTO click_rollup_gap (gap_from, gap_to) VALUES (?, ?)",
+                gaps, gaps.size(), (ps, gap) -> {
+                    ps.setLong(1, gap[0]);
+                    ps.setLong(2, gap[1]);
+                });
+    }
+
+    public List<Gap> listGaps() {
+        return jdbcTemplate.query("SELECT id, gap_from, gap_to FROM click_rollup_gap ORDER BY gap_from",
+                (rs, rowNum) -> new Gap(rs.getLong("id"), rs.getLong("gap_from"), rs.getLong("gap_to")));
+    }
+
+    // gap 안에 이제서야 보이는 id (= 롤업 이후 커밋된 행)
+    public List<Long> findIdsIn(long fromIdInclusive, long toIdInclusive) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM click_logs WHERE id BETWEEN ? AND ? ORDER BY id",
+                Long.class, fromIdInclusive, toIdInclusive);
+    }
+
+    // gap 하나를 남은 하위 구간들로 교체 (created_at 은 원래 gap 것을 유지 → 보존 기한이 늘어나지 않음)
+    public void replaceGap(long gapId, List<long[]> remaining) {
+        for (long[] gap : remaining) {
+            jdbcTemplate.update("""
+                    INSERT INTO click_rollup_gap (gap_from, gap_to, created_at)
+                    SELECT ?, ?, created_at FROM click_rollup_gap WHERE id = ?
+                    """, gap[0], gap[1], gapId);
+        }
+        jdbcTemplate.update("DELETE FROM click_rollup_gap WHERE id = ?", gapId);
+    }
+
+    // 보존 기한을 넘긴 gap = 롤백된 id 로 보고 버림
+    public int deleteGapsOlderThan(long retentionMs) {
+        return jdbcTemplate.update(
+                "DELETE FROM click_rollup_gap WHERE created_at < NOW(3) - INTERVAL ? MICROSECOND",
+                retentionMs * 1000);
+    }
+
+    // 테스트 데이터 초기화용 (click_logs TRUNCATE 후 id 가 다시 1부터 시작하므로 같이 비움)
+    public void reset() {
+        jdbcTemplate.execute("TRUNCATE TABLE click_counts_hourly");
+        jdbcTemplate.execute("TRUNCATE TABLE click_rollup_gap");
+        saveWatermark(0L);
+    }
+}
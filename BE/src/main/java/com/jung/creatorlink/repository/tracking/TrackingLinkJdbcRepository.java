@@ -0,0 +1,69 @@
+package com.jung.creatorlink.repository.tracking;
+
+import com.jung.creatorlink.domain.common.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+// tracking_links 대량 발급용 배치 INSERT (IDENTITY 라 Hibernate 배치가 안 먹으므로 JDBC로 직접)
+public class TrackingLinkJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tracking_links (campaign_id, creator_id, channel_id, slug, final_url, created_at, status) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewLink(long creatorId, long channelId, String slug) {
+    }
+
+    // 같은 캠페인/URL 로 links 를 한 번에 INSERT 하고, 생성된 id 를 입력 순서대로 반환
+    public long[] insertBatch(long campaignId, String finalUrl, LocalDateTime createdAt, List<NewLink> links) {
+        if (links.isEmpty()) return new long[0];
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp created = Timestamp.valueOf(createdAt);
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NewLink link = links.get(i);
+                        ps.setLong(1, campaignId);
+                        ps.setLong(2, link.creatorId());
+                        ps.setLong(3, link.channelId());
+                        ps.setString(4, link.slug());
+                        ps.setString(5, finalUrl);
+                        ps.setTimestamp(6, created);
+                        ps.setString(7, Status.ACTIVE.name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return links.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        long[] ids = new long[keys.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ((Number) keys.get(i).values().iterator().next()).longValue();
+        }
+        return ids;
+    }
+}
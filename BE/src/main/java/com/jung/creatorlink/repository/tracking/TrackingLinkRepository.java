@@ -2,11 +2,14 @@ package com.jung.creatorlink.repository.tracking;
 
 import com.jung.creatorlink.domain.common.Status;
 import com.jung.creatorlink.domain.tracking.TrackingLink;
+import com.jung.creatorlink.dto.tracking.RedirectTarget;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,15 @@ public interface TrackingLinkRepository extends JpaRepository<TrackingLink, Long
     // 리다이렉트용: ACTIVE 인 slug 만 유효
     Optional<TrackingLink> findBySlugAndStatus(String slug, Status status);
 
+    // 리다이렉트 핫패스용 projection: 엔티티/연관 프록시 생성, dirty checking 없이 필요한 컬럼만
+    @Query("""
+        select new com.jung.creatorlink.dto.tracking.RedirectTarget(tl.id, tl.finalUrl, tl.campaign.id)
+          from TrackingLink tl
+         where tl.slug = :slug
+           and tl.status = :status
+    """)
+    Optional<RedirectTarget> findRedirectTargetBySlugAndStatus(@Param("slug") String slug, @Param("status") Status status);
+
     boolean existsBySlug(String slug);
 
     // 캠페인 ID 기준 ACTIVE 링크 목록 조회 (대시보드 등)
@@ -32,38 +44,99 @@ public interface TrackingLinkRepository extends JpaRepository<TrackingLink, Long
             Long campaignId, Long creatorId, Long channelId, Status status
     );
 
+    // 대량 발급: 요청 조합 중 이미 ACTIVE 링크가 있는 (creatorId, channelId) 를 한 번에 조회
+    @Query("""
+        select tl.creator.id, tl.channel.id
+          from TrackingLink tl
+         where tl.campaign.id = :campaignId
+           and tl.status = :status
+           and tl.creator.id in :creatorIds
+           and tl.channel.id in :channelIds
+    """)
+    List<Object[]> findCombinationsByCampaignAndStatus(@Param("campaignId") Long campaignId,
+                                                       @Param("creatorIds") Collection<Long> creatorIds,
+                                                       @Param("channelIds") Collection<Long> channelIds,
+                                                       @Param("status") Status status);
+
     //KPI(링크 수) + 정합성 강제(일괄 비활성) 추가
     long countByCampaign_IdAndStatus(Long campaignId, Status status);
 
+    // 일괄 비활성화 전에 대상 slug 확보 (리다이렉트 캐시 무효화용)
+    @Query("select tl.slug from TrackingLink tl where tl.creator.id = :creatorId and tl.status = :status")
+    List<String> findSlugsByCreatorIdAndStatus(@Param("creatorId") Long creatorId, @Param("status") Status status);
+
+    @Query("select tl.slug from TrackingLink tl where tl.channel.id = :channelId and tl.status = :status")
+    List<String> findSlugsByChannelIdAndStatus(@Param("channelId") Long channelId, @Param("status") Status status);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update TrackingLink tl
-           set tl.status = :inactive
+           set tl.status = :inactive,
+               tl.updatedAt = :now
          where tl.creator.id = :creatorId
            and tl.status = :active
     """)
     int deactivateAllByCreatorId(
             @Param("creatorId") Long creatorId,
             @Param("active") Status active,
-            @Param("inactive") Status inactive
+            @Param("inactive") Status inactive,
+            @Param("now") LocalDateTime now
     );
 
     @Modifying( flushAutomatically = true) //clearAutomatically = true,
     @Query("""
         update TrackingLink tl
-           set tl.status = :inactive
+           set tl.status = :inactive,
+               tl.updatedAt = :now
          where tl.channel.id = :channelId
            and tl.status = :active
     """)
     int deactivateAllByChannelId(
             @Param("channelId") Long channelId,
             @Param("active") Status active,
-            @Param("inactive") Status inactive
+            @Param("inactive") Status inactive,
+            @Param("now") LocalDateTime now
     );
 
     @Query(value = "SELECT slug FROM tracking_links WHERE status = 'ACTIVE' LIMIT :limit", nativeQuery = true)
     List<String> findActiveSlugs(@Param("limit") int limit);
 
+    // 통계 캐시 세대 올릴 대상 캠페인 (크리에이터/채널 변경이 보이는 캠페인)
+    @Query("select distinct tl.campaign.id from TrackingLink tl where tl.creator.id = :creatorId and tl.status = :status")
+    List<Long> findCampaignIdsByCreatorIdAndStatus(@Param("creatorId") Long creatorId, @Param("status") Status status);
+
+    @Query("select distinct tl.campaign.id from TrackingLink tl where tl.channel.id = :channelId and tl.status = :status")
+    List<Long> findCampaignIdsByChannelIdAndStatus(@Param("channelId") Long channelId, @Param("status") Status status);
+
+    // 실시간 클릭 카운터 합산 대상 (통계는 ACTIVE 링크만 집계)
+    @Query("select tl.id from TrackingLink tl where tl.campaign.id = :campaignId and tl.status = :status")
+    List<Long> findIdsByCampaignIdAndStatus(@Param("campaignId") Long campaignId, @Param("status") Status status);
+
+    @Query("""
+        select tl.id
+          from TrackingLink tl
+          join tl.campaign camp
+         where camp.advertiser.id = :advertiserId
+           and camp.status = :status
+           and tl.status = :status
+    """)
+    List<Long> findIdsByAdvertiserIdAndStatus(@Param("advertiserId") Long advertiserId, @Param("status") Status status);
+
+    // [linkId, creatorId, creatorName, channelId, channelDisplayName] — 일별 partial 을 조합/채널 단위로 조립할 때 사용
+    @Query("""
+        select tl.id, cr.id, cr.name, ch.id, concat(ch.platform, ' ', ch.placement)
+          from TrackingLink tl
+          join tl.creator cr
+          join tl.channel ch
+         where tl.campaign.id = :campaignId
+           and tl.status = :status
+    """)
+    List<Object[]> findStatsLinksByCampaignIdAndStatus(@Param("campaignId") Long campaignId, @Param("status") Status status);
+
+    // [linkId, creatorId, channelId] — 조합별 통계에 링크 카운터를 얹을 때 사용
+    @Query("select tl.id, tl.creator.id, tl.channel.id from TrackingLink tl where tl.campaign.id = :campaignId and tl.status = :status")
+    List<Object[]> findCombinationLinksByCampaignIdAndStatus(@Param("campaignId") Long campaignId, @Param("status") Status status);
+
 
 
 
@@ -0,0 +1,73 @@
+package com.jung.creatorlink.service.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Redis 에 저장되는 통계 캐시 값 (= 최종 응답 바디)
+// 저장 형식: [1 byte 형식 표시 'J' | 'G'] + [8 byte freshUntil(epoch ms)] + JSON 바이트 (G 면 gzip 압축)
+// HIT 시 이 바이트를 그대로 응답으로 내보내면 역직렬화 → 재직렬화가 없다.
+// freshUntil(soft TTL) 이 지나도 Redis TTL(hard) 전까지는 stale 값으로 응답하면서 백그라운드 갱신
+public record CachedPayload(byte[] body, boolean gzip, long freshUntil) {
+
+    private static final byte PLAIN = 'J';
+    private static final byte GZIP = 'G';
+
+    private static final int HEADER = 1 + Long.BYTES;
+
+    public static CachedPayload of(byte[] json, int gzipMinBytes, long freshUntil) {
+        if (gzipMinBytes > 0 && json.length >= gzipMinBytes) {
+            return new CachedPayload(gzip(json), true, freshUntil);
+        }
+        return new CachedPayload(json, false, freshUntil);
+    }
+
+    // 형식 표시가 없으면(이전 문자열 포맷 등) null → 캐시 miss 로 취급
+    public static CachedPayload decode(byte[] stored) {
+        if (stored == null || stored.length < HEADER) return null;
+        long freshUntil = ByteBuffer.wrap(stored, 1, Long.BYTES).getLong();
+        byte[] body = new byte[stored.length - HEADER];
+        System.arraycopy(stored, HEADER, body, 0, body.length);
+        return switch (stored[0]) {
+            case PLAIN -> new CachedPayload(body, false, freshUntil);
+            case GZIP -> new CachedPayload(body, true, freshUntil);
+            default -> null;
+        };
+    }
+
+    public byte[] encode() {
+        byte[] stored = new byte[body.length + HEADER];
+        stored[0] = gzip ? GZIP : PLAIN;
+        ByteBuffer.wrap(stored, 1, Long.BYTES).putLong(freshUntil);
+        System.arraycopy(body, 0, stored, HEADER, body.length);
+        return stored;
+    }
+
+    public boolean isStale(long nowMillis) {
+        return nowMillis >= freshUntil;
+    }
+
+    // 압축 해제된 JSON (Accept-Encoding 에 gzip 이 없는 클라이언트 / 객체로 읽을 때)
+    public byte[] json() {
+        if (!gzip) return body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,69 @@
+package com.jung.creatorlink.service.cache;
+
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+// 같은 키의 동시 요청을 진행 중인 CompletableFuture 하나로 합친다 (single-flight)
+// - 첫 요청만 loader 풀에서 실제 조회, 나머지는 같은 future 에 콜백만 걸고 요청 스레드를 반납 (락 대기 없음)
+// - 등록 해제는 "내가 등록한 그 future" 일 때만 (remove(key, future)) → 늦게 끝난 이전 호출이 새 호출을 지우지 않음
+// - 요청마다 copy() 를 돌려줘서 한 요청의 timeout/cancel 이 공유 future 나 다른 대기자에 번지지 않음
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor loader;
+    private final long waitTimeoutMs;
+
+    public SingleFlight(StatsCacheProperties props) {
+        this.loader = new ThreadPoolExecutor(
+                props.getLoaderThreads(), props.getLoaderThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getLoaderQueueCapacity()),
+                new CustomizableThreadFactory("stats-loader-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeoutMs = props.getWaitTimeoutMs();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, Supplier<T> supplier) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> shared = inFlight.putIfAbsent(key, created);
+
+        if (shared == null) {
+            shared = created;
+            // 성공/실패 어느 쪽이든 완료되는 순간 해제 → 다음 miss 는 새 조회
+            created.whenComplete((v, e) -> inFlight.remove(key, created));
+            try {
+                loader.execute(() -> {
+                    try {
+                        created.complete(supplier.get());
+                    } catch (Throwable t) {
+                        created.completeExceptionally(t);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("Stats loader queue full, rejecting key={}", key);
+                created.completeExceptionally(e);
+            }
+        }
+
+        return (CompletableFuture<T>) shared.copy().orTimeout(waitTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdown();
+    }
+}
@@ -0,0 +1,101 @@
+package com.jung.creatorlink.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Slf4j
+@Component
+// 캠페인별 통계 캐시 세대 (stats:gen:{campaignId}, INCR)
+// - 통계 캐시 키에 세대를 넣어서, 링크/채널/크리에이터 상태가 바뀌면 세대만 올림 → 이전 키는 안 읽히고 TTL 로 정리
+//   → TTL 을 길게 잡아도 변경은 바로 보인다.
+// - 요청마다 Redis 를 치지 않도록 세대 값도 로컬에 두고, 올릴 때 pub/sub 로 다른 노드의 로컬 값을 무효화
+// - 올리는 건 커밋 후 (커밋 전에 올리면 그 사이 요청이 옛 데이터로 새 세대 키를 채울 수 있음)
+public class StatsCacheGeneration implements MessageListener {
+
+    static final String CHANNEL = "stats:gen:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, Long> local;
+
+    public StatsCacheGeneration(StringRedisTemplate redisTemplate,
+                                StatsCacheProperties props,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        // pub/sub 메시지를 놓친 노드도 L1 과 같은 시간 안에는 맞춰지도록
+        this.local = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(props.getLocalTtlSeconds()))
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public long current(Long campaignId) {
+        return local.get(campaignId, id -> {
+            String value = redisTemplate.opsForValue().get(key(id));
+            return value == null ? 0L : Long.parseLong(value);
+        });
+    }
+
+    public void bump(Long campaignId) {
+        bumpAll(Set.of(campaignId));
+    }
+
+    public void bumpAll(Collection<Long> campaignIds) {
+        if (campaignIds.isEmpty()) return;
+        Set<Long> ids = new LinkedHashSet<>(campaignIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(ids);
+                }
+            });
+        } else {
+            increment(ids);
+        }
+    }
+
+    private void increment(Set<Long> campaignIds) {
+        for (Long campaignId : campaignIds) {
+            try {
+                redisTemplate.opsForValue().increment(key(campaignId));
+                local.invalidate(campaignId);
+                redisTemplate.convertAndSend(CHANNEL, String.valueOf(campaignId));
+            } catch (Exception e) {
+                // 못 올리면 기존 키가 TTL 까지 남는다 (예전 동작과 같음)
+                log.warn("Stats cache generation bump failed for campaign {}", campaignId, e);
+            }
+        }
+        log.debug("Stats cache generation bumped: campaigns={}", campaignIds);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            local.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed stats generation message");
+        }
+    }
+
+    private static String key(Long campaignId) {
+        return "stats:gen:" + campaignId;
+    }
+}
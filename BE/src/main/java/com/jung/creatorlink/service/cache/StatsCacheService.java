@@ -1,77 +1,267 @@
 package com.jung.creatorlink.service.cache;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jung.creatorlink.config.props.StatsCacheProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+// 통계 캐시: L1(StatsLocalCache) → L2(Redis)
+// Redis 값은 최종 응답 JSON 바이트(CachedPayload, 크면 gzip) → passthrough 모드면 HIT 를 바이트 그대로 응답
+// soft TTL(freshUntil) 이후 hard TTL(Redis 만료) 전까지는 stale 값 + 백그라운드 갱신 (getOrStale / getPayload)
 public class StatsCacheService {
+    // lease 를 아직 내가 들고 있을 때만 캐시 저장 (lease 만료 후 다른 노드가 새로 잡았으면 늦은 결과는 버림)
+    private static final DefaultRedisScript<Long> SET_IF_LEASE_HELD = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('set', KEYS[2], ARGV[2], 'EX', ARGV[3]) return 1 end return 0",
+            Long.class);
+
+    private static final int MGET_CHUNK = 500;
+    private static final byte[] INVALIDATION_CHANNEL = StatsLocalCache.CHANNEL.getBytes(StandardCharsets.UTF_8);
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
     private final StatsCacheProperties props;
+    private final StatsLocalCache localCache; // L1
 
-// 단일 객체용
-public <T> Optional<T> get(String key, Class<T> type) {
-    if (!props.isEnabled()) return Optional.empty();
-
-    String json = redisTemplate.opsForValue().get(key);
-    if (json == null) {
-        log.debug("Cache MISS: {}", key);
-        return Optional.empty();
+    // 단일 객체용
+    public <T> Optional<T> get(String key, Class<T> type) {
+        return get(key, objectMapper.getTypeFactory().constructType(type), null);
     }
 
-    try {
-        log.debug("Cache HIT: {}", key);
-        return Optional.of(objectMapper.readValue(json, type));
-    } catch (Exception e) {
-        log.warn("Cache deserialization failed for key: {}", key, e);
-        return Optional.empty();
-    }
-}
-
     // List 등 제네릭 타입용 //Java의 Type Erasure 때문. Class<T>로는 List 안에 뭐가 들어있는지를 Jackson에게 알려줄 방법이 없다.
     //따라서 Jackson이 제공하는 TypeReference를 사용한다.
+    // soft TTL 이 지난(stale) 값은 miss 로 취급
     public <T> Optional<T> get(String key, TypeReference<T> typeRef) {
+        return get(key, objectMapper.getTypeFactory().constructType(typeRef), null);
+    }
+
+    // stale-while-revalidate: soft TTL 이 지난 값도 hard TTL 전이면 바로 반환하고 onStale 로 갱신을 맡긴다
+    public <T> Optional<T> getOrStale(String key, TypeReference<T> typeRef, Runnable onStale) {
+        return get(key, objectMapper.getTypeFactory().constructType(typeRef), onStale);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> get(String key, JavaType type, Runnable onStale) {
         if (!props.isEnabled()) return Optional.empty();
+        long now = System.currentTimeMillis();
+
+        // L1 HIT: 역직렬화된 불변 결과를 그대로 반환 (Redis/Jackson 없음)
+        StatsLocalCache.Entry local = localCache.get(key);
+        if (local != null) {
+            if (now < local.freshUntil()) return (Optional<T>) (Optional<?>) local.value();
+            if (onStale != null) {
+                onStale.run();
+                return (Optional<T>) (Optional<?>) local.value();
+            }
+            // stale 을 받지 않는 호출자 → L2 확인 (다른 노드가 이미 갱신했을 수 있음)
+        }
 
-        String json = redisTemplate.opsForValue().get(key);
-        if (json == null) {
+        CachedPayload payload = readPayload(key);
+        if (payload == null || (payload.isStale(now) && onStale == null)) {
             log.debug("Cache MISS: {}", key);
             return Optional.empty();
         }
 
         try {
             log.debug("Cache HIT: {}", key);
-            return Optional.of(objectMapper.readValue(json, typeRef));
+            T value = objectMapper.readValue(payload.json(), type);
+            localCache.put(key, value, payload);
+            if (payload.isStale(now)) onStale.run();
+            return Optional.of(value);
         } catch (Exception e) {
             log.warn("Cache deserialization failed for key: {}", key, e);
             return Optional.empty(); //예외 대신 빈 값 반환 -> DB fallback
         }
     }
 
+    // 여러 키를 한 번에: L1 → 나머지는 Redis MGET (키마다 GET 왕복 X). stale 값은 miss, 결과에는 HIT 키만
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(List<String> keys, TypeReference<T> typeRef) {
+        if (!props.isEnabled() || keys.isEmpty()) return Map.of();
+        JavaType type = objectMapper.getTypeFactory().constructType(typeRef);
+        long now = System.currentTimeMillis();
+
+        Map<String, T> hits = new HashMap<>();
+        List<String> remote = new ArrayList<>();
+        for (String key : keys) {
+            StatsLocalCache.Entry local = localCache.get(key);
+            if (local != null && now < local.freshUntil() && local.value().isPresent()) {
+                hits.put(key, (T) local.value().get());
+            } else {
+                remote.add(key);
+            }
+        }
+
+        for (int i = 0; i < remote.size(); i += MGET_CHUNK) {
+            List<String> chunk = remote.subList(i, Math.min(remote.size(), i + MGET_CHUNK));
+            byte[][] rawKeys = chunk.stream().map(k -> k.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+            List<byte[]> stored = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(rawKeys));
+            if (stored == null) continue;
+            for (int k = 0; k < chunk.size(); k++) {
+                String key = chunk.get(k);
+                CachedPayload payload = CachedPayload.decode(stored.get(k));
+                if (payload == null || payload.isStale(now)) continue;
+                try {
+                    T value = objectMapper.readValue(payload.json(), type);
+                    localCache.put(key, value, payload);
+                    hits.put(key, value);
+                } catch (Exception e) {
+                    log.warn("Cache deserialization failed for key: {}", key, e);
+                }
+            }
+        }
+        log.debug("Cache MGET: {} keys, {} hits", keys.size(), hits.size());
+        return hits;
+    }
+
+    // passthrough: 저장된 응답 바이트를 역직렬화 없이 반환 (L1 → L2), stale 이면 onStale 로 갱신
+    public Optional<CachedPayload> getPayload(String key, Runnable onStale) {
+        if (!props.isEnabled() || !props.isRawPassthrough()) return Optional.empty();
+        long now = System.currentTimeMillis();
+
+        StatsLocalCache.Entry local = localCache.getPayload(key);
+        CachedPayload payload;
+        if (local != null) {
+            payload = (CachedPayload) local.value().orElseThrow();
+        } else {
+            payload = readPayload(key);
+            if (payload == null) return Optional.empty();
+            localCache.putPayload(key, payload);
+        }
+        if (payload.isStale(now)) onStale.run();
+        return Optional.of(payload);
+    }
+
     public void set(String key, Object value) {
+        set(key, value, Duration.ofSeconds(props.getTtlSeconds()));
+    }
+
+    // ttl = soft TTL (이후 stale). Redis 키는 staleWhileRevalidateSeconds 만큼 더 살아 있음 (hard TTL)
+    // ttl 이 0 이하면 만료 없음
+    public void set(String key, Object value, Duration ttl) {
         if (!props.isEnabled()) return;
 
         try {
-            String json = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(
-                    key,
-                    json,
-                    Duration.ofSeconds(props.getTtlSeconds())
-            );
-            log.debug("Cache SET: {} (TTL: {}s)", key, props.getTtlSeconds());
+            CachedPayload payload = toPayload(value, ttl);
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            byte[] stored = payload.encode();
+            redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+                    rawKey, stored, expiration(ttl), RedisStringCommands.SetOption.upsert()));
+            localCache.putAndBroadcast(key, value, payload);
+            log.debug("Cache SET: {} (TTL: {}s, {} bytes, gzip={})", key, ttl.toSeconds(), stored.length, payload.gzip());
         } catch (Exception e) {
             log.warn("Cache serialization failed for key: {}", key, e); // 캐시 실패는 기능 실패로 치지 않음
         }
     }
 
+    // 여러 키를 파이프라인 1번으로 SET (+ 다른 노드 L1 무효화 publish 도 같은 파이프라인에), 키마다 TTL 다를 수 있음
+    public void setAll(Map<String, ?> values, Function<String, Duration> ttlOf) {
+        if (!props.isEnabled() || values.isEmpty()) return;
+
+        try {
+            Map<String, CachedPayload> payloads = new LinkedHashMap<>();
+            for (Map.Entry<String, ?> e : values.entrySet()) {
+                payloads.put(e.getKey(), toPayload(e.getValue(), ttlOf.apply(e.getKey())));
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                payloads.forEach((key, payload) -> {
+                    byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                    connection.stringCommands().set(rawKey, payload.encode(), expiration(ttlOf.apply(key)),
+                            RedisStringCommands.SetOption.upsert());
+                    byte[] invalidation = localCache.invalidationMessage(key);
+                    if (invalidation != null) connection.publish(INVALIDATION_CHANNEL, invalidation);
+                });
+                return null;
+            });
+            payloads.forEach((key, payload) -> localCache.putOwn(key, values.get(key), payload));
+            log.debug("Cache SET (pipelined): {} keys", payloads.size());
+        } catch (Exception e) {
+            log.warn("Cache pipelined SET failed for {} keys", values.size(), e); // 캐시 실패는 기능 실패로 치지 않음
+        }
+    }
+
+    // fencing: leaseKey 의 값이 token 과 같을 때만 SET (GET+SET 을 Lua 로 원자 실행)
+    public boolean setIfLeaseHeld(String key, Object value, Duration ttl, String leaseKey, String token) {
+        if (!props.isEnabled()) return false;
+
+        try {
+            CachedPayload payload = toPayload(value, ttl);
+            // 값이 바이너리(gzip)일 수 있으므로 인자는 byte[] 그대로 전달
+            Long written = redisTemplate.execute(SET_IF_LEASE_HELD, RedisSerializer.byteArray(),
+                    new GenericToStringSerializer<>(Long.class), List.of(leaseKey, key),
+                    token.getBytes(StandardCharsets.UTF_8), payload.encode(),
+                    String.valueOf(Math.max(1, hardTtl(ttl).toSeconds())).getBytes(StandardCharsets.UTF_8));
+            boolean ok = written != null && written == 1L;
+            if (ok) localCache.putAndBroadcast(key, value, payload);
+            return ok;
+        } catch (Exception e) {
+            log.warn("Cache serialization failed for key: {}", key, e);
+            return false;
+        }
+    }
+
+    // 정확한 키 삭제 (늦게 들어온 클릭으로 닫힌 날짜 partial 이 바뀐 경우)
+    public void evict(Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        redisTemplate.delete(keys);
+        keys.forEach(localCache::invalidateAndBroadcast);
+    }
+
+    // 패턴에 맞는 키 전부 삭제 (SCAN, 테스트 데이터 리셋/시드처럼 과거 집계가 바뀌는 경우)
+    public long evictByPattern(String pattern) {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(1_000).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (keys.isEmpty()) return 0;
+        Long deleted = redisTemplate.delete(keys);
+        keys.forEach(localCache::invalidateAndBroadcast);
+        return deleted == null ? 0 : deleted;
+    }
+
+    private CachedPayload toPayload(Object value, Duration ttl) throws Exception {
+        long freshUntil = ttl.isZero() || ttl.isNegative() ? Long.MAX_VALUE : System.currentTimeMillis() + ttl.toMillis();
+        return CachedPayload.of(objectMapper.writeValueAsBytes(value), props.getGzipMinBytes(), freshUntil);
+    }
+
+    private Expiration expiration(Duration ttl) {
+        return ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(hardTtl(ttl));
+    }
+
+    private Duration hardTtl(Duration softTtl) {
+        return softTtl.plusSeconds(props.getStaleWhileRevalidateSeconds());
+    }
+
+    private CachedPayload readPayload(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+        return CachedPayload.decode(stored);
+    }
 }
@@ -0,0 +1,160 @@
+package com.jung.creatorlink.service.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+// 캐시 miss 집계를 클러스터 전체에서 1번만 (SingleFlight 는 JVM 안, 이건 노드 간)
+//   lease:{cacheKey} = fencing token (INCR 로 발급, 매번 증가) / SET NX PX
+// - lease 를 잡은 노드: 집계 → token 이 아직 lease 값일 때만 캐시 저장 → lease 해제
+// - 못 잡은 노드: 캐시에 값이 생길 때까지 polling, lease 가 만료됐는데 값이 없으면(holder 장애) 직접 lease 시도
+// SingleFlight 의 loader 스레드에서 호출되므로 노드당 키 1개에 스레드 1개만 대기한다.
+public class StatsLeaseLoader {
+
+    private static final String FENCE_KEY = "stats:lease:fence";
+    private static final long MIN_POLL_MS = 50;
+
+    private static final DefaultRedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then "
+                    + "local t = redis.call('incr', KEYS[2]) redis.call('set', KEYS[1], t, 'PX', ARGV[1]) return t end "
+                    + "return false",
+            Long.class);
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0",
+            Long.class);
+    private static final DefaultRedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private final StatsCacheService statsCacheService;
+    private final StringRedisTemplate redisTemplate;
+    private final StatsCacheProperties props;
+    private final ScheduledExecutorService renewer =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("stats-lease-renew-"));
+
+    public StatsLeaseLoader(StatsCacheService statsCacheService, StringRedisTemplate redisTemplate, StatsCacheProperties props) {
+        this.statsCacheService = statsCacheService;
+        this.redisTemplate = redisTemplate;
+        this.props = props;
+    }
+
+    // 캐시 → (lease 획득 시) 집계 → 캐시 저장. lease 를 못 잡으면 다른 노드의 결과를 기다림
+    public <T> T load(String key, TypeReference<T> type, Supplier<T> compute) {
+        return load(key, type, Duration.ofSeconds(props.getTtlSeconds()), compute);
+    }
+
+    public <T> T load(String key, TypeReference<T> type, Duration ttl, Supplier<T> compute) {
+        if (!props.isEnabled() || !props.isDistributedLease()) {
+            Optional<T> cached = statsCacheService.get(key, type);
+            if (cached.isPresent()) return cached.get();
+            T result = compute.get();
+            statsCacheService.set(key, result, ttl);
+            return result;
+        }
+
+        String leaseKey = "lease:" + key;
+        long deadline = System.currentTimeMillis() + props.getWaitTimeoutMs();
+        long pollMs = MIN_POLL_MS;
+
+        while (true) {
+            Optional<T> cached = statsCacheService.get(key, type);
+            if (cached.isPresent()) return cached.get();
+
+            String token = tryAcquire(leaseKey);
+            if (token != null) {
+                return computeUnderLease(key, type, ttl, leaseKey, token, compute);
+            }
+
+            if (System.currentTimeMillis() + pollMs > deadline) {
+                throw new CompletionException(new TimeoutException("stats lease wait timed out: " + key));
+            }
+            sleep(pollMs);
+            pollMs = Math.min(pollMs * 2, props.getLeasePollMs());
+        }
+    }
+
+    // 백그라운드 갱신: lease 를 못 잡으면 다른 노드가 집계 중이므로 그냥 끝냄 (기다리지 않음)
+    public <T> void refresh(String key, TypeReference<T> type, Duration ttl, Supplier<T> compute) {
+        if (!props.isEnabled()) return;
+        if (!props.isDistributedLease()) {
+            statsCacheService.set(key, compute.get(), ttl);
+            return;
+        }
+        String leaseKey = "lease:" + key;
+        String token = tryAcquire(leaseKey);
+        if (token != null) {
+            // stale 값은 get() 에서 miss 로 보이므로 double-check 를 그대로 써도 재집계된다
+            computeUnderLease(key, type, ttl, leaseKey, token, compute);
+        }
+    }
+
+    private <T> T computeUnderLease(String key, TypeReference<T> type, Duration ttl,
+                                    String leaseKey, String token, Supplier<T> compute) {
+        long renewEvery = Math.max(1, props.getLeaseMs() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(
+                () -> renew(leaseKey, token), renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+        try {
+            // lease 획득 직전에 이전 holder 가 저장하고 해제했을 수 있음
+            Optional<T> cached = statsCacheService.get(key, type);
+            if (cached.isPresent()) return cached.get();
+
+            T result = compute.get();
+            if (!statsCacheService.setIfLeaseHeld(key, result, ttl, leaseKey, token)) {
+                log.warn("Stats lease lost before cache write, result not cached (key={}, token={})", key, token);
+            }
+            return result;
+        } finally {
+            renewal.cancel(false);
+            redisTemplate.execute(RELEASE, List.of(leaseKey), token);
+        }
+    }
+
+    // 비어 있을 때만 token 발급 + SET PX (원자적), 못 잡으면 null
+    private String tryAcquire(String leaseKey) {
+        Long token = redisTemplate.execute(ACQUIRE, List.of(leaseKey, FENCE_KEY), String.valueOf(props.getLeaseMs()));
+        return token == null ? null : String.valueOf(token);
+    }
+
+    private void renew(String leaseKey, String token) {
+        try {
+            Long ok = redisTemplate.execute(RENEW, List.of(leaseKey), token, String.valueOf(props.getLeaseMs()));
+            if (ok == null || ok == 0L) {
+                log.warn("Stats lease {} no longer held by token {}", leaseKey, token);
+            }
+        } catch (Exception e) {
+            log.warn("Stats lease renewal failed for {}", leaseKey, e);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("stats lease wait interrupted", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+}
@@ -0,0 +1,122 @@
+package com.jung.creatorlink.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Component
+// 통계 캐시 L1 (JVM 로컬, Redis L2 앞단)
+// - 역직렬화가 끝난 불변 결과를 Optional 로 감싸 보관 → HIT 시 Redis 왕복/Jackson/새 객체 생성 없음
+// - passthrough 모드면 같은 키의 응답 바이트(CachedPayload)도 "raw:" 슬롯에 보관
+// - 크기는 응답 바이트 길이 기준 weight 로 제한, TTL 은 짧게
+// - 어느 노드든 L2 에 새 값을 쓰면 pub/sub 로 다른 노드의 L1 항목을 무효화
+public class StatsLocalCache implements MessageListener {
+
+    static final String CHANNEL = "stats:cache:invalidate";
+    private static final String RAW_PREFIX = "raw:";
+
+    private final StatsCacheProperties props;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Entry> cache;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // weight = 저장된 응답 바이트 길이 (역직렬화된 객체 크기를 대략 비례로 근사)
+    // freshUntil = L2 값의 soft 만료 시각 (지나면 stale)
+    record Entry(Optional<Object> value, int weight, long freshUntil) {
+    }
+
+    public StatsLocalCache(StatsCacheProperties props,
+                           StringRedisTemplate redisTemplate,
+                           RedisMessageListenerContainer listenerContainer) {
+        this.props = props;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(props.getLocalMaxWeightBytes())
+                .weigher((String key, Entry entry) -> entry.weight())
+                .expireAfterWrite(Duration.ofSeconds(props.getLocalTtlSeconds()))
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // null = L1 miss (또는 L1 꺼짐). 저장된 Entry 를 그대로 반환 (HIT 시 할당 없음)
+    Entry get(String key) {
+        if (!props.isLocalEnabled()) return null;
+        return cache.getIfPresent(key);
+    }
+
+    // passthrough 용 응답 바이트 (같은 키의 객체 항목과 별도 슬롯)
+    Entry getPayload(String key) {
+        return get(RAW_PREFIX + key);
+    }
+
+    // L2 에서 읽어 온 값 적재 (다른 노드에 알릴 필요 없음)
+    public void put(String key, Object value, CachedPayload payload) {
+        if (!props.isLocalEnabled()) return;
+        Object immutable = value instanceof List<?> list ? List.copyOf(list)
+                : value instanceof Map<?, ?> map ? Map.copyOf(map)
+                : value;
+        cache.put(key, new Entry(Optional.of(immutable), payload.body().length, payload.freshUntil()));
+    }
+
+    public void putPayload(String key, CachedPayload payload) {
+        if (!props.isLocalEnabled()) return;
+        cache.put(RAW_PREFIX + key, new Entry(Optional.of(payload), payload.body().length, payload.freshUntil()));
+    }
+
+    // 이 노드가 L2 에 새 값을 쓴 경우: 내 L1 갱신 + 다른 노드 L1 무효화
+    public void putAndBroadcast(String key, Object value, CachedPayload payload) {
+        putOwn(key, value, payload);
+        publishInvalidation(key);
+    }
+
+    // 이 노드가 L2 에 새 값을 쓴 경우의 내 L1 갱신만 (무효화는 호출자가 invalidationMessage 로 모아서 보냄)
+    void putOwn(String key, Object value, CachedPayload payload) {
+        put(key, value, payload);
+        if (props.isRawPassthrough()) putPayload(key, payload);
+    }
+
+    // 다른 노드 L1 무효화 메시지 본문, L1 이 꺼져 있으면 null (보낼 필요 없음)
+    byte[] invalidationMessage(String key) {
+        if (!props.isLocalEnabled()) return null;
+        return (nodeId + "|" + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void invalidateAndBroadcast(String key) {
+        cache.invalidateAll(List.of(key, RAW_PREFIX + key));
+        publishInvalidation(key);
+    }
+
+    private void publishInvalidation(String key) {
+        if (!props.isLocalEnabled()) return;
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + key);
+        } catch (Exception e) {
+            // 못 알리면 다른 노드는 localTtlSeconds 뒤에 맞춰진다
+            log.warn("Stats L1 invalidation publish failed for key: {}", key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf('|');
+        if (sep < 0 || body.startsWith(nodeId + "|")) return; // 내가 보낸 것은 이미 반영됨
+        String key = body.substring(sep + 1);
+        cache.invalidateAll(List.of(key, RAW_PREFIX + key));
+    }
+}
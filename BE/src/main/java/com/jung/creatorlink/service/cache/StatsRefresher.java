@@ -0,0 +1,57 @@
+package com.jung.creatorlink.service.cache;
+
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+// stale 캐시 키 백그라운드 갱신 (stale-while-revalidate)
+// - 키당 동시에 1건만 (이미 갱신 중이면 무시), 노드 간 중복은 StatsLeaseLoader.refresh 의 lease 로 막음
+// - 큐가 차면 버림: 갱신이 밀려도 stale 값은 hard TTL 까지 계속 나가고, 그 뒤엔 일반 miss 경로
+public class StatsRefresher {
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public StatsRefresher(StatsCacheProperties props) {
+        this.executor = new ThreadPoolExecutor(
+                props.getRefreshThreads(), props.getRefreshThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256),
+                new CustomizableThreadFactory("stats-refresh-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void refreshAsync(String key, Runnable refresh) {
+        if (!inFlight.add(key)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh.run();
+                } catch (Exception e) {
+                    log.warn("Stats background refresh failed for key: {}", key, e);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.debug("Stats refresh queue full, skipping key: {}", key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
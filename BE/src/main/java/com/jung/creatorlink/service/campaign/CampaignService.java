@@ -11,6 +11,7 @@ import com.jung.creatorlink.dto.campaign.CampaignUpdateRequest;
 import com.jung.creatorlink.repository.campaign.CampaignRepository;
 import com.jung.creatorlink.repository.tracking.TrackingLinkRepository;
 import com.jung.creatorlink.repository.user.UserRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +29,7 @@ public class CampaignService {
     private final CampaignRepository campaignRepository;
     private final UserRepository userRepository;
     private final TrackingLinkRepository trackingLinkRepository;
+    private final StatsCacheGeneration statsCacheGeneration;
 
 
     public CampaignResponse createCampaign(CampaignCreateRequest request) {
@@ -135,6 +137,8 @@ public class CampaignService {
 
         // 실제 삭제 대신 soft delete
         campaign.deactivate();
+        // 캐시된 통계가 남아 있으면 삭제된 캠페인이 계속 보이므로 (새 세대 키는 miss → 404)
+        statsCacheGeneration.bump(id);
     }
 
 }
@@ -11,6 +11,8 @@ import com.jung.creatorlink.dto.channel.ChannelUpdateRequest;
 import com.jung.creatorlink.repository.channel.ChannelRepository;
 import com.jung.creatorlink.repository.tracking.TrackingLinkRepository;
 import com.jung.creatorlink.repository.user.UserRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
+import com.jung.creatorlink.service.tracking.TrackingLinkService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,9 +24,11 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional
 public class ChannelService {
-    private final TrackingLinkRepository trackingLinkRepository;
+    private final TrackingLinkService trackingLinkService;
     private final ChannelRepository channelRepository;
     private final UserRepository userRepository;
+    private final TrackingLinkRepository trackingLinkRepository;
+    private final StatsCacheGeneration statsCacheGeneration;
 
     // 채널 생성
     public ChannelResponse createChannel(ChannelCreateRequest request) {
@@ -162,6 +166,8 @@ public class ChannelService {
                 request.getIconUrl(),
                 request.getNote()
         );
+        // 통계의 채널 표시명(platform + placement)이 바뀌므로
+        statsCacheGeneration.bumpAll(trackingLinkRepository.findCampaignIdsByChannelIdAndStatus(channelId, Status.ACTIVE));
 
         return ChannelResponse.from(channel);
     }
@@ -224,6 +230,7 @@ public class ChannelService {
         String newNote    = (req.getNote() != null) ? req.getNote() : channel.getNote();
 
         channel.update(newPlatform, newPlacement, newDisplayName, newIconUrl, newNote);
+        statsCacheGeneration.bumpAll(trackingLinkRepository.findCampaignIdsByChannelIdAndStatus(channelId, Status.ACTIVE));
 
         return ChannelResponse.from(channel);
     }
@@ -241,7 +248,7 @@ public class ChannelService {
             throw new IllegalArgumentException("이 채널을 삭제할 권한이 없습니다.");
         }
         //  정합성 강제
-        trackingLinkRepository.deactivateAllByChannelId(channelId, Status.ACTIVE, Status.INACTIVE);
+        trackingLinkService.deactivateAllByChannelId(channelId);
         channel.deactivate();
     }
 
@@ -9,6 +9,8 @@ import com.jung.creatorlink.dto.creator.CreatorUpdateRequest;
 import com.jung.creatorlink.repository.creator.CreatorRepository;
 import com.jung.creatorlink.repository.tracking.TrackingLinkRepository;
 import com.jung.creatorlink.repository.user.UserRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
+import com.jung.creatorlink.service.tracking.TrackingLinkService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +26,8 @@ public class CreatorService {
     private final CreatorRepository creatorRepository;
     private final UserRepository userRepository;
     private final TrackingLinkRepository trackingLinkRepository;
+    private final TrackingLinkService trackingLinkService;
+    private final StatsCacheGeneration statsCacheGeneration;
 
     //크리에이터 생성
     public CreatorResponse createCreator(CreatorCreateRequest request) {
@@ -97,6 +101,8 @@ public class CreatorService {
                 request.getChannelUrl(),
                 request.getNote()
         );
+        // 통계의 크리에이터 이름이 바뀌므로
+        statsCacheGeneration.bumpAll(trackingLinkRepository.findCampaignIdsByCreatorIdAndStatus(id, Status.ACTIVE));
 
         // 수정된 엔티티를 DTO로 변환
         return CreatorResponse.from(creator);
@@ -150,7 +156,7 @@ public class CreatorService {
             );
         }
     //  정합성 강제: creator가 죽으면 연결된 ACTIVE 링크도 같이 죽는다
-        trackingLinkRepository.deactivateAllByCreatorId(id, Status.ACTIVE, Status.INACTIVE);
+        trackingLinkService.deactivateAllByCreatorId(id);
         creator.deactivate();
     }
 
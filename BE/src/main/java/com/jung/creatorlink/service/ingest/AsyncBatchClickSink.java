@@ -0,0 +1,200 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.ConditionalOnClickIngestMode;
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@ConditionalOnClickIngestMode(ClickIngestProperties.Mode.ASYNC)
+// 리다이렉트 경로는 큐에 넣기만 하고, 백그라운드 writer 가 batchSize / flushIntervalMs 기준으로 배치 INSERT
+// -> 리다이렉트 지연이 MySQL 쓰기 지연 / 커넥션 풀 잔량과 무관해진다.
+public class AsyncBatchClickSink implements ClickSink, SmartLifecycle {
+
+    private final ClickLogWriter clickLogWriter;
+    private final ClickIngestProperties props;
+    private final BlockingQueue<ClickEvent> queue;
+
+    private final List<Thread> writers = new ArrayList<>();
+    private volatile boolean running = false;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+
+    public AsyncBatchClickSink(ClickLogWriter clickLogWriter, ClickIngestProperties props) {
+        // 0 이면 빈 큐에서 poll(0) 이 바로 돌아와 writer 스레드가 쉬지 않고 돈다 (busy loop)
+        if (props.getFlushIntervalMs() <= 0) {
+            throw new IllegalArgumentException("app.click-ingest.flush-interval-ms 는 0보다 커야 합니다: " + props.getFlushIntervalMs());
+        }
+        if (props.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("app.click-ingest.batch-size 는 0보다 커야 합니다: " + props.getBatchSize());
+        }
+        this.clickLogWriter = clickLogWriter;
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+    }
+
+    @Override
+    public void accept(ClickEvent event) {
+        // 종료 중(또는 시작 전)에는 큐에 넣어도 아무도 안 비우므로 직접 INSERT
+        if (!running) {
+            clickLogWriter.write(List.of(event));
+            return;
+        }
+
+        if (queue.offer(event)) return;
+
+        // ===== 큐가 꽉 참 → backpressure =====
+        switch (props.getBackpressure()) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(event, props.getOfferTimeoutMs(), TimeUnit.MILLISECONDS)) return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                drop();
+            }
+            case DROP -> drop();
+            case CALLER_RUNS -> clickLogWriter.write(List.of(event));
+        }
+    }
+
+    // BLOCK(대기)/CALLER_RUNS(직접 INSERT)는 큐가 차면 호출 스레드를 붙잡는다.
+    @Override
+    public boolean isNonBlocking() {
+        return props.getBackpressure() == ClickIngestProperties.Backpressure.DROP;
+    }
+
+    private void drop() {
+        long count = dropped.incrementAndGet();
+        // 로그 폭주 방지: 1, 1000, 2000 ... 번째에만 남김
+        if (count == 1 || count % 1000 == 0) {
+            log.warn("Click queue full, dropped clicks so far: {}", count);
+        }
+    }
+
+    // ========== writer ==========
+    private void writeLoop() {
+        int batchSize = props.getBatchSize();
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(props.getFlushIntervalMs());
+        List<ClickEvent> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+
+        // running=false 가 된 뒤에도 큐가 빌 때까지 계속 돈다 (shutdown drain)
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                long waitNanos = batch.isEmpty() ? flushIntervalNanos : Math.max(0, deadline - System.nanoTime());
+                ClickEvent first = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    if (batch.isEmpty()) deadline = System.nanoTime() + flushIntervalNanos;
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // stop()의 join 타임아웃 이후 인터럽트 → 들고 있던 배치만 flush 하고 종료
+                flush(batch);
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            boolean full = batch.size() >= batchSize;
+            boolean due = !batch.isEmpty() && System.nanoTime() >= deadline;
+            if (full || due || (!running && !batch.isEmpty())) {
+                flush(batch);
+            }
+        }
+    }
+
+    private void flush(List<ClickEvent> batch) {
+        if (batch.isEmpty()) return;
+
+        int attempts = 0;
+        while (true) {
+            try {
+                clickLogWriter.write(batch);
+                written.addAndGet(batch.size());
+                break;
+            } catch (Exception e) {
+                attempts++;
+                if (attempts > props.getMaxFlushRetries()) {
+                    log.error("Click batch insert failed after {} attempts, {} clicks lost", attempts, batch.size(), e);
+                    dropped.addAndGet(batch.size());
+                    break;
+                }
+                log.warn("Click batch insert failed (attempt {}), retrying", attempts, e);
+                sleepQuietly(100L * attempts);
+            }
+        }
+        batch.clear();
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== lifecycle ==========
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < props.getWriterThreads(); i++) {
+            Thread t = new Thread(this::writeLoop, "click-writer-" + i);
+            t.setDaemon(false);
+            t.start();
+            writers.add(t);
+        }
+        log.info("Async click ingestion started (capacity={}, batchSize={}, flushIntervalMs={}, backpressure={})",
+                props.getQueueCapacity(), props.getBatchSize(), props.getFlushIntervalMs(), props.getBackpressure());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.currentTimeMillis() + props.getShutdownTimeoutMs();
+        for (Thread t : writers) {
+            try {
+                t.join(Math.max(1, deadline - System.currentTimeMillis()));
+                if (t.isAlive()) t.interrupt();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writers.clear();
+
+        if (!queue.isEmpty()) {
+            log.warn("Click queue not fully drained on shutdown, {} clicks lost", queue.size());
+        }
+        log.info("Async click ingestion stopped (written={}, dropped={})", written.get(), dropped.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(graceful shutdown)보다 늦게 멈춰야 마지막 요청들의 클릭까지 비울 수 있다.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
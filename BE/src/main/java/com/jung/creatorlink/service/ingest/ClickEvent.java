@@ -0,0 +1,36 @@
+package com.jung.creatorlink.service.ingest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+// 리다이렉트 경로에서 적재 단계로 넘기는 클릭 이벤트 (엔티티 아님, FK id만 보관)
+public class ClickEvent {
+    private final long trackingLinkId;
+    private final Long campaignId; // null = 컬럼 추가 전에 쌓인 이벤트 (INSERT 시 링크에서 채움)
+    private final LocalDateTime clickedAt;
+    private final String ip;
+    private final String userAgent;
+    private final String referer;
+
+    // 배치 INSERT는 1건만 길이 초과여도 배치 전체가 실패하므로 컬럼 길이에 맞춰 미리 자른다.
+    public static ClickEvent of(long trackingLinkId, Long campaignId, LocalDateTime clickedAt,
+                                String ip, String userAgent, String referer) {
+        return new ClickEvent(
+                trackingLinkId,
+                campaignId,
+                clickedAt,
+                truncate(ip, 45),
+                truncate(userAgent, 500),
+                truncate(referer, 1000)
+        );
+    }
+
+    private static String truncate(String value, int max) {
+        if (value == null || value.length() <= max) return value;
+        return value.substring(0, max);
+    }
+}
@@ -0,0 +1,305 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.ConditionalOnClickIngestMode;
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+@Slf4j
+@Component
+@ConditionalOnClickIngestMode(ClickIngestProperties.Mode.JOURNAL)
+// 로컬 디스크 append-only 클릭 저널 (mmap 세그먼트, 다 차면 rotate)
+//
+// 레코드 포맷 (big-endian):
+//   [int payloadLen][int crc32(payload)]
+//   payload = [long trackingLinkId][long epochSecond(UTC)][int nano][str ip][str userAgent][str referer][long campaignId]
+//   (campaignId 는 뒤에 덧붙인 필드: 없는 이전 레코드는 null 로 읽음, -1 = null)
+//   str     = [short byteLen (-1 = null)][UTF-8 bytes]
+// payloadLen == 0 이면 세그먼트 데이터 끝 (새로 map 한 파일은 0으로 채워져 있음)
+// CRC 불일치 = 크래시 중 찢어진 마지막 레코드 → 거기서 읽기 종료
+//
+// append 는 Netty 이벤트 루프에서도 불리므로 디스크 I/O 를 하지 않는다.
+// 다음 세그먼트는 백그라운드 스레드가 미리 만들어 map 해 두고 (standby), rotate 는 교체만 한다.
+// 이전 세그먼트의 force/close 도 백그라운드에서.
+public class ClickJournal {
+
+    static final int HEADER_BYTES = 8;
+    private static final int MAX_PAYLOAD_BYTES = 8 * 1024;
+
+    private final Path dir;
+    private final int segmentSize;
+
+    // append 는 요청 스레드들이 동시에 호출 → lock 으로 직렬화 (synchronized 대신: 가상 스레드 pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_PAYLOAD_BYTES);
+    private final CRC32 crc = new CRC32();
+
+    private long activeSeq;
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+
+    // 백그라운드에서 만들고 있는/만들어 둔 다음 세그먼트 (activeSeq + 1). lock 안에서만 접근
+    private CompletableFuture<Segment> standby;
+
+    private record Segment(long seq, FileChannel channel, MappedByteBuffer buffer) {
+    }
+
+    // replayer 가 읽어도 되는 위치 = (seq << 32) | position. 레코드를 다 쓴 뒤에만 갱신
+    private volatile long published;
+
+    private final ScheduledExecutorService forcer =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("click-journal-force-"));
+
+    public ClickJournal(ClickIngestProperties props) throws IOException {
+        ClickIngestProperties.Journal journal = props.getJournal();
+        this.dir = Paths.get(journal.getDir());
+        this.segmentSize = journal.getSegmentSizeBytes();
+        Files.createDirectories(dir);
+
+        // 재시작 시 기존 세그먼트에는 이어 쓰지 않는다 (replayer 가 따로 비움)
+        List<Long> existing = segmentSeqs();
+        activate(createSegment(existing.isEmpty() ? 1 : existing.get(existing.size() - 1) + 1));
+
+        standby = prepareStandby(activeSeq + 1);
+        forcer.scheduleWithFixedDelay(this::force, journal.getForceIntervalMs(), journal.getForceIntervalMs(), TimeUnit.MILLISECONDS);
+        log.info("Click journal opened (dir={}, segment={}, pending segments={})", dir.toAbsolutePath(), activeSeq, existing.size());
+    }
+
+    // ========== write ==========
+    public void append(ClickEvent e) {
+        lock.lock();
+        try {
+            scratch.clear();
+            scratch.putLong(e.getTrackingLinkId());
+            scratch.putLong(e.getClickedAt().toEpochSecond(ZoneOffset.UTC));
+            scratch.putInt(e.getClickedAt().getNano());
+            putString(scratch, e.getIp());
+            putString(scratch, e.getUserAgent());
+            putString(scratch, e.getReferer());
+            scratch.putLong(e.getCampaignId() == null ? -1L : e.getCampaignId());
+            scratch.flip();
+
+            int payloadLen = scratch.remaining();
+            crc.reset();
+            crc.update(scratch.duplicate());
+
+            // 레코드 + 끝 표시(0) 자리가 없으면 다음 세그먼트로
+            if (activeBuffer.remaining() < HEADER_BYTES + payloadLen + 4) {
+                rotate();
+            }
+
+            int start = activeBuffer.position();
+            activeBuffer.position(start + HEADER_BYTES);
+            activeBuffer.put(scratch);
+            activeBuffer.putInt(start + 4, (int) crc.getValue());
+            activeBuffer.putInt(start, payloadLen); // 길이를 마지막에 기록 = 레코드 커밋
+
+            published = (activeSeq << 32) | activeBuffer.position();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void putString(ByteBuffer buf, String value) {
+        if (value == null) {
+            buf.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buf.putShort((short) bytes.length);
+        buf.put(bytes);
+    }
+
+    // lock 안에서 호출
+    private void rotate() throws IOException {
+        FileChannel oldChannel = activeChannel;
+        MappedByteBuffer oldBuffer = activeBuffer;
+
+        if (!standby.isDone()) {
+            // 백그라운드 준비가 못 따라온 경우에만 기다린다 (블로킹)
+            log.warn("Click journal standby segment {} not ready, waiting for it", activeSeq + 1);
+        }
+        Segment next;
+        try {
+            next = standby.join();
+        } catch (CompletionException e) {
+            log.warn("Click journal could not prepare segment {}, creating it inline", activeSeq + 1, e.getCause());
+            next = createSegment(activeSeq + 1);
+        }
+        activate(next);
+
+        forcer.execute(() -> retire(oldBuffer, oldChannel));
+        standby = prepareStandby(activeSeq + 1);
+    }
+
+    private Segment createSegment(long seq) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(seq),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(seq, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+    }
+
+    private void activate(Segment segment) {
+        activeChannel = segment.channel();
+        activeBuffer = segment.buffer();
+        activeSeq = segment.seq();
+        published = segment.seq() << 32;
+    }
+
+    // forcer 스레드에서 다음 세그먼트 파일 생성 + map (한 번에 하나만 진행 → rotate 와 같은 파일을 두고 겹치지 않음)
+    private CompletableFuture<Segment> prepareStandby(long seq) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return createSegment(seq);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, forcer);
+    }
+
+    // forcer 스레드: 다 쓴 세그먼트를 디스크에 내리고 닫음
+    private void retire(MappedByteBuffer buffer, FileChannel channel) {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (Exception e) {
+            log.warn("Click journal could not close rotated segment", e);
+        }
+    }
+
+    private void force() {
+        lock.lock();
+        try {
+            activeBuffer.force();
+        } catch (Exception e) {
+            log.warn("Click journal force failed", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ========== read (replayer 용) ==========
+    public List<Long> segmentSeqs() {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                    .map(p -> p.getFileName().toString())
+                    .filter(n -> n.startsWith("clicks-") && n.endsWith(".seg"))
+                    .map(n -> Long.parseLong(n.substring("clicks-".length(), n.length() - ".seg".length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Path segmentPath(long seq) {
+        return dir.resolve(String.format("clicks-%012d.seg", seq));
+    }
+
+    // 지금 append 중인 세그먼트 (replayer 는 이 세그먼트를 지우면 안 됨)
+    public long activeSeq() {
+        return published >>> 32;
+    }
+
+    // 해당 세그먼트에서 읽어도 되는 끝 위치. 이미 rotate 된 세그먼트면 -1 (= 파일 끝까지, 0 레코드에서 종료)
+    public int readLimit(long seq) {
+        long p = published;
+        if ((p >>> 32) != seq) return -1;
+        return (int) p;
+    }
+
+    // buffer 의 offset 부터 최대 maxRecords 개 읽어서 out 에 담고, 다음 읽을 offset 반환
+    // limit < 0 이면 끝 표시(0)나 손상 레코드를 만날 때까지 읽는다.
+    public static int readRecords(ByteBuffer buffer, int offset, int limit, int maxRecords, List<ClickEvent> out) {
+        int end = limit < 0 ? buffer.capacity() : limit;
+        int pos = offset;
+        CRC32 check = new CRC32();
+
+        while (out.size() < maxRecords && pos + HEADER_BYTES <= end) {
+            int payloadLen = buffer.getInt(pos);
+            if (payloadLen <= 0 || payloadLen > MAX_PAYLOAD_BYTES || pos + HEADER_BYTES + payloadLen > end) break;
+
+            ByteBuffer payload = buffer.duplicate();
+            payload.position(pos + HEADER_BYTES).limit(pos + HEADER_BYTES + payloadLen);
+            check.reset();
+            check.update(payload.duplicate());
+            if ((int) check.getValue() != buffer.getInt(pos + 4)) {
+                log.warn("Click journal record at offset {} is corrupt, stopping segment read", pos);
+                break;
+            }
+
+            long linkId = payload.getLong();
+            long epochSecond = payload.getLong();
+            int nano = payload.getInt();
+            String ip = getString(payload);
+            String userAgent = getString(payload);
+            String referer = getString(payload);
+            Long campaignId = null;
+            if (payload.remaining() >= Long.BYTES) {
+                long c = payload.getLong();
+                if (c >= 0) campaignId = c;
+            }
+            out.add(new ClickEvent(linkId, campaignId, LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC), ip, userAgent, referer));
+
+            pos += HEADER_BYTES + payloadLen;
+        }
+        return pos;
+    }
+
+    private static String getString(ByteBuffer buf) {
+        short len = buf.getShort();
+        if (len < 0) return null;
+        byte[] bytes = new byte[len];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    public void close() {
+        forcer.shutdown();
+        try {
+            // 진행 중인 rotate 뒷정리 / standby 준비가 끝나길 기다림
+            forcer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            activeBuffer.force();
+            activeChannel.close();
+            // 쓰지 않은 standby 파일은 비어 있으므로 다음 기동 때 replayer 가 지운다
+            if (standby.isDone() && !standby.isCompletedExceptionally()) {
+                standby.join().channel().close();
+            }
+        } catch (IOException e) {
+            log.warn("Click journal close failed", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.ConditionalOnClickIngestMode;
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnClickIngestMode(ClickIngestProperties.Mode.JOURNAL)
+// 클릭 저널 → click_logs 배치 INSERT
+// - 배치 1개를 트랜잭션으로 커밋한 뒤 checkpoint(seq, offset) 갱신 → at-least-once
+//   (커밋 직후 checkpoint 저장 전에 죽으면 그 배치만 중복 적재될 수 있음)
+// - DB 장애 중에는 INSERT 실패 → checkpoint 그대로 두고 backoff 후 재시도. 클릭은 디스크에 남아 있다.
+// - 레코드 자체가 안 들어가는 배치(FK 위반 등)는 한 건씩 다시 넣고, 실패한 클릭만 dead-letter 파일로 빼고 넘어간다
+//   (한 건 때문에 뒤 클릭 전부가 막히지 않도록. 한 건씩 넣다가 DB 장애가 나면 배치째 재시도 → 앞부분은 중복될 수 있음)
+// - rotate 가 끝난 세그먼트를 끝까지 반영하면 파일 삭제
+// - checkpoint 가 가리키는 세그먼트가 없으면 (저널 디렉터리만 비워지거나 복원된 경우) checkpoint 를 처음으로 되돌린다
+public class ClickJournalReplayer implements SmartLifecycle {
+
+    private final ClickJournal journal;
+    private final ClickLogWriter clickLogWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ClickIngestProperties.Journal props;
+    private final Path checkpointPath;
+    private final Path deadLetterPath;
+    private final Counter deadLettered;
+
+    private Thread worker;
+    private volatile boolean running = false;
+
+    // 현재 읽는 위치
+    private long cpSeq;
+    private int cpOffset;
+    private long mappedSeq = -1;
+    private MappedByteBuffer mapped;
+
+    public ClickJournalReplayer(ClickJournal journal,
+                                ClickLogWriter clickLogWriter,
+                                PlatformTransactionManager transactionManager,
+                                ClickIngestProperties props,
+                                MeterRegistry registry) {
+        this.journal = journal;
+        this.clickLogWriter = clickLogWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.props = props.getJournal();
+        this.checkpointPath = journal.segmentPath(0).resolveSibling("checkpoint");
+        this.deadLetterPath = journal.segmentPath(0).resolveSibling("dead-letter.log");
+        this.deadLettered = Counter.builder("clicks.ingest.dead_letter")
+                .description("적재할 수 없어 dead-letter 로 옮긴 클릭 수")
+                .tag("source", "journal")
+                .register(registry);
+    }
+
+    private void replayLoop() {
+        while (running) {
+            try {
+                int replayed = replayAvailable();
+                if (replayed == 0) sleepQuietly(props.getReplayIntervalMs());
+            } catch (Exception e) {
+                log.warn("Click journal replay failed (DB unavailable?), retrying in {}ms", props.getReplayRetryBackoffMs(), e);
+                sleepQuietly(props.getReplayRetryBackoffMs());
+            }
+        }
+    }
+
+    // 지금 읽을 수 있는 만큼 배치 단위로 반영하고, 반영한 건수를 돌려준다.
+    private int replayAvailable() throws IOException {
+        int total = 0;
+        for (long seq : journal.segmentSeqs()) {
+            // 미리 만들어 둔 다음 세그먼트 (아직 쓰기 전) 는 건드리지 않음
+            if (seq > journal.activeSeq()) break;
+            if (seq < cpSeq) {
+                if (seq != journal.activeSeq()) {
+                    // checkpoint 보다 앞선 끝난 세그먼트 = 이미 반영 완료 (삭제 직전에 죽은 경우)
+                    Files.deleteIfExists(journal.segmentPath(seq));
+                    continue;
+                }
+                // 지금 쓰는 세그먼트가 checkpoint 보다 앞 = 번호가 다시 시작됨 → 지우지 않고 처음부터 읽는다
+                log.warn("Click journal checkpoint seq {} is ahead of active segment {}, replaying it from the start", cpSeq, seq);
+                cpSeq = seq;
+                cpOffset = 0;
+            }
+            if (seq > cpSeq) {
+                cpSeq = seq;
+                cpOffset = 0;
+            }
+
+            ByteBuffer buffer = map(seq);
+            while (running) {
+                int limit = journal.readLimit(seq); // -1: rotate 끝난 세그먼트
+                List<ClickEvent> events = new ArrayList<>(props.getReplayBatchSize());
+                int next = ClickJournal.readRecords(buffer, cpOffset, limit, props.getReplayBatchSize(), events);
+
+                if (events.isEmpty()) {
+                    if (limit >= 0) return total; // 활성 세그먼트: 새 레코드 올 때까지 대기
+                    // 끝난 세그먼트를 다 읽음 → 삭제 후 다음 세그먼트
+                    unmap();
+                    Files.deleteIfExists(journal.segmentPath(seq));
+                    break;
+                }
+
+                write(events);
+                cpOffset = next;
+                saveCheckpoint();
+                total += events.size();
+            }
+            if (!running) break;
+        }
+        return total;
+    }
+
+    private void write(List<ClickEvent> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> clickLogWriter.write(events));
+        } catch (RuntimeException e) {
+            // DB/연결 장애 → 그대로 던져서 checkpoint 유지, backoff 후 재시도
+            if (!ClickLogWriter.isRecordError(e)) throw e;
+            log.warn("Click journal batch of {} failed on a record, retrying one by one", events.size(), e);
+            writeEach(events);
+        }
+    }
+
+    private void writeEach(List<ClickEvent> events) {
+        for (ClickEvent event : events) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> clickLogWriter.write(List.of(event)));
+            } catch (RuntimeException e) {
+                if (!ClickLogWriter.isRecordError(e)) throw e;
+                deadLetter(event, e);
+            }
+        }
+    }
+
+    // 재시도해도 안 들어가는 클릭: 수동 복구용으로 한 줄씩 남기고 건너뜀
+    private void deadLetter(ClickEvent event, Exception cause) {
+        log.error("Skipping click journal record (trackingLinkId={}, clickedAt={}) to dead-letter",
+                event.getTrackingLinkId(), event.getClickedAt(), cause);
+        String line = String.join("\t",
+                String.valueOf(event.getTrackingLinkId()), String.valueOf(event.getCampaignId()),
+                String.valueOf(event.getClickedAt()), String.valueOf(event.getIp()),
+                String.valueOf(event.getUserAgent()), String.valueOf(event.getReferer()),
+                String.valueOf(cause)).replace('\n', ' ') + "\n";
+        try {
+            Files.writeString(deadLetterPath, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            log.warn("Click journal dead-letter write failed", e);
+        }
+        deadLettered.increment();
+    }
+
+    private ByteBuffer map(long seq) throws IOException {
+        if (mappedSeq != seq) {
+            try (FileChannel ch = FileChannel.open(journal.segmentPath(seq), StandardOpenOption.READ)) {
+                mapped = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            }
+            mappedSeq = seq;
+        }
+        return mapped;
+    }
+
+    private void unmap() {
+        mapped = null;
+        mappedSeq = -1;
+    }
+
+    // ========== checkpoint ==========
+    private void loadCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            cpSeq = 0;
+            cpOffset = 0;
+            return;
+        }
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(checkpointPath));
+        cpSeq = buf.getLong();
+        cpOffset = buf.getInt();
+        if (cpSeq > 0 && !Files.exists(journal.segmentPath(cpSeq))) {
+            // 반영 끝난 세그먼트를 지운 직후 죽었거나, 저널 디렉터리가 비워짐/복원됨
+            // → 남아 있는 세그먼트는 처음부터 읽는다 (이미 반영된 세그먼트는 지워졌으므로 최악이 중복)
+            log.warn("Click journal checkpoint segment {} is gone, resetting checkpoint", cpSeq);
+            cpSeq = 0;
+            cpOffset = 0;
+            saveCheckpoint();
+        }
+    }
+
+    private void saveCheckpoint() throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(12);
+        buf.putLong(cpSeq).putInt(cpOffset);
+        Path tmp = checkpointPath.resolveSibling("checkpoint.tmp");
+        Files.write(tmp, buf.array(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(tmp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== lifecycle ==========
+    @Override
+    public void start() {
+        try {
+            loadCheckpoint();
+        } catch (IOException e) {
+            throw new IllegalStateException("클릭 저널 checkpoint 를 읽을 수 없습니다.", e);
+        }
+        running = true;
+        worker = new Thread(this::replayLoop, "click-journal-replayer");
+        worker.start();
+        log.info("Click journal replayer started (checkpoint seq={}, offset={})", cpSeq, cpOffset);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                // JDBC 진행 중 인터럽트는 커넥션을 깨뜨릴 수 있으므로 현재 배치가 끝나길 기다린다.
+                worker.join(props.getReplayRetryBackoffMs() + 10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 남은 레코드는 디스크에 있으므로 다음 기동 때 이어서 반영된다.
+        log.info("Click journal replayer stopped (checkpoint seq={}, offset={})", cpSeq, cpOffset);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
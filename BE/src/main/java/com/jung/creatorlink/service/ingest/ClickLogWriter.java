@@ -0,0 +1,61 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.repository.tracking.ClickLogJdbcRepository;
+import com.jung.creatorlink.service.stats.ClickCounterService;
+import com.jung.creatorlink.service.stats.DailyClickPartials;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+// 모든 ClickSink 의 최종 적재 지점: click_logs INSERT + 실시간 카운터 반영
+// 카운터는 트랜잭션 안이면 커밋 후에 올린다 (롤백된 클릭은 세지 않음)
+// async / redis-stream / journal 경로는 유예시간을 넘겨 늦게 적재될 수 있음 → 이미 닫힌 날짜의 클릭이면 그 날짜 partial 무효화
+public class ClickLogWriter {
+
+    private final ClickLogJdbcRepository clickLogJdbcRepository;
+    private final ClickCounterService clickCounterService;
+    private final DailyClickPartials dailyClickPartials;
+
+    public void write(List<ClickEvent> events) {
+        clickLogJdbcRepository.insertBatch(events);
+        clickCounterService.recordInserted(events);
+        evictClosedDays(events);
+    }
+
+    // 배치 INSERT 실패가 특정 레코드 때문일 수 있는지 (제약 위반, 잘못된 값 등)
+    // 연결/타임아웃/락/트랜잭션 오류는 DB 상태 문제 → 레코드를 버리지 말고 그대로 재시도해야 한다
+    static boolean isRecordError(Throwable e) {
+        if (e instanceof DataIntegrityViolationException) return true;
+        return !(e instanceof DataAccessException) && !(e instanceof TransactionException);
+    }
+
+    private void evictClosedDays(List<ClickEvent> events) {
+        Map<Long, Set<LocalDate>> lateDays = new HashMap<>();
+        Map<Long, Set<LocalDate>> lateDaysByLink = new HashMap<>(); // campaignId 없는 옛 이벤트
+        for (ClickEvent event : events) {
+            LocalDate day = event.getClickedAt().toLocalDate();
+            if (!dailyClickPartials.isClosed(day)) continue;
+            if (event.getCampaignId() != null) {
+                lateDays.computeIfAbsent(event.getCampaignId(), id -> new HashSet<>()).add(day);
+            } else {
+                lateDaysByLink.computeIfAbsent(event.getTrackingLinkId(), id -> new HashSet<>()).add(day);
+            }
+        }
+        if (!lateDaysByLink.isEmpty()) {
+            clickLogJdbcRepository.campaignIdsOfLinks(lateDaysByLink.keySet()).forEach((linkId, campaignId) ->
+                    lateDays.computeIfAbsent(campaignId, id -> new HashSet<>()).addAll(lateDaysByLink.get(linkId)));
+        }
+        dailyClickPartials.evictLateDays(lateDays);
+    }
+}
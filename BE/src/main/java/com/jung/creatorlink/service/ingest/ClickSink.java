@@ -0,0 +1,12 @@
+package com.jung.creatorlink.service.ingest;
+
+// 클릭 적재 방식 추상화 (app.click-ingest.mode 로 구현체 선택)
+public interface ClickSink {
+    void accept(ClickEvent event);
+
+    // accept 가 호출 스레드를 (DB/네트워크 I/O 로) 붙잡지 않는지
+    // Netty 리다이렉트 서버는 false 면 이벤트 루프 대신 별도 스레드에서 호출한다.
+    default boolean isNonBlocking() {
+        return false;
+    }
+}
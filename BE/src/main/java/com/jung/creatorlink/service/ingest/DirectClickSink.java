@@ -0,0 +1,23 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.ConditionalOnClickIngestMode;
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClickIngestMode(ClickIngestProperties.Mode.DIRECT)
+// 기존 동작: 요청 스레드에서 클릭 1건 = INSERT 1번
+// ClickLog 엔티티/TrackingLink 참조 없이 FK id 로 바로 INSERT (영속성 컨텍스트 안 거침)
+public class DirectClickSink implements ClickSink {
+
+    private final ClickLogWriter clickLogWriter;
+
+    @Override
+    public void accept(ClickEvent event) {
+        clickLogWriter.write(List.of(event));
+    }
+}
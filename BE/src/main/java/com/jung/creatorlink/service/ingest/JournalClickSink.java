@@ -0,0 +1,38 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.ConditionalOnClickIngestMode;
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClickIngestMode(ClickIngestProperties.Mode.JOURNAL)
+// 리다이렉트 경로: 로컬 저널 append 만 하고 리턴 (MySQL 상태와 무관)
+public class JournalClickSink implements ClickSink {
+
+    private final ClickJournal clickJournal;
+    private final ClickLogWriter clickLogWriter;
+
+    @Override
+    public void accept(ClickEvent event) {
+        try {
+            clickJournal.append(event);
+        } catch (Exception e) {
+            // 디스크 full 등 저널 장애 시에는 기존처럼 직접 INSERT
+            log.warn("Click journal append failed, falling back to direct insert", e);
+            clickLogWriter.write(List.of(event));
+        }
+    }
+
+    // 평소에는 mmap 버퍼에 쓰기만 함: 다음 세그먼트 생성/map 과 이전 세그먼트 force 는 ClickJournal 백그라운드 스레드에서
+    // (장애 시 fallback INSERT, standby 준비가 늦었을 때의 직접 rotate 는 예외 상황으로 본다)
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+}
@@ -0,0 +1,256 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.ConditionalOnClickIngestMode;
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@ConditionalOnClickIngestMode(ClickIngestProperties.Mode.REDIS_STREAM)
+// Redis Stream consumer group worker
+// - XREADGROUP 로 블록 단위로 읽어서 한 트랜잭션으로 bulk INSERT
+// - 커밋이 끝난 엔트리만 XACK (+ XDEL) → 중간에 죽으면 pending 으로 남아 재처리됨
+// - 다른 consumer 가 죽어서 남긴 pending 은 reclaimMinIdleMs 이후 XCLAIM 으로 가져와 처리
+// - MySQL 장애(연결/타임아웃 등)로 실패한 엔트리는 재전달 횟수와 상관없이 버리지 않는다 (pending 에 남겨 계속 재시도)
+// - 특정 레코드 때문에 배치가 실패하면 한 건씩 다시 써서 그 레코드만 dead-letter 스트림으로 옮긴다
+public class RedisStreamClickConsumer implements SmartLifecycle {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ClickLogWriter clickLogWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ClickIngestProperties.Stream props;
+    private final String consumerName;
+    private final Counter deadLettered;
+
+    private Thread worker;
+    private volatile boolean running = false;
+    private long nextReclaimAt = 0;
+
+    public RedisStreamClickConsumer(StringRedisTemplate redisTemplate,
+                                    ClickLogWriter clickLogWriter,
+                                    PlatformTransactionManager transactionManager,
+                                    ClickIngestProperties props,
+                                    MeterRegistry registry) {
+        this.redisTemplate = redisTemplate;
+        this.clickLogWriter = clickLogWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.props = props.getStream();
+        this.consumerName = (props.getStream().getConsumerName() == null || props.getStream().getConsumerName().isBlank())
+                ? ManagementFactory.getRuntimeMXBean().getName() // pid@host
+                : props.getStream().getConsumerName();
+        this.deadLettered = Counter.builder("clicks.ingest.dead_letter")
+                .description("적재할 수 없어 dead-letter 로 옮긴 클릭 수")
+                .tag("source", "redis-stream")
+                .register(registry);
+    }
+
+    private StreamOperations<String, Object, Object> stream() {
+        return redisTemplate.opsForStream();
+    }
+
+    private void ensureGroup() {
+        try {
+            // 스트림이 없으면 MKSTREAM 으로 같이 생성
+            stream().createGroup(props.getKey(), ReadOffset.from("0"), props.getGroup());
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP → 정상
+            String msg = String.valueOf(e.getMessage()) + (e.getCause() != null ? e.getCause().getMessage() : "");
+            if (!msg.contains("BUSYGROUP")) throw e;
+        }
+    }
+
+    // ========== worker loop ==========
+    private void consumeLoop() {
+        Consumer consumer = Consumer.from(props.getGroup(), consumerName);
+        StreamReadOptions options = StreamReadOptions.empty()
+                .count(props.getReadCount())
+                .block(Duration.ofMillis(props.getBlockMs()));
+        StreamOffset<String> offset = StreamOffset.create(props.getKey(), ReadOffset.lastConsumed());
+
+        // 재시작 시 같은 이름으로 남아 있던 내 pending 부터 처리
+        processOwnPending(consumer);
+
+        while (running) {
+            try {
+                if (System.currentTimeMillis() >= nextReclaimAt) {
+                    reclaimStale();
+                    nextReclaimAt = System.currentTimeMillis() + props.getReclaimIntervalMs();
+                }
+
+                List<MapRecord<String, Object, Object>> records = stream().read(consumer, options, offset);
+                if (records != null && !records.isEmpty()) {
+                    persistAndAck(records);
+                }
+            } catch (Exception e) {
+                // MySQL/Redis 일시 장애: ACK 안 한 엔트리는 pending 에 남으므로 잠깐 쉬고 계속
+                log.warn("Click stream consume failed, retrying", e);
+                sleepQuietly(1000);
+            }
+        }
+    }
+
+    private void processOwnPending(Consumer consumer) {
+        StreamReadOptions options = StreamReadOptions.empty().count(props.getReadCount());
+        StreamOffset<String> fromStart = StreamOffset.create(props.getKey(), ReadOffset.from("0"));
+        try {
+            while (running) {
+                List<MapRecord<String, Object, Object>> records = stream().read(consumer, options, fromStart);
+                if (records == null || records.isEmpty()) return;
+                persistAndAck(records);
+            }
+        } catch (Exception e) {
+            log.warn("Processing own pending clicks failed, will be reclaimed later", e);
+        }
+    }
+
+    // 죽은 consumer 가 남긴 pending 엔트리 회수
+    // XCLAIM 은 회수할 때마다 전달 횟수를 올리므로, DB 장애가 길면 정상 엔트리도 횟수가 계속 늘어난다
+    // → 횟수로 버리지 않고 경고만 남긴다 (레코드 자체 문제는 persistAndAck 에서 dead-letter 로 격리)
+    void reclaimStale() {
+        PendingMessages pending = stream().pending(props.getKey(), props.getGroup(), Range.unbounded(), props.getReadCount());
+        if (pending == null || pending.isEmpty()) return;
+
+        Duration minIdle = Duration.ofMillis(props.getReclaimMinIdleMs());
+        List<RecordId> toClaim = new ArrayList<>();
+        long maxDeliveries = 0;
+
+        for (PendingMessage pm : pending) {
+            if (pm.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) continue;
+            toClaim.add(pm.getId());
+            maxDeliveries = Math.max(maxDeliveries, pm.getTotalDeliveryCount());
+        }
+        if (toClaim.isEmpty()) return;
+
+        if (maxDeliveries > props.getMaxDeliveries()) {
+            log.warn("Click stream entries redelivered up to {} times (DB unavailable for a while?), still retrying", maxDeliveries);
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = stream().claim(
+                props.getKey(), props.getGroup(), consumerName, minIdle, toClaim.toArray(RecordId[]::new));
+        if (claimed != null && !claimed.isEmpty()) {
+            log.info("Reclaimed {} pending click stream entries", claimed.size());
+            persistAndAck(claimed);
+        }
+    }
+
+    void persistAndAck(List<MapRecord<String, Object, Object>> records) {
+        List<MapRecord<String, Object, Object>> decoded = new ArrayList<>(records.size());
+        List<ClickEvent> events = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                events.add(RedisStreamClickSink.ClickEventCodec.fromFields(record.getValue()));
+                decoded.add(record);
+            } catch (Exception e) {
+                // 깨진 엔트리는 재처리해도 소용없으므로 dead-letter 로 옮기고 ACK
+                log.error("Malformed click stream entry {}: {}", record.getId(), record.getValue(), e);
+                deadLetter(record, e);
+            }
+        }
+        if (decoded.isEmpty()) return;
+
+        // 배치 전체를 하나의 트랜잭션으로 커밋한 뒤에만 ACK
+        try {
+            transactionTemplate.executeWithoutResult(status -> clickLogWriter.write(events));
+        } catch (RuntimeException e) {
+            // DB/연결 장애 → 그대로 던져서 pending 에 남김 (장애가 길어져도 클릭을 버리지 않음)
+            if (!ClickLogWriter.isRecordError(e)) throw e;
+            log.warn("Click stream batch of {} failed on a record, retrying one by one", decoded.size(), e);
+            persistEachAndAck(decoded, events);
+            return;
+        }
+        ack(decoded.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+    }
+
+    // 배치를 쪼개서 한 건씩 커밋 → 실패한 레코드만 dead-letter. 도중에 DB 장애면 나머지는 pending 에 남김
+    private void persistEachAndAck(List<MapRecord<String, Object, Object>> records, List<ClickEvent> events) {
+        for (int i = 0; i < records.size(); i++) {
+            MapRecord<String, Object, Object> record = records.get(i);
+            List<ClickEvent> one = List.of(events.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> clickLogWriter.write(one));
+            } catch (RuntimeException e) {
+                if (!ClickLogWriter.isRecordError(e)) throw e;
+                log.error("Moving click stream entry {} to dead-letter: {}", record.getId(), record.getValue(), e);
+                deadLetter(record, e);
+                continue;
+            }
+            ack(record.getId());
+        }
+    }
+
+    // 원본 필드 + 원본 id / 오류를 dead-letter 스트림에 남긴 뒤 ACK (남기기 전에 죽으면 다시 처리됨)
+    private void deadLetter(MapRecord<String, Object, Object> record, Exception cause) {
+        Map<Object, Object> fields = new LinkedHashMap<>(record.getValue());
+        fields.put("sourceId", record.getId().getValue());
+        fields.put("error", String.valueOf(cause));
+        stream().add(StreamRecords.newRecord().in(props.getDeadLetterKey()).ofMap(fields));
+        ack(record.getId());
+        deadLettered.increment();
+    }
+
+    private void ack(RecordId... ids) {
+        stream().acknowledge(props.getKey(), props.getGroup(), ids);
+        // ACK 끝난 엔트리는 스트림에서 지워서 메모리 증가 방지
+        stream().delete(props.getKey(), ids);
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== lifecycle ==========
+    @Override
+    public void start() {
+        ensureGroup();
+        running = true;
+        worker = new Thread(this::consumeLoop, "click-stream-consumer");
+        worker.start();
+        log.info("Click stream consumer started (key={}, group={}, consumer={})",
+                props.getKey(), props.getGroup(), consumerName);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                // 진행 중인 XREADGROUP BLOCK + 배치 1개가 끝날 때까지 대기
+                worker.join(props.getBlockMs() + 10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Click stream consumer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
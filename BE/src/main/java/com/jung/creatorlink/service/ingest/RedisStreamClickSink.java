@@ -0,0 +1,65 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.ConditionalOnClickIngestMode;
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClickIngestMode(ClickIngestProperties.Mode.REDIS_STREAM)
+// 리다이렉트 경로: XADD 한 번 하고 바로 리턴. 실제 INSERT는 RedisStreamClickConsumer 가 담당.
+public class RedisStreamClickSink implements ClickSink {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ClickLogWriter clickLogWriter;
+    private final ClickIngestProperties props;
+
+    @Override
+    public void accept(ClickEvent event) {
+        try {
+            redisTemplate.opsForStream().add(props.getStream().getKey(), ClickEventCodec.toFields(event));
+        } catch (Exception e) {
+            // Redis 장애 시 클릭 유실 대신 기존처럼 직접 INSERT
+            log.warn("XADD failed, falling back to direct insert", e);
+            clickLogWriter.write(List.of(event));
+        }
+    }
+
+    // Stream 엔트리 <-> ClickEvent 변환 (null 필드는 저장하지 않음)
+    static final class ClickEventCodec {
+        private ClickEventCodec() {
+        }
+
+        static Map<String, String> toFields(ClickEvent e) {
+            Map<String, String> fields = new HashMap<>(8);
+            fields.put("l", Long.toString(e.getTrackingLinkId()));
+            if (e.getCampaignId() != null) fields.put("c", Long.toString(e.getCampaignId()));
+            fields.put("t", e.getClickedAt().toString());
+            if (e.getIp() != null) fields.put("ip", e.getIp());
+            if (e.getUserAgent() != null) fields.put("ua", e.getUserAgent());
+            if (e.getReferer() != null) fields.put("ref", e.getReferer());
+            return fields;
+        }
+
+        static ClickEvent fromFields(Map<Object, Object> fields) {
+            String campaignId = (String) fields.get("c"); // 이전 버전 엔트리에는 없음
+            return new ClickEvent(
+                    Long.parseLong((String) fields.get("l")),
+                    campaignId == null ? null : Long.parseLong(campaignId),
+                    LocalDateTime.parse((String) fields.get("t")),
+                    (String) fields.get("ip"),
+                    (String) fields.get("ua"),
+                    (String) fields.get("ref")
+            );
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.ClickCampaignBackfillProperties;
+import com.jung.creatorlink.repository.tracking.ClickLogJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.click-campaign-backfill", name = "enabled", havingValue = "true")
+// click_logs.campaign_id 백필
+// - campaign_id 가 빈 가장 작은 id 부터 chunk 단위 UPDATE ... JOIN tracking_links (autocommit, chunk 마다 짧은 락)
+//   시작 위치는 처음 한 번만 찾고 이후엔 커서를 chunk 만큼 넘긴다 (매 chunk 마다 남은 NULL 구간을 다시 훑지 않게)
+// - "IS NULL" 조건이라 여러 노드에서 돌거나 중간에 재시작해도 같은 행을 두 번 바꾸지 않는다
+// - 통계 쿼리는 백필 전 행(campaign_id NULL)을 링크 조인으로 따로 세므로 백필 중에도 결과는 같다 (NULL 구간이 줄어들수록 빨라질 뿐)
+public class ClickCampaignBackfill {
+
+    private final ClickLogJdbcRepository clickLogJdbcRepository;
+    private final ClickCampaignBackfillProperties props;
+
+    private long filled; // 스케줄러 단일 스레드에서만 접근
+    private boolean done;
+    private long cursor = -1; // 다음 chunk 시작 id (-1: 아직 시작 위치 모름)
+    private long endId;       // 시작 시점의 MAX(id). 이후 행은 INSERT 시 campaign_id 가 채워짐
+
+    public ClickCampaignBackfill(ClickLogJdbcRepository clickLogJdbcRepository,
+                                 ClickCampaignBackfillProperties props) {
+        this.clickLogJdbcRepository = clickLogJdbcRepository;
+        this.props = props;
+    }
+
+    @Scheduled(fixedDelayString = "${app.click-campaign-backfill.interval-ms:10000}")
+    public void backfill() {
+        if (done) return;
+        try {
+            if (cursor < 0) {
+                Long start = clickLogJdbcRepository.minIdWithoutCampaign();
+                if (start == null) {
+                    finish();
+                    return;
+                }
+                cursor = start;
+                endId = clickLogJdbcRepository.maxId();
+            }
+            for (int i = 0; i < props.getMaxChunksPerRun(); i++) {
+                if (cursor > endId) {
+                    Long left = clickLogJdbcRepository.minIdWithoutCampaign();
+                    if (left != null) {
+                        // 링크가 지워져 채울 수 없는 행만 남음 (FK 상 없어야 하지만 무한 반복 방지)
+                        log.warn("Click campaign backfill left rows without campaign (from id {}), stopping", left);
+                    }
+                    finish();
+                    return;
+                }
+                long next = cursor + props.getChunkSize();
+                filled += clickLogJdbcRepository.backfillCampaignIds(cursor, next);
+                cursor = next;
+            }
+            log.debug("Click campaign backfill in progress ({} rows filled)", filled);
+        } catch (Exception e) {
+            log.warn("Click campaign backfill failed (retry next run)", e);
+        }
+    }
+
+    private void finish() {
+        done = true;
+        if (filled > 0) log.info("Click campaign backfill finished ({} rows filled)", filled);
+    }
+}
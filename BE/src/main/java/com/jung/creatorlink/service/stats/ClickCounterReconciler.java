@@ -0,0 +1,127 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.ClickRollupProperties;
+import com.jung.creatorlink.repository.tracking.ClickCountJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.click-counter", name = "enabled", havingValue = "true")
+// Redis 클릭 카운터 ↔ MySQL 보정
+// - 보정값 = MySQL 집계(c) - "집계 직전에 읽어 둔" 카운터 값(r0), INCRBY 로 반영
+//   → 집계하는 동안 들어온 클릭 증가분은 그대로 보존된다. (SET 으로 덮으면 그 사이 클릭이 사라짐)
+// - 집계 전에 읽을 대상이 필요하므로 직전 실행에서 본 링크 집합을 대상으로 한다. (새 링크는 다음 실행부터 보정)
+// - 여러 노드가 동시에 보정하면 delta 가 중복 적용되므로 Redis 락으로 1개 노드만 실행
+public class ClickCounterReconciler {
+
+    private static final String LOCK_KEY = "clicks:reconcile:lock";
+
+    private final ClickCounterService clickCounterService;
+    private final ClickCountJdbcRepository clickCountJdbcRepository;
+    private final ClickRollupProperties rollupProps;
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private Set<Long> todayLinks = Set.of();
+    private LocalDate todayLinksDay;
+    private Set<Long> totalLinks = Set.of();
+
+    public ClickCounterReconciler(ClickCounterService clickCounterService,
+                                  ClickCountJdbcRepository clickCountJdbcRepository,
+                                  ClickRollupProperties rollupProps,
+                                  StringRedisTemplate redisTemplate) {
+        this.clickCounterService = clickCounterService;
+        this.clickCountJdbcRepository = clickCountJdbcRepository;
+        this.rollupProps = rollupProps;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${app.click-counter.today-reconcile-interval-ms:300000}", initialDelay = 30_000)
+    public void reconcileToday() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(todayLinksDay)) {
+            todayLinks = Set.of();
+            todayLinksDay = today;
+        }
+        todayLinks = withLock("today", () -> reconcile(
+                todayLinks,
+                ids -> clickCounterService.getDay(ids, today),
+                () -> clickCountJdbcRepository.countByLinkBetween(
+                        today.atStartOfDay(), today.plusDays(1).atStartOfDay(), rollupProps.isEnabled()),
+                (id, delta) -> clickCounterService.adjustDay(id, today, delta)), todayLinks);
+    }
+
+    @Scheduled(fixedDelayString = "${app.click-counter.total-reconcile-interval-ms:3600000}", initialDelay = 10_000)
+    public void reconcileTotal() {
+        totalLinks = withLock("total", () -> reconcile(
+                totalLinks,
+                clickCounterService::getTotal,
+                () -> clickCountJdbcRepository.countByLinkTotal(rollupProps.isEnabled()),
+                clickCounterService::adjustTotal), totalLinks);
+    }
+
+    // 보정 후 이번에 MySQL 에서 본 링크 집합 반환 (다음 실행의 대상)
+    // 대상이 비어 있으면(기동 직후/날짜 변경) 링크 집합만 얻고 끝나므로 바로 한 번 더 돌려 카운터를 채운다.
+    private Set<Long> reconcile(Set<Long> candidates,
+                                Function<List<Long>, List<Long>> readCounters,
+                                Supplier<Map<Long, Long>> countFromDb,
+                                BiConsumer<Long, Long> adjust) {
+        Set<Long> seen = reconcileOnce(candidates, readCounters, countFromDb, adjust);
+        if (candidates.isEmpty() && !seen.isEmpty()) {
+            seen = reconcileOnce(seen, readCounters, countFromDb, adjust);
+        }
+        return seen;
+    }
+
+    private Set<Long> reconcileOnce(Set<Long> candidates,
+                                    Function<List<Long>, List<Long>> readCounters,
+                                    Supplier<Map<Long, Long>> countFromDb,
+                                    BiConsumer<Long, Long> adjust) {
+        List<Long> ids = new ArrayList<>(candidates);
+        List<Long> before = readCounters.apply(ids);
+        Map<Long, Long> db = countFromDb.get();
+
+        int fixed = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            long delta = db.getOrDefault(ids.get(i), 0L) - before.get(i);
+            if (delta != 0) {
+                adjust.accept(ids.get(i), delta);
+                fixed++;
+            }
+        }
+        if (fixed > 0) {
+            log.info("Click counters reconciled: {} of {} links corrected", fixed, ids.size());
+        }
+        return Set.copyOf(db.keySet());
+    }
+
+    private Set<Long> withLock(String job, Supplier<Set<Long>> task, Set<Long> unchanged) {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, Duration.ofMinutes(10));
+        if (!Boolean.TRUE.equals(acquired)) return unchanged;
+        try {
+            return task.get();
+        } catch (Exception e) {
+            log.warn("Click counter reconciliation ({}) failed", job, e);
+            return unchanged;
+        } finally {
+            if (nodeId.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.ClickCounterProperties;
+import com.jung.creatorlink.service.ingest.ClickEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// 링크별 실시간 클릭 카운터 (Redis)
+//   clicks:link:{id}:day:{yyyy-MM-dd}  오늘 클릭 (TTL dayKeyTtlDays)
+//   clicks:link:{id}:total             누적 클릭
+// ACTIVE 링크만 집계하는 통계 정책 때문에 캠페인/광고주 합계는 링크 카운터를 MGET 으로 더한다.
+// 적재 후 INCRBY 라 재처리(at-least-once)/Redis 장애 시 어긋날 수 있음 → ClickCounterReconciler 가 MySQL 기준으로 보정
+public class ClickCounterService {
+
+    private static final int MGET_CHUNK = 1_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ClickCounterProperties props;
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    // ========== 쓰기 ==========
+    public void recordInserted(List<ClickEvent> events) {
+        if (!props.isEnabled() || events.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(events);
+                }
+            });
+        } else {
+            increment(events);
+        }
+    }
+
+    private void increment(List<ClickEvent> events) {
+        Map<String, Long> dayDeltas = new HashMap<>();
+        Map<String, Long> totalDeltas = new HashMap<>();
+        for (ClickEvent e : events) {
+            dayDeltas.merge(dayKey(e.getTrackingLinkId(), e.getClickedAt().toLocalDate()), 1L, Long::sum);
+            totalDeltas.merge(totalKey(e.getTrackingLinkId()), 1L, Long::sum);
+        }
+
+        long ttlSeconds = Duration.ofDays(props.getDayKeyTtlDays()).toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                dayDeltas.forEach((key, delta) -> {
+                    conn.incrBy(key, delta);
+                    conn.expire(key, ttlSeconds);
+                });
+                totalDeltas.forEach(conn::incrBy);
+                return null;
+            });
+        } catch (Exception e) {
+            // 클릭 적재는 이미 끝났으므로 실패시키지 않음. 차이는 보정 작업이 맞춘다.
+            log.warn("Click counter increment failed ({} events), reconciliation will correct", events.size(), e);
+        }
+    }
+
+    // ========== 읽기 ==========
+    public long sumDay(Collection<Long> linkIds, LocalDate day) {
+        return sum(getDay(linkIds, day));
+    }
+
+    public long sumTotal(Collection<Long> linkIds) {
+        return sum(getTotal(linkIds));
+    }
+
+    // 링크 id 순서대로 값 (키 없으면 0)
+    public List<Long> getDay(Collection<Long> linkIds, LocalDate day) {
+        return mget(linkIds.stream().map(id -> dayKey(id, day)).toList());
+    }
+
+    public List<Long> getTotal(Collection<Long> linkIds) {
+        return mget(linkIds.stream().map(ClickCounterService::totalKey).toList());
+    }
+
+    // ========== 보정 ==========
+    public void adjustDay(long linkId, LocalDate day, long delta) {
+        String key = dayKey(linkId, day);
+        redisTemplate.opsForValue().increment(key, delta);
+        redisTemplate.expire(key, Duration.ofDays(props.getDayKeyTtlDays()));
+    }
+
+    public void adjustTotal(long linkId, long delta) {
+        redisTemplate.opsForValue().increment(totalKey(linkId), delta);
+    }
+
+    private List<Long> mget(List<String> keys) {
+        List<Long> values = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i += MGET_CHUNK) {
+            List<String> raw = redisTemplate.opsForValue().multiGet(keys.subList(i, Math.min(keys.size(), i + MGET_CHUNK)));
+            if (raw == null) throw new IllegalStateException("Redis MGET 결과가 없습니다.");
+            for (String v : raw) {
+                values.add(v == null ? 0L : Long.parseLong(v));
+            }
+        }
+        return values;
+    }
+
+    private static long sum(List<Long> values) {
+        long total = 0;
+        for (long v : values) total += v;
+        return total;
+    }
+
+    static String dayKey(long linkId, LocalDate day) {
+        return "clicks:link:" + linkId + ":day:" + day;
+    }
+
+    static String totalKey(long linkId) {
+        return "clicks:link:" + linkId + ":total";
+    }
+}
@@ -0,0 +1,117 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.ClickRollupProperties;
+import com.jung.creatorlink.repository.tracking.ClickRollupJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.click-rollup", name = "enabled", havingValue = "true")
+// click_logs → click_counts_hourly 증분 롤업
+// - watermark(마지막으로 반영한 click_logs.id) 이후 구간을 chunk 단위로 upsert, 같은 트랜잭션에서 watermark 갱신 → 정확히 1번 반영
+// - AUTO_INCREMENT id 는 커밋 순서와 달라서, 방금 본 max(id) 아래에 아직 커밋 안 된 id 가 있을 수 있다.
+//   → 이번 tick 에는 "이전 tick 에 본 max(id)" 까지만 말아 올린다 (한 주기 동안 커밋될 시간을 줌)
+// - 그래도 한 주기보다 오래 걸린 트랜잭션의 행은 watermark 아래로 들어온다 (tail 은 id > watermark 만 읽으므로 영영 빠짐)
+//   → chunk 를 말 때 비어 있던 id 구간을 gap 으로 같은 트랜잭션에 기록해 두고, 매 tick gap 안에 새로 보이는 행을 말아 올린다.
+//     gap 은 gap-retention-ms 동안 유지 (그 뒤는 롤백된 id 로 간주하고 버림)
+//     보장 범위: 롤업 후 gap-retention-ms 안에 커밋된 행까지. 그 전까지 통계에서는 최대 한 주기 늦게 보인다
+// - watermark row 를 FOR UPDATE 로 잡으므로 여러 노드에서 돌아도 같은 구간을 두 번 말지 않는다.
+public class ClickRollupCompactor {
+
+    private final ClickRollupJdbcRepository clickRollupJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ClickRollupProperties props;
+
+    private long pendingUpper = -1; // 이전 tick 에 관측한 max(id), 스케줄러 단일 스레드에서만 접근
+
+    public ClickRollupCompactor(ClickRollupJdbcRepository clickRollupJdbcRepository,
+                                PlatformTransactionManager transactionManager,
+                                ClickRollupProperties props) {
+        this.clickRollupJdbcRepository = clickRollupJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.props = props;
+    }
+
+    @Scheduled(fixedDelayString = "${app.click-rollup.interval-ms:60000}")
+    public void compact() {
+        try {
+            long observed = clickRollupJdbcRepository.maxClickLogId();
+            long upper = pendingUpper;
+            pendingUpper = observed;
+            repairGaps();
+            if (upper <= 0) return;
+
+            long start = System.currentTimeMillis();
+            boolean advanced = false;
+            while (compactChunk(upper) != null) {
+                advanced = true;
+            }
+            if (advanced) {
+                log.debug("Click rollup advanced to id {} ({}ms)", upper, System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.warn("Click rollup failed (stats fall back to raw tail until next run)", e);
+        }
+    }
+
+    // 한 chunk 반영 후 새 watermark 반환, 더 할 게 없으면 null
+    private Long compactChunk(long upper) {
+        return transactionTemplate.execute(status -> {
+            long watermark = clickRollupJdbcRepository.lockWatermark();
+            if (watermark >= upper) return null;
+
+            long to = Math.min(upper, watermark + props.getChunkSize());
+            clickRollupJdbcRepository.rollup(watermark, to);
+            clickRollupJdbcRepository.saveGaps(clickRollupJdbcRepository.findGaps(watermark, to));
+            clickRollupJdbcRepository.saveWatermark(to);
+            return to;
+        });
+    }
+
+    // gap 안에 늦게 커밋된 행을 말아 올리고, 그 id 들을 gap 에서 뺀다
+    // watermark row lock 안에서 → 다른 노드의 chunk/repair 와 겹치지 않음
+    private void repairGaps() {
+        Integer lateRows = transactionTemplate.execute(status -> {
+            clickRollupJdbcRepository.lockWatermark();
+            clickRollupJdbcRepository.deleteGapsOlderThan(props.getGapRetentionMs());
+
+            int rolled = 0;
+            for (ClickRollupJdbcRepository.Gap gap : clickRollupJdbcRepository.listGaps()) {
+                List<Long> ids = clickRollupJdbcRepository.findIdsIn(gap.fromId(), gap.toId());
+                if (ids.isEmpty()) continue;
+
+                // 연속된 id 묶음 [runStart, runEnd] 는 빈틈이 없으므로 기존 구간 롤업 그대로 정확히 1번 반영
+                List<long[]> remaining = new ArrayList<>();
+                long next = gap.fromId();
+                int i = 0;
+                while (i < ids.size()) {
+                    long runStart = ids.get(i);
+                    long runEnd = runStart;
+                    while (i + 1 < ids.size() && ids.get(i + 1) == runEnd + 1) {
+                        runEnd = ids.get(++i);
+                    }
+                    i++;
+                    if (runStart > next) remaining.add(new long[]{next, runStart - 1});
+                    clickRollupJdbcRepository.rollup(runStart - 1, runEnd);
+                    next = runEnd + 1;
+                }
+                if (next <= gap.toId()) remaining.add(new long[]{next, gap.toId()});
+
+                clickRollupJdbcRepository.replaceGap(gap.id(), remaining);
+                rolled += ids.size();
+            }
+            return rolled;
+        });
+        if (lateRows != null && lateRows > 0) {
+            log.info("Click rollup picked up {} late-committed click_logs rows", lateRows);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.domain.common.Status;
+import com.jung.creatorlink.dto.stats.CampaignKpiClicksAgg;
+import com.jung.creatorlink.dto.stats.ChannelRankingResponse;
+import com.jung.creatorlink.dto.stats.CombinationStatsResponse;
+import com.jung.creatorlink.repository.tracking.ClickCountHourlyRepository;
+import com.jung.creatorlink.repository.tracking.ClickLogRepository;
+import com.jung.creatorlink.repository.tracking.ClickRollupJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+// 롤업(click_counts_hourly) + tail(click_logs.id > watermark) 합산 통계
+// watermark / 롤업 / tail 을 한 트랜잭션(스냅샷)에서 읽어야 compactor 와 겹쳐도 이중 집계/누락이 없다.
+// (MySQL REPEATABLE READ: 첫 SELECT 시점 스냅샷을 트랜잭션 끝까지 사용)
+public class ClickRollupStatsReader {
+
+    private final ClickRollupJdbcRepository clickRollupJdbcRepository;
+    private final ClickCountHourlyRepository clickCountHourlyRepository;
+    private final ClickLogRepository clickLogRepository;
+
+    @Transactional(readOnly = true)
+    public List<CombinationStatsResponse> findCombinationStats(
+            Long campaignId, LocalDateTime todayStart, LocalDateTime tomorrowStart,
+            LocalDateTime from, LocalDateTime to) {
+        long watermark = clickRollupJdbcRepository.currentWatermark();
+
+        // 롤업 쪽은 ACTIVE 링크 조합 전체(0 포함), tail 쪽은 클릭 있는 조합만 → 롤업 기준으로 더한다.
+        Map<List<Long>, CombinationStatsResponse> merged = new LinkedHashMap<>();
+        for (CombinationStatsResponse r : clickCountHourlyRepository.findCombinationStats(
+                campaignId, Status.ACTIVE, todayStart, tomorrowStart, from, to)) {
+            merged.put(List.of(r.getCreatorId(), r.getChannelId()), r);
+        }
+        for (CombinationStatsResponse t : clickLogRepository.findCombinationStatsTail(
+                watermark, campaignId, Status.ACTIVE, todayStart, tomorrowStart, from, to)) {
+            merged.merge(List.of(t.getCreatorId(), t.getChannelId()), t, (a, b) -> new CombinationStatsResponse(
+                    a.getCreatorId(), a.getCreatorName(), a.getChannelId(), a.getChannelDisplayName(),
+                    a.getTodayClicks() + b.getTodayClicks(),
+                    a.getRangeClicks() + b.getRangeClicks(),
+                    a.getTotalClicks() + b.getTotalClicks()));
+        }
+
+        // ClickLogRepository.findCombinationStats 와 같은 정렬
+        List<CombinationStatsResponse> result = new ArrayList<>(merged.values());
+        result.sort(Comparator.comparingLong(CombinationStatsResponse::getTodayClicks).reversed()
+                .thenComparing(Comparator.comparingLong(CombinationStatsResponse::getRangeClicks).reversed())
+                .thenComparing(CombinationStatsResponse::getCreatorId)
+                .thenComparing(CombinationStatsResponse::getChannelId));
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChannelRankingResponse> findChannelRanking(
+            Long campaignId, LocalDateTime from, LocalDateTime to, int limit) {
+        long watermark = clickRollupJdbcRepository.currentWatermark();
+
+        Map<Long, ChannelRankingResponse> merged = new LinkedHashMap<>();
+        for (ChannelRankingResponse r : clickCountHourlyRepository.findChannelRanking(campaignId, Status.ACTIVE, from, to)) {
+            merged.put(r.getChannelId(), r);
+        }
+        for (ChannelRankingResponse t : clickLogRepository.findChannelRankingTail(watermark, campaignId, Status.ACTIVE, from, to)) {
+            merged.merge(t.getChannelId(), t, (a, b) -> new ChannelRankingResponse(
+                    a.getChannelId(), a.getChannelDisplayName(), a.getClicks() + b.getClicks()));
+        }
+
+        // ClickLogRepository.findChannelRanking 과 같은 정렬 + Top-N
+        return merged.values().stream()
+                .sorted(Comparator.comparingLong(ChannelRankingResponse::getClicks).reversed()
+                        .thenComparing(ChannelRankingResponse::getChannelId))
+                .limit(limit)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public CampaignKpiClicksAgg findCampaignKpiClicks(
+            Long campaignId, LocalDateTime todayStart, LocalDateTime tomorrowStart,
+            LocalDateTime from, LocalDateTime to) {
+        long watermark = clickRollupJdbcRepository.currentWatermark();
+
+        CampaignKpiClicksAgg rolled = clickCountHourlyRepository.findCampaignKpiClicks(
+                campaignId, Status.ACTIVE, todayStart, tomorrowStart, from, to);
+        CampaignKpiClicksAgg tail = clickLogRepository.findCampaignKpiClicksTail(
+                watermark, campaignId, Status.ACTIVE, todayStart, tomorrowStart, from, to);
+
+        return new CampaignKpiClicksAgg(
+                rolled.getTodayClicks() + tail.getTodayClicks(),
+                rolled.getRangeClicks() + tail.getRangeClicks(),
+                rolled.getTotalClicks() + tail.getTotalClicks());
+    }
+}
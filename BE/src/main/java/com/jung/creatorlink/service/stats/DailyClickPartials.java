@@ -0,0 +1,207 @@
+package com.jung.creatorlink.service.stats;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.jung.creatorlink.config.props.ClickRollupProperties;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import com.jung.creatorlink.repository.tracking.ClickCountJdbcRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
+import com.jung.creatorlink.service.cache.StatsCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// (캠페인, 날짜)별 링크 클릭 수 partial 캐시
+//   stats:day:{campaignId}:{yyyy-MM-dd} = {linkId: clicks}
+// - 임의 기간 = 그 기간 날짜 partial 합 → 기간을 하루 밀면 새로 집계하는 건 하루치뿐
+// - 지난 날짜는 불변이라 TTL 을 길게, 오늘은 기본 TTL(짧게)
+// - 링크 상태와 무관하게 저장하고 ACTIVE 필터는 조립 시 현재 링크 집합으로 (비활성화돼도 partial 은 그대로 유효)
+// - 날짜별 partial 은 MGET 으로 한 번에 읽고, 새로 계산한 날짜들은 파이프라인 SET 1번으로 저장 (날짜 수만큼 왕복 X)
+// - 비어 있는 날짜들은 연속 구간으로 묶어 쿼리 1번에 날짜별로 나눠 받는다
+public class DailyClickPartials {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final TypeReference<Map<Long, Long>> LINK_COUNTS = new TypeReference<>() {
+    };
+
+    private final StatsCacheService statsCacheService;
+    private final ClickCountJdbcRepository clickCountJdbcRepository;
+    private final ClickRollupProperties clickRollupProperties;
+    private final StatsCacheProperties props;
+    private final ParallelStatsAggregator parallelStatsAggregator;
+    private final StatsCacheGeneration statsCacheGeneration;
+
+    public boolean isEnabled() {
+        return props.isEnabled() && props.isDailyPartials();
+    }
+
+    // [from, to] (양끝 포함) 링크별 클릭 합계. 오늘 이후 날짜는 0
+    public Map<Long, Long> rangeByLink(Long campaignId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate last = to.isAfter(today) ? today : to;
+
+        List<String> keys = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(last); day = day.plusDays(1)) {
+            keys.add(key(campaignId, day));
+        }
+        Map<String, Map<Long, Long>> cached = statsCacheService.getAll(keys, LINK_COUNTS);
+
+        Map<Long, Long> merged = new HashMap<>();
+        List<LocalDate> missing = new ArrayList<>();
+        LocalDate day = from;
+        for (String key : keys) {
+            Map<Long, Long> partial = cached.get(key);
+            if (partial != null) {
+                partial.forEach((linkId, clicks) -> merged.merge(linkId, clicks, Long::sum));
+            } else {
+                missing.add(day);
+            }
+            day = day.plusDays(1);
+        }
+
+        for (Map<Long, Long> computed : computeAndStore(campaignId, missing).values()) {
+            computed.forEach((linkId, clicks) -> merged.merge(linkId, clicks, Long::sum));
+        }
+        return merged;
+    }
+
+    public Map<Long, Long> dayByLink(Long campaignId, LocalDate day) {
+        return rangeByLink(campaignId, day, day);
+    }
+
+    // 누적 = 어제까지 누적(하루 동안 불변 → 키에 날짜 포함) + 오늘 partial
+    public Map<Long, Long> totalByLink(Long campaignId) {
+        LocalDate today = LocalDate.now(KST);
+        String beforeKey = beforeKey(campaignId, today);
+
+        Map<Long, Long> total = new HashMap<>(statsCacheService.get(beforeKey, LINK_COUNTS).orElseGet(() -> {
+            Map<Long, Long> computed = clickCountJdbcRepository.countByLinkBeforeForCampaign(
+                    campaignId, today.atStartOfDay(), clickRollupProperties.isEnabled());
+            statsCacheService.set(beforeKey, computed, ttlFor(today.minusDays(1)));
+            return computed;
+        }));
+        dayByLink(campaignId, today).forEach((linkId, clicks) -> total.merge(linkId, clicks, Long::sum));
+        return total;
+    }
+
+    // 과거 집계가 바뀌는 경우(시드/리셋)에만
+    public void evict(Long campaignId) {
+        statsCacheService.evictByPattern("stats:day:" + campaignId + ":*");
+        statsCacheService.evictByPattern("stats:before:" + campaignId + ":*");
+    }
+
+    // 닫힌 날짜(긴 TTL)에 늦게 적재된 클릭: 그 날짜 partial 과 오늘 기준 누적을 지우고 응답 캐시 세대 올림
+    // 트랜잭션 안이면 커밋 후에 (커밋 전에 지우면 그 사이 재집계가 클릭 없이 다시 길게 캐시)
+    public void evictLateDays(Map<Long, Set<LocalDate>> daysByCampaign) {
+        if (daysByCampaign.isEmpty()) return;
+        Runnable evict = () -> {
+            LocalDate today = LocalDate.now(KST);
+            List<String> keys = new ArrayList<>();
+            daysByCampaign.forEach((campaignId, days) -> {
+                days.forEach(day -> keys.add(key(campaignId, day)));
+                keys.add(beforeKey(campaignId, today)); // 더 이전 날짜의 before 키는 다시 읽히지 않음
+            });
+            try {
+                statsCacheService.evict(keys);
+            } catch (Exception e) {
+                log.warn("Late click partial eviction failed: campaigns={}", daysByCampaign.keySet(), e);
+            }
+            log.info("Late clicks for closed days, partials evicted: {}", daysByCampaign);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+        statsCacheGeneration.bumpAll(daysByCampaign.keySet());
+    }
+
+    public void evictAll() {
+        statsCacheService.evictByPattern("stats:day:*");
+        statsCacheService.evictByPattern("stats:before:*");
+    }
+
+    // 연속된 빈 날짜끼리 묶어서 구간당 쿼리 1번
+    // 병렬 집계 사용 시 구간을 sliceDays 일씩 잘라 동시에 (90일 cold miss = 90일 GROUP BY 1번 → 15일 × 6개 동시)
+    private Map<LocalDate, Map<Long, Long>> computeAndStore(Long campaignId, List<LocalDate> missing) {
+        int sliceDays = parallelStatsAggregator.isEnabled() ? parallelStatsAggregator.sliceDays() : Integer.MAX_VALUE;
+        List<LocalDate[]> slices = new ArrayList<>();
+        int i = 0;
+        while (i < missing.size()) {
+            int j = i;
+            while (j + 1 < missing.size() && j - i + 1 < sliceDays
+                    && missing.get(j + 1).equals(missing.get(j).plusDays(1))) j++;
+            slices.add(new LocalDate[]{missing.get(i), missing.get(j)});
+            i = j + 1;
+        }
+        if (slices.isEmpty()) return Map.of();
+
+        boolean useRollup = clickRollupProperties.isEnabled();
+        List<Supplier<Map<LocalDate, Map<Long, Long>>>> parts = slices.stream()
+                .<Supplier<Map<LocalDate, Map<Long, Long>>>>map(slice -> () -> clickCountJdbcRepository.countByLinkAndDayForCampaign(
+                        campaignId, slice[0].atStartOfDay(), slice[1].plusDays(1).atStartOfDay(), useRollup))
+                .toList();
+        List<Map<LocalDate, Map<Long, Long>>> computed = parts.size() > 1
+                ? parallelStatsAggregator.invokeAll(parts)
+                : List.of(parts.get(0).get());
+
+        Map<LocalDate, Map<Long, Long>> result = new HashMap<>();
+        Map<String, Map<Long, Long>> toStore = new HashMap<>();
+        Map<String, Duration> ttls = new HashMap<>();
+        for (int k = 0; k < slices.size(); k++) {
+            LocalDate[] slice = slices.get(k);
+            for (LocalDate day = slice[0]; !day.isAfter(slice[1]); day = day.plusDays(1)) {
+                Map<Long, Long> counts = computed.get(k).getOrDefault(day, Map.of());
+                toStore.put(key(campaignId, day), counts);
+                ttls.put(key(campaignId, day), ttlFor(day));
+                result.put(day, counts);
+            }
+            log.debug("Daily partials computed: campaign={} {}~{}", campaignId, slice[0], slice[1]);
+        }
+        statsCacheService.setAll(toStore, ttls::get);
+        return result;
+    }
+
+    // 자정 + 유예시간이 지난 날짜만 "닫힌 날" (늦게 적재되는 클릭 대비), 나머지는 기본 TTL
+    private Duration ttlFor(LocalDate day) {
+        if (isClosed(day)) {
+            return Duration.ofSeconds(props.getClosedDayTtlSeconds());
+        }
+        return Duration.ofSeconds(props.getTtlSeconds());
+    }
+
+    // 닫힌 날짜 partial 은 긴 TTL 로 캐시됨 → 그 뒤에 적재된 클릭은 evictLateDays 로 반영
+    public boolean isClosed(LocalDate day) {
+        LocalDateTime closedAt = day.plusDays(1).atStartOfDay().plusSeconds(props.getDayCloseGraceSeconds());
+        return LocalDateTime.now(KST).isAfter(closedAt);
+    }
+
+    private static String beforeKey(Long campaignId, LocalDate today) {
+        return "stats:before:" + campaignId + ":" + today;
+    }
+
+    private static String key(Long campaignId, LocalDate day) {
+        return "stats:day:" + campaignId + ":" + day;
+    }
+}
@@ -0,0 +1,87 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.AnalyticsRoutingDataSource;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+@Component
+// cold miss 집계를 조각(날짜 slice / 링크 id shard)으로 나눠 동시에 실행
+// - 조각마다 별도 readOnly 트랜잭션 → 각자 커넥션 1개, 조각 결과는 호출자가 합친다
+// - 풀은 모든 요청이 공유 → 동시에 쓰는 커넥션은 aggregationThreads 개를 넘지 않음
+//   (제출하는 쪽은 크기가 고정된 loader/refresh/warm 스레드라 큐가 한없이 쌓이지 않는다)
+// - 조각 안에서는 다시 제출하지 않음 (풀 스레드끼리 서로 기다리는 교착 없음)
+public class ParallelStatsAggregator {
+
+    private final ExecutorService executor;
+    private final TransactionTemplate readOnlyTx;
+    private final StatsCacheProperties props;
+
+    public ParallelStatsAggregator(StatsCacheProperties props, PlatformTransactionManager transactionManager) {
+        this.props = props;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, props.getAggregationThreads()),
+                new CustomizableThreadFactory("stats-agg-"));
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public boolean isEnabled() {
+        return props.getAggregationThreads() > 1;
+    }
+
+    public int sliceDays() {
+        return Math.max(1, props.getAggregationSliceDays());
+    }
+
+    public int shards() {
+        return Math.max(1, props.getAggregationShards());
+    }
+
+    // 조각을 모두 실행하고 입력 순서대로 결과 반환. 하나라도 실패하면 나머지는 취소하고 그 예외를 던짐
+    public <T> List<T> invokeAll(List<Supplier<T>> parts) {
+        if (parts.size() == 1) {
+            T result = readOnlyTx.execute(status -> parts.get(0).get());
+            return Collections.singletonList(result);
+        }
+
+        List<Future<T>> futures = new ArrayList<>(parts.size());
+        for (Supplier<T> part : parts) {
+            // 풀 스레드에는 호출 스레드의 라우팅 범위가 없으므로 다시 지정
+            futures.add(executor.submit(() -> AnalyticsRoutingDataSource.analytics(
+                    () -> readOnlyTx.execute(status -> part.get()))));
+        }
+
+        List<T> results = new ArrayList<>(parts.size());
+        try {
+            for (Future<T> f : futures) {
+                results.add(f.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("통계 병렬 집계가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("통계 병렬 집계에 실패했습니다.", e.getCause());
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
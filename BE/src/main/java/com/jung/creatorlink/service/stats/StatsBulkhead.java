@@ -0,0 +1,130 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.common.exception.StatsOverloadedException;
+import com.jung.creatorlink.config.AnalyticsRoutingDataSource;
+import com.jung.creatorlink.config.props.StatsBulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+// 통계 DB 경로 bulkhead (엔드포인트별 칸막이)
+// - 자리(permit) = 동시에 DB 를 쓰는 실행 수. 커넥션을 잡기 전에 획득해야 대기 중에 커넥션을 붙잡지 않는다
+//   (트랜잭션 메서드는 컨트롤러에서, 캐시 miss 집계는 loader 스레드에서 쿼리 직전에 감싼다)
+// - 자리가 없으면 maxWaiting 명까지만 maxWaitMs 동안 기다리고, 그 밖은 바로 503 + Retry-After
+// - 칸별 자리와 별도로 전체 상한(maxTotalConcurrent = analytics 풀 - aggregation-threads)을 한 번 더 건다
+//   → 칸별 값은 콜드 집계(수십 초)를 감안해 넉넉히 두어도 풀을 넘지 않음
+// - 백그라운드 갱신/워밍은 BACKGROUND 칸 (사용자 요청 칸의 자리를 쓰지 않음)
+// - 분석 조회가 몰려도 통계가 쓰는 커넥션은 합계 상한을 넘지 않으므로 클릭 경로 커넥션은 남는다
+// - 감싼 작업의 읽기는 analytics 풀로 (풀 분리 사용 시, AnalyticsRoutingDataSource)
+// 지표: stats.bulkhead.active / stats.bulkhead.waiting (gauge), stats.bulkhead.rejected (counter), tag endpoint
+public class StatsBulkhead {
+
+    public static final String COMBINATION = "combination";
+    public static final String RANKING = "ranking";
+    public static final String KPI = "kpi";
+    public static final String CREATORS = "creators";
+    public static final String CAMPAIGNS = "campaigns";
+    public static final String TODAY = "today";
+    public static final String BACKGROUND = "background"; // stale 갱신 / 캐시 워밍
+
+    private final StatsBulkheadProperties props;
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Compartment> compartments = new ConcurrentHashMap<>();
+    private final Semaphore total;
+
+    public StatsBulkhead(StatsBulkheadProperties props, MeterRegistry registry) {
+        this.props = props;
+        this.registry = registry;
+        this.total = new Semaphore(Math.max(1, props.getMaxTotalConcurrent()));
+    }
+
+    public <T> T call(String endpoint, Supplier<T> work) {
+        if (!props.isEnabled()) return AnalyticsRoutingDataSource.analytics(work);
+
+        Compartment c = compartments.computeIfAbsent(endpoint, this::newCompartment);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(c.maxWaitMs);
+        c.acquire(c.permits, deadline);
+        try {
+            c.acquire(total, deadline);
+            try {
+                return AnalyticsRoutingDataSource.analytics(work);
+            } finally {
+                total.release();
+            }
+        } finally {
+            c.permits.release();
+        }
+    }
+
+    private Compartment newCompartment(String endpoint) {
+        StatsBulkheadProperties.Limit limit = props.getEndpoints().get(endpoint);
+        int maxConcurrent = limit != null && limit.getMaxConcurrent() != null ? limit.getMaxConcurrent() : props.getMaxConcurrent();
+        int maxWaiting = limit != null && limit.getMaxWaiting() != null ? limit.getMaxWaiting() : props.getMaxWaiting();
+        long maxWaitMs = limit != null && limit.getMaxWaitMs() != null ? limit.getMaxWaitMs() : props.getMaxWaitMs();
+        return new Compartment(endpoint, Math.max(1, maxConcurrent), maxWaiting, maxWaitMs);
+    }
+
+    private class Compartment {
+        private final String endpoint;
+        private final int maxConcurrent;
+        private final int maxWaiting;
+        private final long maxWaitMs;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Counter rejected;
+
+        Compartment(String endpoint, int maxConcurrent, int maxWaiting, long maxWaitMs) {
+            this.endpoint = endpoint;
+            this.maxConcurrent = maxConcurrent;
+            this.maxWaiting = maxWaiting;
+            this.maxWaitMs = maxWaitMs;
+            this.permits = new Semaphore(maxConcurrent);
+            this.rejected = Counter.builder("stats.bulkhead.rejected")
+                    .description("통계 bulkhead 포화로 503 처리한 요청 수")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            Gauge.builder("stats.bulkhead.active", this, c -> c.maxConcurrent - c.permits.availablePermits())
+                    .description("DB 를 쓰고 있는 통계 실행 수")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            Gauge.builder("stats.bulkhead.waiting", waiting, AtomicInteger::get)
+                    .description("자리를 기다리는 통계 실행 수")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+        }
+
+        // 칸 자리 → 전체 자리 순서로, 대기 시간은 합쳐서 maxWaitMs 까지
+        void acquire(Semaphore semaphore, long deadlineNanos) {
+            if (semaphore.tryAcquire()) return;
+
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                throw reject();
+            }
+            boolean acquired;
+            try {
+                acquired = semaphore.tryAcquire(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+            if (!acquired) throw reject();
+        }
+
+        private StatsOverloadedException reject() {
+            rejected.increment();
+            return new StatsOverloadedException(
+                    "통계 조회 요청이 많습니다. 잠시 후 다시 시도해주세요. (" + endpoint + ")", props.getRetryAfterSeconds());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.StatsWarmProperties;
+import com.jung.creatorlink.domain.campaign.Campaign;
+import com.jung.creatorlink.domain.common.Status;
+import com.jung.creatorlink.repository.campaign.CampaignRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.stats-warm", name = "enabled", havingValue = "true")
+// 통계 캐시 워밍 (한가한 시간에 많이 조회된 캐시 키를 미리 계산)
+// - 대상: StatsRequestLog 에서 많이 조회된 (캠페인, 상대 기간) 중 지금도 ACTIVE 인 캠페인만
+//   (광고주별 findAllByAdvertiserIdAndStatus(ACTIVE) 로 확인 → 삭제/소유권 바뀐 캠페인은 건너뜀)
+// - 이미 fresh 캐시가 있으면 건너뛰고, DB 집계는 maxConcurrency 개까지만 동시에, 1회 실행당
+//   maxComputations 회 / maxDurationMs 안에서만 수행 (남은 대상은 다음 실행이나 실제 요청이 채움)
+// - 일별 partial 을 쓰면 여기서 어제까지의 닫힌 날짜가 긴 TTL 로 채워져서, 낮 시간의 조회는 오늘 분만 집계하면 된다.
+// - 여러 노드에서 돌아도 fresh 확인 + 분산 lease 로 같은 키를 두 번 집계하지 않는다.
+public class StatsCacheWarmer {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final StatsRequestLog statsRequestLog;
+    private final StatsService statsService;
+    private final CampaignRepository campaignRepository;
+    private final StatsWarmProperties props;
+
+    public StatsCacheWarmer(StatsRequestLog statsRequestLog, StatsService statsService,
+                            CampaignRepository campaignRepository, StatsWarmProperties props) {
+        this.statsRequestLog = statsRequestLog;
+        this.statsService = statsService;
+        this.campaignRepository = campaignRepository;
+        this.props = props;
+    }
+
+    @Scheduled(cron = "${app.stats-warm.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void warm() {
+        try {
+            List<StatsRequestLog.RequestedRange> targets = selectTargets();
+            if (!targets.isEmpty()) run(targets);
+        } catch (Exception e) {
+            log.warn("Stats cache warming failed", e);
+        }
+    }
+
+    // 많이 조회된 순서 유지, 캠페인별 상위 topRangesPerCampaign 개
+    private List<StatsRequestLog.RequestedRange> selectTargets() {
+        List<StatsRequestLog.RequestedRange> ranges = statsRequestLog.topRanges();
+
+        Map<Long, Set<Long>> activeByAdvertiser = new HashMap<>();
+        Map<Long, Integer> perCampaign = new HashMap<>();
+        List<StatsRequestLog.RequestedRange> targets = new ArrayList<>();
+        for (StatsRequestLog.RequestedRange r : ranges) {
+            Set<Long> active = activeByAdvertiser.computeIfAbsent(r.advertiserId(), this::activeCampaignIds);
+            if (!active.contains(r.campaignId())) continue;
+            if (perCampaign.merge(r.campaignId(), 1, Integer::sum) > props.getTopRangesPerCampaign()) continue;
+            targets.add(r);
+        }
+        return targets;
+    }
+
+    private Set<Long> activeCampaignIds(Long advertiserId) {
+        return campaignRepository.findAllByAdvertiserIdAndStatus(advertiserId, Status.ACTIVE).stream()
+                .map(Campaign::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private void run(List<StatsRequestLog.RequestedRange> targets) throws InterruptedException {
+        LocalDate today = LocalDate.now(KST);
+        long start = System.currentTimeMillis();
+        long deadline = start + props.getMaxDurationMs();
+        AtomicInteger computed = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, props.getMaxConcurrency()), r -> {
+            Thread t = new Thread(r, "stats-warm");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(targets.size());
+            // 많이 조회된 순서대로 제출 → 예산은 상위 대상부터 쓰인다
+            for (StatsRequestLog.RequestedRange r : targets) {
+                futures.add(executor.submit(() -> {
+                    // 예산 초과 후에는 큐에 남은 대상을 실행하지 않고 버림
+                    if (computed.get() >= props.getMaxComputations() || System.currentTimeMillis() > deadline) {
+                        skipped.incrementAndGet();
+                        return;
+                    }
+                    try {
+                        if (warmOne(r, today)) computed.incrementAndGet();
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.debug("Stats warm failed (campaign={}, kind={})", r.campaignId(), r.kind(), e);
+                    }
+                }));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+                futures.forEach(f -> f.cancel(true));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Stats cache warming done: targets={}, computed={}, skipped={}, failed={} ({}ms)",
+                targets.size(), computed.get(), skipped.get(), failed.get(), System.currentTimeMillis() - start);
+    }
+
+    private boolean warmOne(StatsRequestLog.RequestedRange r, LocalDate today) {
+        LocalDate from = r.from(today);
+        LocalDate to = r.to(today);
+        if (StatsRequestLog.KIND_RANKING.equals(r.kind())) {
+            return statsService.warmChannelRanking(r.campaignId(), from, to, r.limit());
+        }
+        return statsService.warmCombination(r.campaignId(), r.advertiserId(), from, to);
+    }
+}
@@ -0,0 +1,152 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.StatsWarmProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+// 통계 API 요청 로그 (캐시 워밍 대상 선정용)
+//   stats:reqlog:{yyyy-MM-dd} (ZSET) member = kind|advertiserId|campaignId|fromOffset|toOffset|limit, score = 요청 수
+// - 기간은 "오늘 기준 며칠 전" 으로 저장 → "최근 7일" 같은 조회가 다음 날에도 같은 항목으로 잡힌다
+// - 요청마다 Redis 를 치지 않도록 메모리에 모았다가 주기적으로 ZINCRBY (파이프라인)
+// - 성공 응답한 요청만 기록 (호출 쪽). 한 주기에 모으는 서로 다른 항목 수는 상한까지만 (넘치면 새 항목은 버림)
+public class StatsRequestLog {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    static final String KIND_COMBINATION = "comb";
+    static final String KIND_RANKING = "rank";
+
+    private final StringRedisTemplate redisTemplate;
+    private final StatsWarmProperties props;
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    public StatsRequestLog(StringRedisTemplate redisTemplate, StatsWarmProperties props) {
+        this.redisTemplate = redisTemplate;
+        this.props = props;
+    }
+
+    // 자주 조회된 (종류, 캠페인, 상대 기간)
+    public record RequestedRange(String kind, long advertiserId, long campaignId,
+                                 int fromOffset, int toOffset, int limit, double count) {
+
+        public LocalDate from(LocalDate today) {
+            return today.minusDays(fromOffset);
+        }
+
+        public LocalDate to(LocalDate today) {
+            return today.minusDays(toOffset);
+        }
+    }
+
+    public void recordCombination(Long campaignId, Long advertiserId, LocalDate from, LocalDate to) {
+        record(KIND_COMBINATION, campaignId, advertiserId, from, to, 0);
+    }
+
+    public void recordChannelRanking(Long campaignId, Long advertiserId, LocalDate from, LocalDate to, int limit) {
+        record(KIND_RANKING, campaignId, advertiserId, from, to, limit);
+    }
+
+    private void record(String kind, Long campaignId, Long advertiserId, LocalDate from, LocalDate to, int limit) {
+        if (!props.isEnabled() || campaignId == null || advertiserId == null || from == null || to == null) return;
+        LocalDate today = LocalDate.now(KST);
+        String member = kind + "|" + advertiserId + "|" + campaignId + "|"
+                + ChronoUnit.DAYS.between(from, today) + "|" + ChronoUnit.DAYS.between(to, today) + "|" + limit;
+        LongAdder adder = pending.get(member);
+        if (adder == null) {
+            // 상한 확인과 추가 사이 경합으로 조금 넘을 수는 있음 (메모리 상한 용도라 충분)
+            if (pending.size() >= props.getMaxPendingMembers()) {
+                dropped.increment();
+                return;
+            }
+            adder = pending.computeIfAbsent(member, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats-warm.log-flush-interval-ms:60000}")
+    public void flush() {
+        long droppedCount = dropped.sumThenReset();
+        if (droppedCount > 0) {
+            log.warn("Stats request log dropped {} requests (over {} distinct entries per flush)",
+                    droppedCount, props.getMaxPendingMembers());
+        }
+        if (pending.isEmpty()) return;
+
+        Map<String, Long> batch = new HashMap<>();
+        for (String member : Set.copyOf(pending.keySet())) {
+            LongAdder adder = pending.remove(member);
+            if (adder != null) batch.put(member, adder.sum());
+        }
+        String key = key(LocalDate.now(KST));
+        long ttlSeconds = Duration.ofDays(props.getLookbackDays() + 1L).toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                batch.forEach((member, count) -> conn.zIncrBy(key, count, member));
+                // 하루치 ZSET 도 상위 항목만 남김 (적게 조회된 항목부터 잘림)
+                conn.zRemRange(key, 0, -(props.getMaxMembersPerDay() + 1L));
+                conn.expire(key, ttlSeconds);
+                return null;
+            });
+        } catch (Exception e) {
+            // 워밍 대상 선정용이라 유실돼도 기능에는 영향 없음
+            log.warn("Stats request log flush failed ({} entries dropped)", batch.size(), e);
+        }
+    }
+
+    // 최근 lookbackDays 일치 요청 수 합산, 많이 조회된 순
+    public List<RequestedRange> topRanges() {
+        LocalDate today = LocalDate.now(KST);
+        Map<String, Double> counts = new HashMap<>();
+        for (int i = 0; i < props.getLookbackDays(); i++) {
+            Set<ZSetOperations.TypedTuple<String>> tuples =
+                    redisTemplate.opsForZSet().rangeWithScores(key(today.minusDays(i)), 0, -1);
+            if (tuples == null) continue;
+            for (ZSetOperations.TypedTuple<String> t : tuples) {
+                if (t.getValue() != null && t.getScore() != null) counts.merge(t.getValue(), t.getScore(), Double::sum);
+            }
+        }
+
+        List<RequestedRange> ranges = new ArrayList<>(counts.size());
+        counts.forEach((member, count) -> {
+            RequestedRange range = parse(member, count);
+            if (range != null) ranges.add(range);
+        });
+        ranges.sort((a, b) -> Double.compare(b.count(), a.count()));
+        return ranges;
+    }
+
+    private static RequestedRange parse(String member, double count) {
+        String[] p = member.split("\\|");
+        if (p.length != 6) return null;
+        try {
+            return new RequestedRange(p[0], Long.parseLong(p[1]), Long.parseLong(p[2]),
+                    Integer.parseInt(p[3]), Integer.parseInt(p[4]), Integer.parseInt(p[5]), count);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String key(LocalDate day) {
+        return "stats:reqlog:" + day;
+    }
+}
@@ -2,39 +2,69 @@ package com.jung.creatorlink.service.stats;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.jung.creatorlink.common.exception.ResourceNotFoundException;
+import com.jung.creatorlink.config.props.ClickRollupProperties;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
 import com.jung.creatorlink.domain.common.Status;
 import com.jung.creatorlink.dto.stats.*;
 import com.jung.creatorlink.repository.campaign.CampaignRepository;
 import com.jung.creatorlink.repository.tracking.ClickLogRepository;
 import com.jung.creatorlink.repository.tracking.TrackingLinkRepository;
+import com.jung.creatorlink.service.cache.CachedPayload;
+import com.jung.creatorlink.service.cache.SingleFlight;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
 import com.jung.creatorlink.service.cache.StatsCacheService;
+import com.jung.creatorlink.service.cache.StatsLeaseLoader;
+import com.jung.creatorlink.service.cache.StatsRefresher;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 //@Transactional(readOnly = true)
 public class StatsService {
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long MAX_RANGE_DAYS = 366; // 조회 기간 상한 (양끝 포함)
     private final ClickLogRepository clickLogRepository;
     private final CampaignRepository campaignRepository;
     private final TrackingLinkRepository trackingLinkRepository;
-    //Stampede 방지용 키별 락 저장소
-    //같은 캐시 키에 대해 동시 요청이 오면 1개만 DB 조회하도록 순차 처리
     private final StatsCacheService statsCacheService;
-
-    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    //Stampede 방지: 같은 캐시 키의 동시 miss 를 진행 중인 조회 1건으로 합침
+    private final SingleFlight singleFlight;
+    //노드 간 Stampede 방지: Redis lease 를 잡은 노드만 집계
+    private final StatsLeaseLoader statsLeaseLoader;
+    private final ParallelStatsAggregator parallelStatsAggregator;
+    private final StatsBulkhead statsBulkhead;
+    //soft TTL 지난 키 백그라운드 갱신 (키당 1건)
+    private final StatsRefresher statsRefresher;
+    //캠페인별 캐시 세대 (키에 포함)
+    private final StatsCacheGeneration statsCacheGeneration;
+    private final StatsCacheProperties statsCacheProperties;
+    // 롤업 사용 시 click_counts_hourly + tail 로 집계
+    private final ClickRollupStatsReader clickRollupStatsReader;
+    private final ClickRollupProperties clickRollupProperties;
+    // 사용 시 today/total 클릭은 Redis 링크 카운터에서 (장애 시 DB 집계로 폴백)
+    private final ClickCounterService clickCounterService;
+    // 사용 시 기간 집계를 (캠페인, 날짜) partial 합으로 조립
+    private final DailyClickPartials dailyClickPartials;
 
     private static final TypeReference<List<CombinationStatsResponse>> COMB_LIST =
             new TypeReference<>() {
@@ -44,49 +74,82 @@ public class StatsService {
             new TypeReference<>() {
             };
 
+    // 조합별 통계 정렬 (findCombinationStats 의 order by 와 동일)
+    private static final Comparator<CombinationStatsResponse> COMBINATION_ORDER =
+            Comparator.comparingLong(CombinationStatsResponse::getTodayClicks).reversed()
+                    .thenComparing(Comparator.comparingLong(CombinationStatsResponse::getRangeClicks).reversed())
+                    .thenComparing(CombinationStatsResponse::getCreatorId)
+                    .thenComparing(CombinationStatsResponse::getChannelId);
+
 
     // ========== 캐시 적용 메서드 (Stampede 방지, public, @Transactional 없음) ====================
     // ========== 캐시 적용 (캐시 HIT 시 DB 접근 안 함) ==========
     // UC-10-1: 조합별 성과 비교
-    // Stampede 방지, 락 추가
-    public List<CombinationStatsResponse> getCombinationStats(
+    // 카운터 사용 시: 캐시된 range 집계 위에 today/total 만 실시간 값으로 덮어씀
+    public CompletableFuture<List<CombinationStatsResponse>> getCombinationStats(
             Long campaignId, Long advertiserId, LocalDate from, LocalDate to) {
         validateRange(from, to); // ← 모든 스레드가 자유롭게 실행 //OK - 커넥션 불필요
 
         String key = buildCombinationKey(campaignId, from, to); //검증 전에 키생성
 
 //        validateCampaignOwnership(campaignId, advertiserId); // ← 여기도 자유롭게 실행 //얘가 campaignRepository.existBy()호출하면서 커넥션 획득 시도한다. -> 커넥션 풀(10개) 고갈 ->27% timeout
-
+        // 소유권은 요청자마다 확인해야 함: flight/lease 는 advertiserId 와 무관하게 키로 공유되므로
+        // 그 안에서 검사하면 한 요청자의 404 가 같은 키의 다른 요청자 future 까지 실패시킨다 (랭킹과 동일하게 합류 전 검사)
+        validateCampaignOwnership(campaignId, advertiserId);
 
         //캐시 확인 먼저
         // 1차 캐시 확인 (HIT면 바로 반환, DB 안 감)
-        Optional<List<CombinationStatsResponse>> cached = statsCacheService.get(key, COMB_LIST);
-        if (cached.isPresent()) return cached.get(); // ← HIT면 여기서 바로 반환, 대기 없음
-
-        // 캐시 MISS → 같은 키에 대해 락 획득 (Stampede 방지)
-        // 동일 키 요청이 100개 동시에 오면, 1개만 락 획득하고 나머지 99개는 여기서 대기
-        // lock 안 걸면: Cache MISS나고 100개가 동시에 DB 커넥션 풀 요구하는 순간 timeout시간 측정 시작함. HikariCP default 30s 지나면 timeout error 발생.
-        Object lock = locks.computeIfAbsent(key, k -> new Object());
-        synchronized (lock) {  // ← ★ 여기서 대기 발생
-            // 이 블록 안에는 한 번에 1개 스레드만 들어감
-            try {
-                // 2차 캐시 확인 (Double-check)
-                // 대기하는 동안 먼저 들어간 스레드가 캐시를 채웠을 수 있음
-                cached = statsCacheService.get(key, COMB_LIST);
-                if (cached.isPresent()) return cached.get();
-
-                //여기서 validation(첫 요청만 실행)
-                validateCampaignOwnership(campaignId, advertiserId);
-
-                // 첫 번째 스레드만 DB 집계 실행 → 결과를 캐시에 저장
-                var result = queryCombinationFromDB(campaignId, from, to); // DB 조회
-                statsCacheService.set(key, result);
-                return result;
-            } finally {
-                // 락 해제 → 대기 중이던 스레드들이 깨어나서 2차 확인에서 HIT
-                locks.remove(key);
-            }
-        } // ← 나오면 다음 스레드가 들어감
+        // soft TTL 이 지났으면 stale 값으로 바로 응답하고 갱신은 백그라운드로 (콜드 집계를 기다리는 요청 없음)
+        Optional<List<CombinationStatsResponse>> cached = statsCacheService.getOrStale(key, COMB_LIST,
+                () -> refreshCombination(key, campaignId, from, to));
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(withCounters(campaignId, cached.get()));
+        }
+
+        // 캐시 MISS → 같은 키의 진행 중인 조회에 합류 (Stampede 방지)
+        // 동일 키 요청이 100개 동시에 오면, 1개만 loader 풀에서 DB 집계하고 나머지 99개는 같은 future 에 콜백만 건다.
+        // 락 대기와 달리 요청 스레드를 붙잡지 않고, 집계가 끝나면 100개 응답이 한 번에 완료된다.
+        return singleFlight.execute(key,
+                () -> withCounters(campaignId, loadCombinationStats(key, campaignId, from, to)));
+    }
+
+    // passthrough: 캐시 HIT 면 저장된 응답 바이트 그대로
+    // 실시간 카운터 사용 시(기본값)에는 적용 안 됨: today/total 을 덮어쓰면 today 기준 정렬도 바뀌어서
+    // 바이트를 그대로 쓸 수 없다 (결국 역직렬화 → 덮어쓰기 → 직렬화 = getCombinationStats 와 같은 비용)
+    // → 기본 설정에서 passthrough 는 채널 랭킹에만 적용. 여기서는 DB 를 치기 전에 바로 빠진다 (소유권 확인은 getCombinationStats 에서)
+    public Optional<CachedPayload> findCachedCombinationPayload(Long campaignId, Long advertiserId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        if (clickCounterService.isEnabled()) return Optional.empty();
+        validateCampaignOwnership(campaignId, advertiserId);
+        String key = buildCombinationKey(campaignId, from, to);
+        return statsCacheService.getPayload(key, () -> refreshCombination(key, campaignId, from, to));
+    }
+
+    // loader 스레드에서 1번만 실행 (분산 lease 사용 시 클러스터 전체에서 1번)
+    private List<CombinationStatsResponse> loadCombinationStats(
+            String key, Long campaignId, LocalDate from, LocalDate to) {
+        // 2차 캐시 확인 (Double-check) 후 miss 면 집계 → 캐시 저장
+        // 1차 확인 이후 직전 flight(또는 다른 노드)가 캐시를 채웠을 수 있음
+        Duration ttl = cacheTtl(to, !clickCounterService.isEnabled());
+        return statsLeaseLoader.load(key, COMB_LIST, ttl, () -> queryCombinationFromDB(StatsBulkhead.COMBINATION, campaignId, from, to));
+    }
+
+    private void refreshCombination(String key, Long campaignId, LocalDate from, LocalDate to) {
+        Duration ttl = cacheTtl(to, !clickCounterService.isEnabled());
+        statsRefresher.refreshAsync(key,
+                () -> statsLeaseLoader.refresh(key, COMB_LIST, ttl,
+                        () -> queryCombinationFromDB(StatsBulkhead.BACKGROUND, campaignId, from, to)));
+    }
+
+    private List<CombinationStatsResponse> withCounters(Long campaignId, List<CombinationStatsResponse> stats) {
+        if (!clickCounterService.isEnabled()) return stats;
+
+        try {
+            return overlayCounters(campaignId, stats);
+        } catch (Exception e) {
+            log.warn("Click counter read failed, serving combination stats from DB aggregate", e);
+            return stats;
+        }
     }
 
     // 캐시적용
@@ -128,8 +191,8 @@ public class StatsService {
 //    }
 
     // UC-10-2: 채널 랭킹 Top-N
-    // Stampede 방지, 락 추가
-    public List<ChannelRankingResponse> getChannelRanking(
+    // Stampede 방지: 같은 키 동시 miss 는 1건만 DB 조회 (SingleFlight)
+    public CompletableFuture<List<ChannelRankingResponse>> getChannelRanking(
             Long campaignId, Long advertiserId, LocalDate from, LocalDate to, int limit) {
         validateRange(from, to);
         validateCampaignOwnership(campaignId, advertiserId);
@@ -137,25 +200,52 @@ public class StatsService {
         int safeLimit = clampLimit(limit);
         String key = buildChannelRankingKey(campaignId, from, to, safeLimit);
 
-        // 1차 캐시 확인
-        Optional<List<ChannelRankingResponse>> cached = statsCacheService.get(key, RANK_LIST);
-        if (cached.isPresent()) return cached.get();
+        // 1차 캐시 확인 (stale 이면 그대로 응답 + 백그라운드 갱신)
+        Optional<List<ChannelRankingResponse>> cached = statsCacheService.getOrStale(key, RANK_LIST,
+                () -> refreshChannelRanking(key, campaignId, from, to, safeLimit));
+        if (cached.isPresent()) return CompletableFuture.completedFuture(cached.get());
 
-        // Stampede 방지: 같은 키에 대해 1개 스레드만 DB 조회
-        Object lock = locks.computeIfAbsent(key, k -> new Object());
-        synchronized (lock) {
-            try {
-                // Double-check: 대기 중 다른 스레드가 캐시 채웠는지 확인
-                cached = statsCacheService.get(key, RANK_LIST);
-                if (cached.isPresent()) return cached.get();
-
-                var result = queryChannelRankingFromDB(campaignId, from, to, safeLimit);
-                statsCacheService.set(key, result);
-                return result;
-            } finally {
-                locks.remove(key);
-            }
-        }
+        // Double-check + 집계 + 캐시 저장 (분산 lease 사용 시 다른 노드 결과를 기다림)
+        return singleFlight.execute(key, () -> statsLeaseLoader.load(key, RANK_LIST, cacheTtl(to, false),
+                () -> queryChannelRankingFromDB(StatsBulkhead.RANKING, campaignId, from, to, safeLimit)));
+    }
+
+    public Optional<CachedPayload> findCachedChannelRankingPayload(
+            Long campaignId, Long advertiserId, LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to);
+        validateCampaignOwnership(campaignId, advertiserId);
+        int safeLimit = clampLimit(limit);
+        String key = buildChannelRankingKey(campaignId, from, to, safeLimit);
+        return statsCacheService.getPayload(key, () -> refreshChannelRanking(key, campaignId, from, to, safeLimit));
+    }
+
+    private void refreshChannelRanking(String key, Long campaignId, LocalDate from, LocalDate to, int limit) {
+        statsRefresher.refreshAsync(key, () -> statsLeaseLoader.refresh(key, RANK_LIST, cacheTtl(to, false),
+                () -> queryChannelRankingFromDB(StatsBulkhead.BACKGROUND, campaignId, from, to, limit)));
+    }
+
+    // ========== 캐시 워밍 (StatsCacheWarmer, 호출 스레드에서 동기 실행) ==========
+    // fresh 캐시가 있으면 건너뜀. 실제로 DB 집계를 했으면 true (워머의 DB 부하 예산 차감용)
+    // 캠페인 소유/상태는 워머가 findAllByAdvertiserIdAndStatus 로 이미 확인함
+    public boolean warmCombination(Long campaignId, Long advertiserId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        String key = buildCombinationKey(campaignId, from, to);
+        if (statsCacheService.get(key, COMB_LIST).isPresent()) return false;
+
+        Duration ttl = cacheTtl(to, !clickCounterService.isEnabled());
+        statsLeaseLoader.refresh(key, COMB_LIST, ttl, () -> queryCombinationFromDB(StatsBulkhead.BACKGROUND, campaignId, from, to));
+        return true;
+    }
+
+    public boolean warmChannelRanking(Long campaignId, LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to);
+        int safeLimit = clampLimit(limit);
+        String key = buildChannelRankingKey(campaignId, from, to, safeLimit);
+        if (statsCacheService.get(key, RANK_LIST).isPresent()) return false;
+
+        statsLeaseLoader.refresh(key, RANK_LIST, cacheTtl(to, false),
+                () -> queryChannelRankingFromDB(StatsBulkhead.BACKGROUND, campaignId, from, to, safeLimit));
+        return true;
     }
 
     //캐시 적용
@@ -208,17 +298,36 @@ public class StatsService {
         LocalDateTime fromStart = from.atStartOfDay();
         LocalDateTime toEndExclusive = to.plusDays(1).atStartOfDay();
 
-        CampaignKpiClicksAgg clicksAgg = clickLogRepository.findCampaignKpiClicks(
-                campaignId,
-                Status.ACTIVE,
-                todayStart,
-                tomorrowStart,
-                fromStart,
-                toEndExclusive
-        );
-
         long activeLinks = trackingLinkRepository.countByCampaign_IdAndStatus(campaignId, Status.ACTIVE);
 
+        if (clickCounterService.isEnabled()) {
+            try {
+                List<Long> linkIds = trackingLinkRepository.findIdsByCampaignIdAndStatus(campaignId, Status.ACTIVE);
+                long todayClicks = clickCounterService.sumDay(linkIds, today);
+                long totalClicks = clickCounterService.sumTotal(linkIds);
+                // range 는 임의 기간이라 카운터로 못 만든다 → 롤업/DB 집계
+                long rangeClicks = (clickRollupProperties.isEnabled()
+                        ? clickRollupStatsReader.findCampaignKpiClicks(campaignId, todayStart, tomorrowStart, fromStart, toEndExclusive)
+                        : clickLogRepository.findCampaignKpiClicks(
+                                campaignId, Status.ACTIVE, todayStart, tomorrowStart, fromStart, toEndExclusive)
+                ).getRangeClicks();
+                return new CampaignKpiResponse(todayClicks, rangeClicks, totalClicks, activeLinks);
+            } catch (Exception e) {
+                log.warn("Click counter read failed, falling back to DB aggregate for campaign {}", campaignId, e);
+            }
+        }
+
+        CampaignKpiClicksAgg clicksAgg = clickRollupProperties.isEnabled()
+                ? clickRollupStatsReader.findCampaignKpiClicks(campaignId, todayStart, tomorrowStart, fromStart, toEndExclusive)
+                : clickLogRepository.findCampaignKpiClicks(
+                        campaignId,
+                        Status.ACTIVE,
+                        todayStart,
+                        tomorrowStart,
+                        fromStart,
+                        toEndExclusive
+                );
+
         return new CampaignKpiResponse(
                 clicksAgg.getTodayClicks(),
                 clicksAgg.getRangeClicks(),
@@ -263,6 +372,15 @@ public class StatsService {
         LocalDateTime startOfDay = today.atStartOfDay();
         LocalDateTime startOfTomorrow = today.plusDays(1).atStartOfDay();
 
+        if (clickCounterService.isEnabled()) {
+            try {
+                List<Long> linkIds = trackingLinkRepository.findIdsByAdvertiserIdAndStatus(advertiserId, Status.ACTIVE);
+                return new TodayStatsResponse(clickCounterService.sumDay(linkIds, today));
+            } catch (Exception e) {
+                log.warn("Click counter read failed, falling back to DB count for advertiser {}", advertiserId, e);
+            }
+        }
+
         Long count = clickLogRepository.countTodayClicks(advertiserId, startOfDay, startOfTomorrow);
         if (count == null) {
             count = 0L;
@@ -274,13 +392,31 @@ public class StatsService {
     // ========== 내부 DB 조회 메서드 (캐시용, @Transactional 필요) ==========
     // ========== 내부 헬퍼 (실제 DB 쿼리 실행, DB접근) ==========
     @Transactional(readOnly = true)
-    List<CombinationStatsResponse> queryCombinationFromDB(Long campaignId, LocalDate from, LocalDate to) {
+    List<CombinationStatsResponse> queryCombinationFromDB(String bulkhead, Long campaignId, LocalDate from, LocalDate to) {
+        // loader/refresh/warm 스레드에서 커넥션을 잡기 전에 자리부터 (포화면 503)
+        // 백그라운드 갱신/워밍은 BACKGROUND 칸을 써서 사용자 요청 자리를 뺏지 않는다
+        return statsBulkhead.call(bulkhead, () -> aggregateCombination(campaignId, from, to));
+    }
+
+    private List<CombinationStatsResponse> aggregateCombination(Long campaignId, LocalDate from, LocalDate to) {
         LocalDate today = LocalDate.now(KST);
         LocalDateTime todayStart = today.atStartOfDay();
         LocalDateTime tomorrowStart = today.plusDays(1).atStartOfDay();
         LocalDateTime fromStart = from.atStartOfDay();
         LocalDateTime toEndExclusive = to.plusDays(1).atStartOfDay();
 
+        if (dailyClickPartials.isEnabled()) {
+            return combinationFromPartials(campaignId, from, to, today);
+        }
+
+        if (clickRollupProperties.isEnabled()) {
+            return clickRollupStatsReader.findCombinationStats(campaignId, todayStart, tomorrowStart, fromStart, toEndExclusive);
+        }
+
+        if (parallelStatsAggregator.isEnabled()) {
+            return combinationFromShards(campaignId, todayStart, tomorrowStart, fromStart, toEndExclusive);
+        }
+
         return clickLogRepository.findCombinationStats(
                 campaignId,
                 Status.ACTIVE,
@@ -292,10 +428,22 @@ public class StatsService {
     }
 
     @Transactional(readOnly = true)
-    List<ChannelRankingResponse> queryChannelRankingFromDB(Long campaignId, LocalDate from, LocalDate to, int limit) {
+    List<ChannelRankingResponse> queryChannelRankingFromDB(String bulkhead, Long campaignId, LocalDate from, LocalDate to, int limit) {
+        return statsBulkhead.call(bulkhead, () -> aggregateChannelRanking(campaignId, from, to, limit));
+    }
+
+    private List<ChannelRankingResponse> aggregateChannelRanking(Long campaignId, LocalDate from, LocalDate to, int limit) {
         LocalDateTime fromStart = from.atStartOfDay();
         LocalDateTime toEndExclusive = to.plusDays(1).atStartOfDay();
 
+        if (dailyClickPartials.isEnabled()) {
+            return channelRankingFromPartials(campaignId, from, to, limit);
+        }
+
+        if (clickRollupProperties.isEnabled()) {
+            return clickRollupStatsReader.findChannelRanking(campaignId, fromStart, toEndExclusive, limit);
+        }
+
         return clickLogRepository.findChannelRanking(
                 campaignId,
                 Status.ACTIVE,
@@ -305,6 +453,119 @@ public class StatsService {
         );
     }
 
+    // ========== 일별 partial 조립 (ACTIVE 링크 기준, 기존 쿼리와 같은 정렬/포함 규칙) ==========
+    // 조합: 클릭 0 인 ACTIVE 조합도 포함, today desc → range desc → creator → channel
+    private List<CombinationStatsResponse> combinationFromPartials(Long campaignId, LocalDate from, LocalDate to, LocalDate today) {
+        Map<Long, Long> todayByLink = dailyClickPartials.dayByLink(campaignId, today);
+        Map<Long, Long> rangeByLink = dailyClickPartials.rangeByLink(campaignId, from, to);
+        Map<Long, Long> totalByLink = dailyClickPartials.totalByLink(campaignId);
+
+        Map<String, CombinationStatsResponse> byCombination = new HashMap<>();
+        for (Object[] row : trackingLinkRepository.findStatsLinksByCampaignIdAndStatus(campaignId, Status.ACTIVE)) {
+            Long linkId = (Long) row[0];
+            CombinationStatsResponse prev = byCombination.get(row[1] + ":" + row[3]);
+            byCombination.put(row[1] + ":" + row[3], new CombinationStatsResponse(
+                    (Long) row[1], (String) row[2], (Long) row[3], (String) row[4],
+                    (prev == null ? 0 : prev.getTodayClicks()) + todayByLink.getOrDefault(linkId, 0L),
+                    (prev == null ? 0 : prev.getRangeClicks()) + rangeByLink.getOrDefault(linkId, 0L),
+                    (prev == null ? 0 : prev.getTotalClicks()) + totalByLink.getOrDefault(linkId, 0L)
+            ));
+        }
+
+        List<CombinationStatsResponse> result = new ArrayList<>(byCombination.values());
+        result.sort(COMBINATION_ORDER);
+        return result;
+    }
+
+    // 채널 랭킹: 기간 내 클릭이 있는 채널만, count desc → channel, 상위 limit
+    private List<ChannelRankingResponse> channelRankingFromPartials(Long campaignId, LocalDate from, LocalDate to, int limit) {
+        Map<Long, Long> rangeByLink = dailyClickPartials.rangeByLink(campaignId, from, to);
+
+        Map<Long, String> channelNames = new HashMap<>();
+        Map<Long, Long> clicksByChannel = new HashMap<>();
+        for (Object[] row : trackingLinkRepository.findStatsLinksByCampaignIdAndStatus(campaignId, Status.ACTIVE)) {
+            long clicks = rangeByLink.getOrDefault((Long) row[0], 0L);
+            if (clicks == 0) continue;
+            channelNames.put((Long) row[3], (String) row[4]);
+            clicksByChannel.merge((Long) row[3], clicks, Long::sum);
+        }
+
+        return clicksByChannel.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(e -> new ChannelRankingResponse(e.getKey(), channelNames.get(e.getKey()), e.getValue()))
+                .toList();
+    }
+
+    // ========== 링크 id shard 병렬 집계 (원본 click_logs) ==========
+    // ACTIVE 링크 id 를 shard 개로 나눠 동시에 GROUP BY → 같은 조합이 여러 shard 에 걸치므로 long 누적으로 합친다
+    private List<CombinationStatsResponse> combinationFromShards(
+            Long campaignId, LocalDateTime todayStart, LocalDateTime tomorrowStart,
+            LocalDateTime fromStart, LocalDateTime toEndExclusive) {
+        List<Long> linkIds = trackingLinkRepository.findIdsByCampaignIdAndStatus(campaignId, Status.ACTIVE);
+        if (linkIds.isEmpty()) return List.of();
+
+        int shardSize = (linkIds.size() + parallelStatsAggregator.shards() - 1) / parallelStatsAggregator.shards();
+        List<Supplier<List<CombinationStatsResponse>>> parts = new ArrayList<>();
+        for (int i = 0; i < linkIds.size(); i += shardSize) {
+            List<Long> shard = linkIds.subList(i, Math.min(linkIds.size(), i + shardSize));
+            parts.add(() -> clickLogRepository.findCombinationStatsForLinks(
+                    shard, Status.ACTIVE, todayStart, tomorrowStart, fromStart, toEndExclusive));
+        }
+
+        Map<String, long[]> counts = new HashMap<>();
+        Map<String, CombinationStatsResponse> firstRow = new HashMap<>();
+        for (List<CombinationStatsResponse> rows : parallelStatsAggregator.invokeAll(parts)) {
+            for (CombinationStatsResponse r : rows) {
+                String combination = r.getCreatorId() + ":" + r.getChannelId();
+                long[] acc = counts.computeIfAbsent(combination, k -> new long[3]);
+                acc[0] += r.getTodayClicks();
+                acc[1] += r.getRangeClicks();
+                acc[2] += r.getTotalClicks();
+                firstRow.putIfAbsent(combination, r);
+            }
+        }
+
+        List<CombinationStatsResponse> result = new ArrayList<>(counts.size());
+        counts.forEach((combination, acc) -> {
+            CombinationStatsResponse r = firstRow.get(combination);
+            result.add(new CombinationStatsResponse(
+                    r.getCreatorId(), r.getCreatorName(), r.getChannelId(), r.getChannelDisplayName(),
+                    acc[0], acc[1], acc[2]));
+        });
+        result.sort(COMBINATION_ORDER);
+        return result;
+    }
+
+    // 조합(creator, channel)별로 링크 카운터를 더해 today/total 교체 후 기존 정렬(today desc, range desc, creator, channel) 유지
+    private List<CombinationStatsResponse> overlayCounters(Long campaignId, List<CombinationStatsResponse> stats) {
+        List<Object[]> links = trackingLinkRepository.findCombinationLinksByCampaignIdAndStatus(campaignId, Status.ACTIVE);
+        List<Long> linkIds = links.stream().map(row -> (Long) row[0]).toList();
+
+        LocalDate today = LocalDate.now(KST);
+        List<Long> todayCounts = clickCounterService.getDay(linkIds, today);
+        List<Long> totalCounts = clickCounterService.getTotal(linkIds);
+
+        Map<String, long[]> byCombination = new HashMap<>();
+        for (int i = 0; i < links.size(); i++) {
+            long[] acc = byCombination.computeIfAbsent(links.get(i)[1] + ":" + links.get(i)[2], k -> new long[2]);
+            acc[0] += todayCounts.get(i);
+            acc[1] += totalCounts.get(i);
+        }
+
+        List<CombinationStatsResponse> result = new ArrayList<>(stats.size());
+        for (CombinationStatsResponse s : stats) {
+            long[] acc = byCombination.getOrDefault(s.getCreatorId() + ":" + s.getChannelId(), new long[2]);
+            result.add(new CombinationStatsResponse(
+                    s.getCreatorId(), s.getCreatorName(),
+                    s.getChannelId(), s.getChannelDisplayName(),
+                    acc[0], s.getRangeClicks(), acc[1]
+            ));
+        }
+        result.sort(COMBINATION_ORDER);
+        return result;
+    }
+
     @Transactional(readOnly = true)
     void validateCampaignOwnership(Long campaignId, Long advertiserId) {
         boolean ok = campaignRepository.existsByIdAndAdvertiser_IdAndStatus(campaignId, advertiserId, Status.ACTIVE);
@@ -322,6 +583,10 @@ public class StatsService {
         if (from.isAfter(to)) {
             throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다.");
         }
+        // 기간이 길수록 일별 partial 키/집계 조각이 날짜 수만큼 늘어남 → 상한
+        if (ChronoUnit.DAYS.between(from, to) + 1 > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
     }
 
     private int clampLimit(int limit) {
@@ -330,12 +595,23 @@ public class StatsService {
     }
 
     // ========== 캐시 키 생성 ==========
+    // 캠페인 세대(g) 포함: 링크/채널/크리에이터 변경 시 세대가 올라가 이전 키는 더 이상 안 읽힘
     private String buildCombinationKey(Long campaignId, LocalDate from, LocalDate to) {
-        return String.format("stats:comb:%d:%s:%s", campaignId, from, to);
+        return String.format("stats:comb:%d:g%d:%s:%s", campaignId, statsCacheGeneration.current(campaignId), from, to);
     }
 
     private String buildChannelRankingKey(Long campaignId, LocalDate from, LocalDate to, int limit) {
-        return String.format("stats:rank:%d:%s:%s:%d", campaignId, from, to, limit);
+        return String.format("stats:rank:%d:g%d:%s:%s:%d", campaignId, statsCacheGeneration.current(campaignId), from, to, limit);
+    }
+
+    // 캐시 TTL: 상태 변경은 세대로 무효화되므로, 결과가 닫힌 날짜에만 의존하면 길게
+    // (조합 통계는 today/total 을 담고 있어서 카운터로 덮어쓰는 경우에만 해당)
+    private Duration cacheTtl(LocalDate to, boolean containsTodayTotals) {
+        LocalDateTime closedAt = to.plusDays(1).atStartOfDay().plusSeconds(statsCacheProperties.getDayCloseGraceSeconds());
+        if (containsTodayTotals || !LocalDateTime.now(KST).isAfter(closedAt)) {
+            return Duration.ofSeconds(statsCacheProperties.getTtlSeconds());
+        }
+        return Duration.ofSeconds(statsCacheProperties.getClosedDayTtlSeconds());
     }
 
 }
@@ -0,0 +1,439 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.config.props.SlugIndexProperties;
+import com.jung.creatorlink.dto.tracking.RedirectTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+// 전체 ACTIVE slug 스냅샷을 off-heap(direct ByteBuffer) open addressing 테이블로 들고 있는 인덱스
+// - 수백만 링크를 HashMap<String, TrackingLink> 로 들면 GC 부담 → 슬롯/slug/URL 바이트 모두 힙 밖에 둔다.
+// - 조회(probe)는 slug 문자를 버퍼 바이트와 직접 비교, 결과는 호출 쪽이 재사용하는 Hit 에 슬롯만 채움 → 할당 없음
+//   (URL 문자열은 응답 헤더에 쓸 때 Hit.url() 로 한 번만 만든다)
+// - 기동 시 tracking_links 스트리밍 스캔으로 빌드, 이후 watermark 로 증분 갱신
+//     새 링크    : id > lastId            → 힙 delta
+//     비활성화   : updated_at >= watermark → tombstone
+//   delta 가 커지거나 fullRebuildIntervalMs 가 지나면 새 스냅샷으로 교체
+// 인덱스에 없다고 "없는 링크"는 아님 (다른 노드에서 방금 생성 등) → 미스면 기존 경로(Bloom/DB)로
+public class OffHeapSlugIndex implements SmartLifecycle {
+
+    private static final int REFRESH_BATCH = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SlugIndexProperties props;
+
+    private volatile Snapshot snapshot; // null = 아직 로딩 전
+    private final Map<String, RedirectTarget> delta = new ConcurrentHashMap<>();
+    private final Map<String, Long> tombstones = new ConcurrentHashMap<>(); // slug -> 기록 시각(nanoTime)
+
+    private volatile long lastId;
+    private volatile LocalDateTime lastUpdatedAt;
+    private long lastFullBuildNanos;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running = false;
+
+    public OffHeapSlugIndex(JdbcTemplate jdbcTemplate, SlugIndexProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+    }
+
+    // ========== 조회 ==========
+    // 핫패스용: 찾으면 hit 에 (스냅샷, 슬롯) 또는 delta 값을 채우고 true. 스레드마다 Hit 하나를 재사용하면 할당 없음
+    public boolean lookup(String slug, Hit hit) {
+        Snapshot snap = snapshot;
+        if (snap == null) return false;
+        if (!tombstones.isEmpty() && tombstones.containsKey(slug)) return false;
+
+        int slot = snap.find(slug);
+        if (slot >= 0) {
+            hit.set(snap, slot);
+            return true;
+        }
+        RedirectTarget recent = delta.get(slug);
+        if (recent == null) return false;
+        hit.set(recent);
+        return true;
+    }
+
+    // 객체가 필요한 경로(Tomcat 리다이렉트 등)용
+    public RedirectTarget lookup(String slug) {
+        Hit hit = new Hit();
+        return lookup(slug, hit) ? hit.toTarget() : null;
+    }
+
+    // 조회 결과 커서. 스냅샷이 교체돼도 채울 때의 스냅샷을 잡고 있어서 값이 섞이지 않는다
+    // 재사용 객체라 다른 스레드로 넘길 때는 값을 꺼내서 넘길 것
+    public static final class Hit {
+        private Snapshot snap;
+        private int slot;
+        private RedirectTarget recent;
+
+        void set(Snapshot snap, int slot) {
+            this.snap = snap;
+            this.slot = slot;
+            this.recent = null;
+        }
+
+        void set(RedirectTarget recent) {
+            this.snap = null;
+            this.recent = recent;
+        }
+
+        public long linkId() {
+            return recent != null ? recent.getTrackingLinkId() : snap.linkId(slot);
+        }
+
+        public long campaignId() {
+            return recent != null ? recent.getCampaignId() : snap.campaignId(slot);
+        }
+
+        public String url() {
+            return recent != null ? recent.getFinalUrl() : snap.url(slot);
+        }
+
+        RedirectTarget toTarget() {
+            return recent != null ? recent : new RedirectTarget(linkId(), url(), campaignId());
+        }
+    }
+
+    // 이 노드에서 비활성화한 slug 는 다음 증분 갱신을 기다리지 않고 바로 제외
+    public void markDeleted(Collection<String> slugs) {
+        if (snapshot == null) return;
+        long now = System.nanoTime();
+        for (String slug : slugs) {
+            tombstones.put(slug, now);
+            delta.remove(slug);
+        }
+    }
+
+    // ========== 전체 빌드 ==========
+    private void rebuild() {
+        long startNanos = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        Map<String, Object> stats = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS cnt, COALESCE(SUM(LENGTH(slug)), 0) AS bytes FROM tracking_links WHERE status = 'ACTIVE'");
+        long count = ((Number) stats.get("cnt")).longValue();
+        long bytes = ((Number) stats.get("bytes")).longValue();
+
+        // 스캔 도중 생긴 링크 여유분. 그래도 넘치면 나머지는 id watermark 로 delta 에 들어온다.
+        // URL 은 중복 제거 후 크기를 미리 알 수 없어 작게 시작해서 필요할 때 2배씩 늘림
+        Snapshot.Builder builder = new Snapshot.Builder(count + count / 10 + 1024, bytes + bytes / 10 + 64 * 1024);
+
+        // MySQL 스트리밍 조회: 결과 전체를 힙에 올리지 않는다. id 순이라 넘친 뒤 row 는 전부 maxId 보다 큼
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(Integer.MIN_VALUE);
+        streaming.query("SELECT id, slug, final_url, campaign_id FROM tracking_links WHERE status = 'ACTIVE' ORDER BY id",
+                (RowCallbackHandler) rs -> builder.add(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4)));
+
+        Snapshot built = builder.build();
+        snapshot = built;
+        lastId = Math.max(lastId, built.maxId);
+        lastUpdatedAt = startedAt;
+        lastFullBuildNanos = System.nanoTime();
+
+        // 스냅샷에 반영된 delta, 빌드 시작 전에 찍힌 tombstone 정리
+        delta.values().removeIf(t -> t.getTrackingLinkId() <= built.maxId);
+        tombstones.values().removeIf(at -> at < startNanos);
+
+        log.info("Slug index built: {} slugs, {} distinct urls, {} MB off-heap ({}ms)",
+                built.size, built.urlCount, built.offHeapBytes() / (1024 * 1024),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    // ========== 증분 갱신 ==========
+    private void refresh() {
+        try {
+            if (snapshot == null) {
+                rebuild();
+                return;
+            }
+
+            // 1) 새 링크 (id watermark)
+            int fetched;
+            do {
+                List<RedirectRow> rows = jdbcTemplate.query(
+                        "SELECT id, slug, final_url, campaign_id FROM tracking_links WHERE id > ? AND status = 'ACTIVE' ORDER BY id LIMIT ?",
+                        (rs, i) -> new RedirectRow(rs.getString(2), new RedirectTarget(rs.getLong(1), rs.getString(3), rs.getLong(4))),
+                        lastId, REFRESH_BATCH);
+                for (RedirectRow row : rows) {
+                    delta.put(row.slug(), row.target());
+                    lastId = Math.max(lastId, row.target().getTrackingLinkId());
+                }
+                fetched = rows.size();
+            } while (fetched == REFRESH_BATCH);
+
+            // 2) 비활성화 (updated_at watermark, 노드 간 시계 차이만큼 겹쳐 읽음)
+            LocalDateTime now = LocalDateTime.now();
+            List<String> deactivated = jdbcTemplate.queryForList(
+                    "SELECT slug FROM tracking_links WHERE updated_at >= ? AND status <> 'ACTIVE'",
+                    String.class,
+                    Timestamp.valueOf(lastUpdatedAt.minusSeconds(props.getWatermarkOverlapSeconds())));
+            markDeleted(deactivated);
+            lastUpdatedAt = now;
+
+            long sinceFull = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastFullBuildNanos);
+            if (delta.size() > props.getMaxDeltaSize() || sinceFull > props.getFullRebuildIntervalMs()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("Slug index refresh failed (serving previous snapshot)", e);
+        }
+    }
+
+    private record RedirectRow(String slug, RedirectTarget target) {
+    }
+
+    // ========== lifecycle ==========
+    @Override
+    public void start() {
+        if (!props.isEnabled()) return;
+        running = true;
+
+        if (props.isLoadBeforeServing()) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("Slug index initial load failed, will retry in background", e);
+            }
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("slug-index-refresh-"));
+        scheduler.scheduleWithFixedDelay(this::refresh,
+                props.getRefreshIntervalMs(), props.getRefreshIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버보다 먼저 시작 → 첫 요청부터 인덱스 사용
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // ========== off-heap 테이블 ==========
+    // 슬롯(32B): [long linkId (0=빈 슬롯)][int slugHash][int slugOffset][int urlOffset][short slugLen][short 미사용][long campaignId]
+    // slug 바이트는 별도 direct 버퍼에 이어 붙이고, URL 은 캠페인 landing URL 공유가 많아 중복 제거 후
+    // URL 버퍼([int len][UTF-8 바이트]) 위치로 참조. 중복 제거 테이블도 빌드하는 동안만 쓰는 off-heap 테이블
+    static final class Snapshot {
+        private static final int SLOT_BYTES = 32;
+
+        private final ByteBuffer slots;
+        private final int mask;
+        private final ByteBuffer slugBytes;
+        private final ByteBuffer urlBytes;
+        private final int size;
+        private final int urlCount;
+        private final long maxId;
+
+        private Snapshot(ByteBuffer slots, int mask, ByteBuffer slugBytes, ByteBuffer urlBytes,
+                         int size, int urlCount, long maxId) {
+            this.slots = slots;
+            this.mask = mask;
+            this.slugBytes = slugBytes;
+            this.urlBytes = urlBytes;
+            this.size = size;
+            this.urlCount = urlCount;
+            this.maxId = maxId;
+        }
+
+        int find(String slug) {
+            int h = hash(slug);
+            int idx = h & mask;
+            while (true) {
+                int base = idx * SLOT_BYTES;
+                if (slots.getLong(base) == 0) return -1;
+                if (slots.getInt(base + 8) == h && matches(base, slug)) return idx;
+                idx = (idx + 1) & mask;
+            }
+        }
+
+        private boolean matches(int base, String slug) {
+            int len = slots.getShort(base + 20);
+            if (len != slug.length()) return false;
+            int off = slots.getInt(base + 12);
+            for (int i = 0; i < len; i++) {
+                if (slugBytes.get(off + i) != (byte) slug.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        long linkId(int slot) {
+            return slots.getLong(slot * SLOT_BYTES);
+        }
+
+        String url(int slot) {
+            int off = slots.getInt(slot * SLOT_BYTES + 16);
+            byte[] bytes = new byte[urlBytes.getInt(off)];
+            urlBytes.get(off + 4, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        long campaignId(int slot) {
+            return slots.getLong(slot * SLOT_BYTES + 24);
+        }
+
+        long offHeapBytes() {
+            return (long) slots.capacity() + slugBytes.capacity() + urlBytes.capacity();
+        }
+
+        // FNV-1a 32 (slug 는 ASCII)
+        static int hash(String s) {
+            int h = 0x811c9dc5;
+            for (int i = 0; i < s.length(); i++) {
+                h ^= s.charAt(i);
+                h *= 0x01000193;
+            }
+            return h ^ (h >>> 16);
+        }
+
+        static int hash(byte[] bytes) {
+            int h = 0x811c9dc5;
+            for (byte b : bytes) {
+                h ^= b & 0xFF;
+                h *= 0x01000193;
+            }
+            return h ^ (h >>> 16);
+        }
+
+        static final class Builder {
+            private static final int MIN_URL_BYTES = 64 * 1024;
+            private static final int URL_TABLE_ENTRY = 8; // [int urlHash][int urlOffset + 1 (0=빈 칸)]
+
+            private final ByteBuffer slots;
+            private final int mask;
+            private final int maxEntries;
+            private final ByteBuffer slugBytes;
+            private ByteBuffer urlBytes = ByteBuffer.allocateDirect(MIN_URL_BYTES);
+            private final ByteBuffer urlTable; // URL 중복 제거용 (빌드 후 버림)
+            private int urlCount;
+            private int size;
+            private long maxId;
+
+            Builder(long expectedEntries, long expectedSlugBytes) {
+                // load factor 0.75 → 2의 거듭제곱 슬롯 수
+                long wanted = Math.max(16, expectedEntries * 4 / 3);
+                int slotCount = Integer.highestOneBit((int) Math.min(wanted, Integer.MAX_VALUE / SLOT_BYTES)) << 1;
+                if ((long) slotCount * SLOT_BYTES > Integer.MAX_VALUE) slotCount >>>= 1;
+
+                this.slots = ByteBuffer.allocateDirect(slotCount * SLOT_BYTES);
+                this.mask = slotCount - 1;
+                this.maxEntries = slotCount / 4 * 3;
+                this.slugBytes = ByteBuffer.allocateDirect((int) Math.min(expectedSlugBytes, Integer.MAX_VALUE));
+                // 서로 다른 URL 수 ≤ 링크 수 → 슬롯 수와 같은 칸 수면 load factor 0.75 이하
+                this.urlTable = ByteBuffer.allocateDirect(slotCount * URL_TABLE_ENTRY);
+            }
+
+            void add(long id, String slug, String finalUrl, long campaignId) {
+                // 가득 찼거나 ASCII 가 아닌 slug 는 스냅샷에서 제외 (delta/DB 경로로 처리)
+                if (size >= maxEntries || slug.length() > Short.MAX_VALUE
+                        || slugBytes.remaining() < slug.length() || !isAscii(slug)) {
+                    return;
+                }
+                int urlOffset = internUrl(finalUrl.getBytes(StandardCharsets.UTF_8));
+                if (urlOffset < 0) return;
+
+                int offset = slugBytes.position();
+                for (int i = 0; i < slug.length(); i++) {
+                    slugBytes.put((byte) slug.charAt(i));
+                }
+
+                int h = hash(slug);
+                int idx = h & mask;
+                while (slots.getLong(idx * SLOT_BYTES) != 0) {
+                    idx = (idx + 1) & mask;
+                }
+                int base = idx * SLOT_BYTES;
+                slots.putInt(base + 8, h);
+                slots.putInt(base + 12, offset);
+                slots.putInt(base + 16, urlOffset);
+                slots.putShort(base + 20, (short) slug.length());
+                slots.putLong(base + 24, campaignId);
+                slots.putLong(base, id);
+
+                size++;
+                maxId = Math.max(maxId, id);
+            }
+
+            // 같은 URL 이 이미 있으면 그 위치, 없으면 URL 버퍼 끝에 추가한 위치 (버퍼 한도를 넘으면 -1)
+            private int internUrl(byte[] url) {
+                int h = hash(url);
+                int tableMask = urlTable.capacity() / URL_TABLE_ENTRY - 1;
+                int idx = h & tableMask;
+                while (true) {
+                    int base = idx * URL_TABLE_ENTRY;
+                    int stored = urlTable.getInt(base + 4);
+                    if (stored == 0) break;
+                    if (urlTable.getInt(base) == h && urlEquals(stored - 1, url)) return stored - 1;
+                    idx = (idx + 1) & tableMask;
+                }
+
+                long needed = (long) urlBytes.position() + 4 + url.length;
+                if (needed >= Integer.MAX_VALUE) return -1;
+                if (needed > urlBytes.capacity()) grow(needed);
+                int offset = urlBytes.position();
+                urlBytes.putInt(url.length).put(url);
+
+                int base = idx * URL_TABLE_ENTRY;
+                urlTable.putInt(base, h);
+                urlTable.putInt(base + 4, offset + 1);
+                urlCount++;
+                return offset;
+            }
+
+            private boolean urlEquals(int offset, byte[] url) {
+                if (urlBytes.getInt(offset) != url.length) return false;
+                for (int i = 0; i < url.length; i++) {
+                    if (urlBytes.get(offset + 4 + i) != url[i]) return false;
+                }
+                return true;
+            }
+
+            private void grow(long needed) {
+                long capacity = Math.max(needed, (long) urlBytes.capacity() * 2);
+                ByteBuffer bigger = ByteBuffer.allocateDirect((int) Math.min(capacity, Integer.MAX_VALUE - 8));
+                urlBytes.flip();
+                bigger.put(urlBytes);
+                urlBytes = bigger;
+            }
+
+            private boolean isAscii(String s) {
+                for (int i = 0; i < s.length(); i++) {
+                    if (s.charAt(i) > 0x7F) return false;
+                }
+                return true;
+            }
+
+            Snapshot build() {
+                return new Snapshot(slots, mask, slugBytes, urlBytes, size, urlCount, maxId);
+            }
+        }
+    }
+}
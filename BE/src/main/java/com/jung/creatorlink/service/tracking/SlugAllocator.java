@@ -0,0 +1,195 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.config.props.SlugAllocProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+// 충돌 없는 slug 발급기 (hi/lo)
+// - slug_sequence 테이블에서 번호 블록을 예약(hi)하고, 블록 안에서는 메모리로 하나씩 발급(lo)
+// - 번호 → 53bit 전단사 섞기 → base62 고정 9자리
+//   같은 번호는 항상 같은 slug, 다른 번호는 항상 다른 slug → 구조적으로 중복 없음 (재시도 불필요)
+// - 기존 랜덤 slug(8자리), 테스트 시드 slug(10자리)와 길이가 달라 서로 겹치지 않는다.
+// - 블록 예약은 전용 풀(slugSequenceDataSource, 커넥션 1개, autocommit)로: 링크 생성 트랜잭션이 공용 풀 커넥션을 쥔 채
+//   두 번째 커넥션을 기다리지 않게 (풀이 바닥나면 서로 기다리다 교착). 풀은 DataSourceRoutingConfig 에서 관리
+// - slug_sequence 테이블은 SlugSequence 엔티티(ddl-auto), 시작 row 는 첫 예약 때 만든다
+public class SlugAllocator {
+
+    static final int SLUG_LENGTH = 9;
+    private static final String SEQUENCE_NAME = "tracking_link_slug";
+    private static final String ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    // 62^9 ≈ 1.35e16 > 2^53 → 53bit 값은 항상 9자리 안에 들어간다.
+    private static final int BITS = 53;
+    private static final long MASK = (1L << BITS) - 1;
+    // 섞기 상수 (바꾸면 이미 발급한 slug 와 겹칠 수 있으므로 변경 금지)
+    private static final long MUL_1 = 0x1F3D5B79A3C5E7L | 1;
+    private static final long MUL_2 = 0x0B4E1C9D26F38BL | 1;
+    private static final long XOR_KEY = 0x15A4E35C2B7D91L;
+    private static final long INV_1 = inverse(MUL_1); // decode 용 곱셈 역원
+    private static final long INV_2 = inverse(MUL_2);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate sequenceJdbc; // 블록 예약 전용 (공용 풀과 분리)
+    private final SlugAllocProperties props;
+
+    // 가상 스레드 pinning 방지 (블록 예약 중 DB I/O)
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;  // 다음에 발급할 번호
+    private long limit; // 예약 블록 끝 (exclusive)
+    private long reservedAt; // 블록 예약 시각 (ms)
+
+    public SlugAllocator(JdbcTemplate jdbcTemplate,
+                         @Qualifier("slugSequenceDataSource") DataSource sequenceDataSource,
+                         SlugAllocProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        // 블록 예약은 링크 생성 트랜잭션과 분리 → 시퀀스 row lock 을 짧게, 롤백돼도 번호는 소비된 채로
+        // 예약은 lock 안에서만 하므로 노드당 커넥션 1개면 충분
+        this.sequenceJdbc = new JdbcTemplate(sequenceDataSource);
+    }
+
+    public String nextSlug() {
+        return encode(nextId());
+    }
+
+    public List<String> nextSlugs(int count) {
+        List<String> slugs = new ArrayList<>(count);
+        lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                slugs.add(encode(nextIdLocked()));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return slugs;
+    }
+
+    private long nextId() {
+        lock.lock();
+        try {
+            return nextIdLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 블록을 다 못 써도 maxBlockAge 가 지나면 버리고 새로 예약 → 오래된 번호로 늦게 발급하지 않음 (SlugBloomFilter 가 의존)
+    private long nextIdLocked() {
+        if (next >= limit || System.currentTimeMillis() - reservedAt >= props.getMaxBlockAgeMs()) reserveBlock();
+        return next++;
+    }
+
+    // MySQL LAST_INSERT_ID(expr) 관용구: UPDATE 와 값 읽기를 한 번의 row lock 으로 (같은 커넥션에서만 보임)
+    // autocommit 이라 UPDATE 가 끝나면 바로 row lock 해제
+    private void reserveBlock() {
+        int blockSize = props.getBlockSize();
+        Long end = sequenceJdbc.execute((ConnectionCallback<Long>) con -> {
+            if (advance(con, blockSize) != 1) {
+                // 첫 예약: 시작 row 생성 (여러 노드가 동시에 해도 IGNORE 로 1건)
+                try (PreparedStatement ps = con.prepareStatement(
+                        "INSERT IGNORE INTO slug_sequence (name, next_val) VALUES (?, 1)")) {
+                    ps.setString(1, SEQUENCE_NAME);
+                    ps.executeUpdate();
+                }
+                if (advance(con, blockSize) != 1) {
+                    throw new IllegalStateException("slug 시퀀스를 찾을 수 없습니다.");
+                }
+            }
+            try (PreparedStatement ps = con.prepareStatement("SELECT LAST_INSERT_ID()");
+                 ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        });
+        if (end == null || end > MASK) {
+            throw new IllegalStateException("slug 시퀀스 범위를 초과했습니다.");
+        }
+
+        next = end - blockSize;
+        limit = end;
+        reservedAt = System.currentTimeMillis();
+        log.debug("Reserved slug block [{}, {})", next, limit);
+    }
+
+    private static int advance(Connection con, int blockSize) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(
+                "UPDATE slug_sequence SET next_val = LAST_INSERT_ID(next_val + ?) WHERE name = ?")) {
+            ps.setInt(1, blockSize);
+            ps.setString(2, SEQUENCE_NAME);
+            return ps.executeUpdate();
+        }
+    }
+
+    // 지금까지 예약된 번호의 끝 (exclusive). 이 값 이상인 번호의 slug 는 이 시점 이후에 발급된 것
+    public long reservedHighWater() {
+        List<Long> value = jdbcTemplate.queryForList(
+                "SELECT next_val FROM slug_sequence WHERE name = ?", Long.class, SEQUENCE_NAME);
+        return value.isEmpty() ? 0L : value.get(0);
+    }
+
+    // 예약한 블록에서 발급할 수 있는 최대 시간
+    public long maxBlockAgeMs() {
+        return props.getMaxBlockAgeMs();
+    }
+
+    // ========== 인코딩 ==========
+    // 2^53 위의 전단사 함수 (홀수 곱셈 mod 2^53, xorshift 는 모두 역연산 존재) → 연속 번호가 연속 slug 로 보이지 않게
+    static String encode(long id) {
+        long x = id & MASK;
+        x = (x * MUL_1) & MASK;
+        x ^= x >>> 27;
+        x = (x * MUL_2) & MASK;
+        x ^= x >>> 31;
+        x ^= XOR_KEY;
+
+        char[] out = new char[SLUG_LENGTH];
+        for (int i = SLUG_LENGTH - 1; i >= 0; i--) {
+            out[i] = ALPHABET.charAt((int) (x % 62));
+            x /= 62;
+        }
+        return new String(out);
+    }
+
+    // encode 의 역함수. 이 발급기가 만든 형식(9자리 base62, 53bit 안)이 아니면 -1
+    static long decode(String slug) {
+        if (slug == null || slug.length() != SLUG_LENGTH) return -1;
+        long x = 0;
+        for (int i = 0; i < SLUG_LENGTH; i++) {
+            int digit = ALPHABET.indexOf(slug.charAt(i));
+            if (digit < 0) return -1;
+            x = x * 62 + digit;
+        }
+        if (x > MASK) return -1;
+
+        // xorshift 는 시프트가 절반(27) 이상이면 한 번 더 적용하면 원래 값
+        x ^= XOR_KEY;
+        x ^= x >>> 31;
+        x = (x * INV_2) & MASK;
+        x ^= x >>> 27;
+        x = (x * INV_1) & MASK;
+        return x;
+    }
+
+    // 홀수의 mod 2^53 곱셈 역원 (Newton: 반복마다 맞는 비트 수가 2배)
+    private static long inverse(long odd) {
+        long inv = odd;
+        for (int i = 0; i < 6; i++) {
+            inv = (inv * (2 - odd * inv)) & MASK;
+        }
+        return inv;
+    }
+}
@@ -0,0 +1,361 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.config.props.SlugBloomProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Slf4j
+@Component
+// ACTIVE slug Bloom filter (/t/{slug} 음성 조회 차단용)
+// - mightContain == false 면 "확실히 없는 slug" → DB 안 가고 바로 거절 (크롤러/스캐너 랜덤 slug)
+// - true 면 있을 수도 있음 → 기존대로 캐시/DB 조회
+// Bloom filter 는 삭제가 안 되므로 비활성화가 누적되면(오탐 증가) 백그라운드에서 재빌드한다.
+// 노드마다 따로 들고 있으므로 새 slug 가 모든 노드에 들어가야 한다 (아니면 살아 있는 링크를 거절)
+// - 링크 생성 커밋 후 pub/sub(slug:bloom:add) 로 전체 노드에 추가 (커밋 전에 넣으면 재빌드 스냅샷과 엇갈려 빠질 수 있음)
+// - 메시지를 놓친 노드는 주기적인 id watermark 동기화로 따라잡음
+// - 그 사이 구간: 아직 발급 중일 수 있는 블록의 번호로 만든 slug 는 필터에 없어도 "모름" → DB 조회
+//   블록은 예약 후 app.slug-alloc.max-block-age-ms 동안만 쓰이므로, 그보다 (+ 동기화 2주기) 전에 관측한
+//   시퀀스 끝 이상이면 아직 열린 블록일 수 있다 (다른 노드가 예전에 예약한 블록에서 지금 발급하는 경우 포함)
+public class SlugBloomFilter implements MessageListener {
+
+    static final String CHANNEL = "slug:bloom:add";
+    private static final int SLUGS_PER_MESSAGE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final SlugAllocator slugAllocator;
+    private final SlugBloomProperties props;
+
+    // 동기화 watermark (스케줄러 단일 스레드에서만 접근)
+    // 커밋 순서 ≠ id 순서라 이번에 본 max(id) 는 다음 tick 에야 확정 (한 주기 동안 늦은 커밋을 다시 읽음)
+    private volatile long syncedId;
+    private long observedId;
+
+    // 시퀀스 끝 관측 기록 [관측 시각(ms), 번호] (동기화/재빌드 스레드가 같이 씀 → observeHighWater 에서만 접근)
+    private final Deque<long[]> highWaterLog = new ArrayDeque<>();
+    private long unsyncedFrom; // 이 번호 이상은 열린 블록일 수 있음 (관측이 충분히 오래되기 전까지 0)
+
+    private volatile Bits current;   // null 이면 아직 빌드 전 → 필터 미사용 (모두 통과)
+    private volatile Bits building;  // 재빌드 중 새로 생긴 slug 를 새 필터에도 넣기 위함
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final AtomicLong removedSinceBuild = new AtomicLong();
+    private final ExecutorService rebuildExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("slug-bloom-rebuild-"));
+
+    private final Counter rejected;
+    private final Counter falsePositives;
+    private final Counter rebuilds;
+
+    public SlugBloomFilter(JdbcTemplate jdbcTemplate,
+                           StringRedisTemplate redisTemplate,
+                           SlugAllocator slugAllocator,
+                           SlugBloomProperties props,
+                           MeterRegistry registry,
+                           RedisMessageListenerContainer listenerContainer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.slugAllocator = slugAllocator;
+        this.props = props;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+
+        this.rejected = Counter.builder("slug.bloom.rejected")
+                .description("Bloom filter 로 DB 조회 없이 거절한 slug 수")
+                .register(registry);
+        this.falsePositives = Counter.builder("slug.bloom.false_positives")
+                .description("Bloom filter 는 통과했지만 DB 에 ACTIVE 로 없던 slug 수")
+                .register(registry);
+        this.rebuilds = Counter.builder("slug.bloom.rebuilds")
+                .description("Bloom filter 재빌드 횟수")
+                .register(registry);
+
+        // 실측 오탐률: 존재하지 않는 slug 중 필터를 통과해버린 비율
+        Gauge.builder("slug.bloom.fpp.observed", this, SlugBloomFilter::observedFalsePositiveRate)
+                .register(registry);
+        // 이론 오탐률: (켜진 비트 비율)^k
+        Gauge.builder("slug.bloom.fpp.expected", this, SlugBloomFilter::expectedFalsePositiveRate)
+                .register(registry);
+    }
+
+    // ========== 조회 ==========
+    public boolean mightContain(String slug) {
+        Bits bits = current;
+        if (!props.isEnabled() || bits == null) return true;
+
+        if (bits.mightContain(slug)) return true;
+        // 아직 필터에 못 들어왔을 수 있는 slug (열린 블록의 번호) → DB 로
+        if (bits.mayBeUnsynced(SlugAllocator.decode(slug))) return true;
+        rejected.increment();
+        return false;
+    }
+
+    // 지금 관측한 시퀀스 끝으로 "모름" 구간 [from, to) 계산
+    // - from: maxBlockAge + 동기화 2주기(커밋 지연, id hold-back) 보다 오래된 관측 중 가장 최근 값
+    //         그 이후 예약된 블록만 지금 발급 중일 수 있고, 그 전 블록의 slug 는 이미 커밋되어 동기화로 들어왔다
+    // - to  : 지금 시퀀스 끝 + 창 (아무 9자리 문자열이 큰 번호로 풀려 필터를 우회하지 않게 상한)
+    private synchronized long[] observeHighWater() {
+        long now = System.currentTimeMillis();
+        long highWater = slugAllocator.reservedHighWater();
+        highWaterLog.addLast(new long[]{now, highWater});
+
+        long lag = slugAllocator.maxBlockAgeMs() + 2 * props.getSyncIntervalMs();
+        while (!highWaterLog.isEmpty() && now - highWaterLog.peekFirst()[0] >= lag) {
+            unsyncedFrom = Math.max(unsyncedFrom, highWaterLog.pollFirst()[1]);
+        }
+        return new long[]{unsyncedFrom, highWater + props.getNewSlugWindow()};
+    }
+
+    public void recordFalsePositive() {
+        if (current != null) falsePositives.increment();
+    }
+
+    // ========== 갱신 ==========
+    // 링크 생성 트랜잭션 안에서 호출 → 커밋 후 이 노드에 넣고 다른 노드에 전파
+    public void addAfterCommit(Collection<String> slugs) {
+        if (!props.isEnabled() || slugs.isEmpty()) return;
+        List<String> copy = List.copyOf(slugs);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addAndPublish(copy);
+                }
+            });
+        } else {
+            addAndPublish(copy);
+        }
+    }
+
+    private void addAndPublish(List<String> slugs) {
+        slugs.forEach(this::put);
+        try {
+            for (int i = 0; i < slugs.size(); i += SLUGS_PER_MESSAGE) {
+                redisTemplate.convertAndSend(CHANNEL,
+                        String.join(",", slugs.subList(i, Math.min(slugs.size(), i + SLUGS_PER_MESSAGE))));
+            }
+        } catch (Exception e) {
+            // 다른 노드는 id watermark 동기화 / "새 slug 는 DB 로" 규칙으로 보완됨
+            log.warn("Slug bloom publish failed ({} slugs)", slugs.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        for (String slug : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+            if (!slug.isEmpty()) put(slug);
+        }
+    }
+
+    void put(String slug) {
+        Bits bits = current;
+        if (bits != null) bits.put(slug);
+        Bits next = building;
+        if (next != null) next.put(slug);
+
+        if (bits != null && bits.inserted.get() > bits.capacity) {
+            // 예상 개수를 넘으면 오탐률이 급격히 오르므로 더 큰 필터로 재빌드
+            rebuildAsync();
+        }
+    }
+
+    // 비활성화된 slug 는 필터에서 뺄 수 없으므로 개수만 세다가 임계치 넘으면 재빌드
+    public void recordRemovals(int count) {
+        Bits bits = current;
+        if (bits == null || count <= 0) return;
+
+        long removed = removedSinceBuild.addAndGet(count);
+        if (removed > bits.inserted.get() * props.getRebuildStaleRatio()) {
+            rebuildAsync();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (props.isEnabled()) rebuildAsync();
+    }
+
+    // pub/sub 를 놓친 노드용: 빌드 이후 새 ACTIVE 링크를 id watermark 로 반영하고, "새 slug" 기준 번호를 올림
+    @Scheduled(fixedDelayString = "${app.slug-bloom.sync-interval-ms:30000}")
+    public void sync() {
+        Bits bits = current;
+        if (!props.isEnabled() || bits == null || rebuilding.get()) return;
+        try {
+            long[] unsynced = observeHighWater();
+            long from = syncedId;
+            long[] max = {observedId};
+            jdbcTemplate.query("SELECT id, slug FROM tracking_links WHERE id > ? AND status = 'ACTIVE'",
+                    (RowCallbackHandler) rs -> {
+                        max[0] = Math.max(max[0], rs.getLong(1));
+                        put(rs.getString(2));
+                    }, from);
+            syncedId = Math.max(from, observedId);
+            observedId = max[0];
+            if (current == bits) bits.unsyncedRange(unsynced[0], unsynced[1]);
+        } catch (Exception e) {
+            log.warn("Slug bloom sync failed (retry next run)", e);
+        }
+    }
+
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        rebuildExecutor.submit(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("Slug bloom filter rebuild failed (filter stays as-is)", e);
+            } finally {
+                building = null;
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    void rebuild() {
+        long start = System.currentTimeMillis();
+        Long activeCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tracking_links WHERE status = 'ACTIVE'", Long.class);
+        long expected = Math.max(props.getExpectedInsertions(), (activeCount == null ? 0 : activeCount) * 2);
+
+        Bits next = new Bits(expected, props.getFpp());
+        // building 지정 → 번호/id 기준점 → 스캔 순서: 기준점 이후 커밋된 slug 는 put(커밋 후) 으로 next 에 들어간다
+        building = next;
+        long removedAtStart = removedSinceBuild.get();
+        long[] unsynced = observeHighWater();
+        next.unsyncedRange(unsynced[0], unsynced[1]);
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tracking_links", Long.class);
+
+        // MySQL 스트리밍 조회 (fetchSize = Integer.MIN_VALUE): 전체 slug 를 힙에 올리지 않는다.
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(Integer.MIN_VALUE);
+        streaming.query("SELECT slug FROM tracking_links WHERE status = 'ACTIVE'",
+                (RowCallbackHandler) rs -> next.put(rs.getString(1)));
+
+        current = next;
+        syncedId = maxId == null ? 0 : maxId;
+        observedId = syncedId;
+        removedSinceBuild.addAndGet(-removedAtStart);
+        rebuilds.increment();
+        log.info("Slug bloom filter built: {} slugs, {} bits, k={} ({}ms)",
+                next.inserted.get(), next.bitCount, next.hashCount, System.currentTimeMillis() - start);
+    }
+
+    // ========== metrics ==========
+    private double observedFalsePositiveRate() {
+        double fp = falsePositives.count();
+        double negatives = fp + rejected.count();
+        return negatives == 0 ? 0.0 : fp / negatives;
+    }
+
+    private double expectedFalsePositiveRate() {
+        Bits bits = current;
+        if (bits == null) return 0.0;
+        double fill = (double) bits.bitsSet.get() / bits.bitCount;
+        return Math.pow(fill, bits.hashCount);
+    }
+
+    // ========== 비트셋 ==========
+    static final class Bits {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+        private final long capacity;
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong bitsSet = new AtomicLong();
+        // 이 구간 번호의 slug 는 아직 반영 안 됐을 수 있음 (observeHighWater). 지정 전에는 빈 구간
+        private volatile long unsyncedFrom = Long.MAX_VALUE;
+        private volatile long unsyncedTo = Long.MAX_VALUE;
+
+        void unsyncedRange(long from, long to) {
+            unsyncedTo = to;
+            unsyncedFrom = from;
+        }
+
+        boolean mayBeUnsynced(long seq) {
+            return seq >= unsyncedFrom && seq < unsyncedTo;
+        }
+
+        Bits(long expectedInsertions, double fpp) {
+            long n = Math.max(1, expectedInsertions);
+            // m = -n ln p / (ln 2)^2, k = m/n ln 2
+            long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+            this.words = new AtomicLongArray((int) (bitCount / 64));
+            this.capacity = n;
+        }
+
+        void put(String slug) {
+            long h1 = hash(slug);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if (setBit(bit)) bitsSet.incrementAndGet();
+            }
+            inserted.incrementAndGet();
+        }
+
+        boolean mightContain(String slug) {
+            long h1 = hash(slug);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        private boolean setBit(long bit) {
+            int idx = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            while (true) {
+                long old = words.get(idx);
+                if ((old & mask) != 0) return false;
+                if (words.compareAndSet(idx, old, old | mask)) return true;
+            }
+        }
+
+        // FNV-1a 64 + splitmix 마무리 (slug 는 ASCII 라 char 단위로 충분)
+        private static long hash(String s) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < s.length(); i++) {
+                h ^= s.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
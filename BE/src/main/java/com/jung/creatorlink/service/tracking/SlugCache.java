@@ -0,0 +1,64 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jung.creatorlink.config.props.SlugCacheProperties;
+import com.jung.creatorlink.dto.tracking.RedirectTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Component
+// /t/{slug} 핫패스용 JVM 로컬 캐시: slug -> (linkId, finalUrl)
+// HIT면 리다이렉트 대상 조회에 DB를 타지 않는다.
+public class SlugCache {
+
+    private final SlugCacheProperties props;
+    private final Cache<String, RedirectTarget> cache;
+
+    public SlugCache(SlugCacheProperties props) {
+        this.props = props;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(props.getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(props.getTtlSeconds()))
+                .build();
+    }
+
+    public RedirectTarget get(String slug) {
+        if (!props.isEnabled()) return null;
+        return cache.getIfPresent(slug);
+    }
+
+    public void put(String slug, RedirectTarget target) {
+        if (!props.isEnabled()) return;
+        cache.put(slug, target);
+    }
+
+    public void evict(String slug) {
+        evictAll(List.of(slug));
+    }
+
+    // 비활성화된 slug 무효화
+    // 커밋 전에 한 번, 커밋 후에 한 번 더 지운다.
+    // (커밋 전 비우기만 하면, 그 사이 들어온 리다이렉트가 아직 ACTIVE인 row를 읽어 다시 캐시에 올릴 수 있음)
+    public void evictAll(Collection<String> slugs) {
+        if (slugs.isEmpty()) return;
+        cache.invalidateAll(slugs);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(slugs);
+                }
+            });
+        }
+        log.debug("Slug cache EVICT: {} slugs", slugs.size());
+    }
+}
@@ -4,36 +4,51 @@ import com.jung.creatorlink.domain.campaign.Campaign;
 import com.jung.creatorlink.domain.channel.Channel;
 import com.jung.creatorlink.domain.common.Status;
 import com.jung.creatorlink.domain.creator.Creator;
-import com.jung.creatorlink.domain.tracking.ClickLog;
 import com.jung.creatorlink.domain.tracking.TrackingLink;
+import com.jung.creatorlink.dto.tracking.RedirectTarget;
+import com.jung.creatorlink.dto.tracking.TrackingLinkBulkCreateRequest;
+import com.jung.creatorlink.dto.tracking.TrackingLinkBulkCreateResponse;
 import com.jung.creatorlink.dto.tracking.TrackingLinkCreateRequest;
 import com.jung.creatorlink.dto.tracking.TrackingLinkResponse;
 import com.jung.creatorlink.repository.campaign.CampaignRepository;
 import com.jung.creatorlink.repository.channel.ChannelRepository;
 import com.jung.creatorlink.repository.creator.CreatorRepository;
-import com.jung.creatorlink.repository.tracking.ClickLogRepository;
+import com.jung.creatorlink.repository.tracking.TrackingLinkJdbcRepository;
 import com.jung.creatorlink.repository.tracking.TrackingLinkRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
+import com.jung.creatorlink.service.ingest.ClickEvent;
+import com.jung.creatorlink.service.ingest.ClickSink;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TrackingLinkService {
 
+    private static final int MAX_BULK_LINKS = 20_000;
+
     private final TrackingLinkRepository trackingLinkRepository;
-    private final ClickLogRepository clickLogRepository;
     private final CampaignRepository campaignRepository;
     private final CreatorRepository creatorRepository;
     private final ChannelRepository channelRepository;
+    private final SlugCache slugCache;
+    private final SlugBloomFilter slugBloomFilter;
+    private final SlugAllocator slugAllocator;
+    private final TrackingLinkJdbcRepository trackingLinkJdbcRepository;
+    private final OffHeapSlugIndex slugIndex;
+    private final ClickSink clickSink;
+    private final StatsCacheGeneration statsCacheGeneration;
 
     //1) 트래킹 링크 생성
     public TrackingLinkResponse createTrackingLink(TrackingLinkCreateRequest request) {
@@ -75,71 +90,171 @@ public class TrackingLinkService {
             //요청에서 finalUrl을 안 주면 캠페인의 landingUrl 사용
             finalUrl = campaign.getLandingUrl();
         }
-        // slug 저장 충돌 재시도는 “save 위치”에 넣는다
-        int maxRetry = 5;
-        for (int attempt = 1; attempt <= maxRetry; attempt++) {
-            String slug = randomAlphaNumeric(8);
-
-            TrackingLink trackingLink = TrackingLink.builder()
-                    .campaign(campaign)
-                    .creator(creator)
-                    .channel(channel)
-                    .slug(slug)
+        // slug 는 시퀀스 블록 기반으로 발급 → 중복이 구조적으로 불가능하므로 flush/재시도 불필요
+        TrackingLink trackingLink = TrackingLink.builder()
+                .campaign(campaign)
+                .creator(creator)
+                .channel(channel)
+                .slug(slugAllocator.nextSlug())
+                .finalUrl(finalUrl)
+                .createdAt(LocalDateTime.now())
+                .status(Status.ACTIVE)
+                .build();
+
+        TrackingLink saved = trackingLinkRepository.save(trackingLink);
+        slugBloomFilter.addAfterCommit(List.of(saved.getSlug())); // 커밋 후 전체 노드의 필터에 추가
+        statsCacheGeneration.bump(campaign.getId()); // 새 조합이 통계에 보이도록
+
+        return TrackingLinkResponse.from(saved);
+    }
+
+    // 1-1) 트래킹 링크 대량 발급 (creatorIds × channelIds)
+    // 조합마다 findById/exists/saveAndFlush 를 돌지 않고, 검증은 집합 단위 쿼리 몇 번 + INSERT 는 JDBC 배치 1번
+    public TrackingLinkBulkCreateResponse createTrackingLinksBulk(TrackingLinkBulkCreateRequest request) {
+        Set<Long> creatorIds = new LinkedHashSet<>(request.getCreatorIds());
+        Set<Long> channelIds = new LinkedHashSet<>(request.getChannelIds());
+        int requested = creatorIds.size() * channelIds.size();
+        if (requested > MAX_BULK_LINKS) {
+            throw new IllegalArgumentException("한 번에 발급할 수 있는 링크는 최대 " + MAX_BULK_LINKS + "개입니다.");
+        }
+
+        Campaign campaign = campaignRepository.findById(request.getCampaignId())
+                .orElseThrow(() -> new IllegalArgumentException("캠패인을 찾을 수 없습니다."));
+        Long advId = campaign.getAdvertiser().getId();
+        if (request.getAdvertiserId() != null && !advId.equals(request.getAdvertiserId())) {
+            throw new IllegalArgumentException("현재 로그인 된 광고주의 리소스만 사용 가능합니다.");
+        }
+
+        // 소유권 검증: 캠페인 광고주의 ACTIVE 크리에이터/채널만 (id 만 조회)
+        Set<Long> ownedCreators = new HashSet<>(creatorRepository.findIdsOwnedBy(creatorIds, advId, Status.ACTIVE));
+        if (ownedCreators.size() != creatorIds.size()) {
+            List<Long> invalid = creatorIds.stream().filter(id -> !ownedCreators.contains(id)).toList();
+            throw new IllegalArgumentException("같은 광고주의 ACTIVE 크리에이터만 사용할 수 있습니다. creatorIds=" + invalid);
+        }
+        Set<Long> ownedChannels = new HashSet<>(channelRepository.findIdsOwnedBy(channelIds, advId, Status.ACTIVE));
+        if (ownedChannels.size() != channelIds.size()) {
+            List<Long> invalid = channelIds.stream().filter(id -> !ownedChannels.contains(id)).toList();
+            throw new IllegalArgumentException("같은 광고주의 ACTIVE 채널만 사용할 수 있습니다. channelIds=" + invalid);
+        }
+
+        // 같은 조합 ACTIVE 는 1개만 → 이미 있는 조합은 건너뜀
+        Set<List<Long>> existing = new HashSet<>();
+        for (Object[] row : trackingLinkRepository.findCombinationsByCampaignAndStatus(
+                campaign.getId(), creatorIds, channelIds, Status.ACTIVE)) {
+            existing.add(List.of((Long) row[0], (Long) row[1]));
+        }
+
+        String finalUrl = request.getFinalUrl();
+        if (finalUrl == null || finalUrl.isBlank()) {
+            finalUrl = campaign.getLandingUrl();
+        }
+
+        List<TrackingLinkJdbcRepository.NewLink> links = new ArrayList<>(requested - existing.size());
+        List<String> slugs = slugAllocator.nextSlugs(requested - existing.size());
+        for (Long creatorId : creatorIds) {
+            for (Long channelId : channelIds) {
+                if (existing.contains(List.of(creatorId, channelId))) continue;
+                links.add(new TrackingLinkJdbcRepository.NewLink(creatorId, channelId, slugs.get(links.size())));
+            }
+        }
+
+        long[] ids = trackingLinkJdbcRepository.insertBatch(campaign.getId(), finalUrl, LocalDateTime.now(), links);
+        if (!links.isEmpty()) statsCacheGeneration.bump(campaign.getId());
+        slugBloomFilter.addAfterCommit(links.stream().map(TrackingLinkJdbcRepository.NewLink::slug).toList());
+
+        List<TrackingLinkResponse> created = new ArrayList<>(links.size());
+        for (int i = 0; i < links.size(); i++) {
+            TrackingLinkJdbcRepository.NewLink link = links.get(i);
+            created.add(TrackingLinkResponse.builder()
+                    .id(i < ids.length ? ids[i] : null)
+                    .campaignId(campaign.getId())
+                    .creatorId(link.creatorId())
+                    .channelId(link.channelId())
+                    .slug(link.slug())
                     .finalUrl(finalUrl)
-                    .createdAt(LocalDateTime.now())
                     .status(Status.ACTIVE)
-                    .build();
-
-            try {
-                // saveAndFlush로 유니크 충돌을 여기서 바로 터뜨려 catch 가능하게
-                TrackingLink saved = trackingLinkRepository.saveAndFlush(trackingLink);
-
-                return TrackingLinkResponse.from(saved);
-
-            } catch (DataIntegrityViolationException e) {
-                // slug UNIQUE 충돌이면 retry, 그 외는 그대로 던지기
-                if (isDuplicateSlug(e)) {
-                    if (attempt == maxRetry) {
-                        throw new IllegalStateException("slug 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
-                    }
-                    continue;
-                }
-                throw e;
-            }
+                    .build());
         }
 
-        throw new IllegalStateException("slug 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
+        return TrackingLinkBulkCreateResponse.builder()
+                .campaignId(campaign.getId())
+                .requested(requested)
+                .created(created.size())
+                .skippedExisting(existing.size())
+                .links(created)
+                .build();
+    }
+
+
+    // 리다이렉트 핫패스: 슬러그 캐시 HIT면 트랜잭션/커넥션 없이 대상 결정
+    // 클릭 적재는 ClickSink 에 위임 (direct: 즉시 INSERT / async: 큐 적재 후 배치 INSERT)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String handleClick(String slug, HttpServletRequest request) {
+        RedirectTarget target = resolveActiveLink(slug);
+
+        recordClick(target, extractClientIp(request), request.getHeader("User-Agent"), request.getHeader("Referer"));
 
+        return target.getFinalUrl();
     }
 
-    private boolean isDuplicateSlug(DataIntegrityViolationException e) {
-        // DB/드라이버별 메시지가 달라서 “느슨하게” 체크하는 편이 현실적
-        String msg = (e.getMostSpecificCause() != null) ? e.getMostSpecificCause().getMessage() : e.getMessage();
-        if (msg == null) return false;
-        msg = msg.toLowerCase();
-        return msg.contains("duplicate") && (msg.contains("slug") || msg.contains("idx_tracking_links_slug"));
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordClick(RedirectTarget target, String ip, String userAgent, String referer) {
+        recordClick(target.getTrackingLinkId(), target.getCampaignId(), ip, userAgent, referer);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordClick(long trackingLinkId, Long campaignId, String ip, String userAgent, String referer) {
+        clickSink.accept(ClickEvent.of(
+                trackingLinkId,
+                campaignId,
+                LocalDateTime.now(),
+                ip,
+                userAgent,
+                referer
+        ));
+    }
 
-    public String handleClick(String slug, HttpServletRequest request) {
-        // ACTIVE 인 slug 만 허용
-        TrackingLink trackingLink = trackingLinkRepository
-                .findBySlugAndStatus(slug, Status.ACTIVE)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 링크입니다."));
-
-        // 여기까지 왔다는 건 이미 ACTIVE 라는 뜻이라 isActive() 체크는 사실 필요 없음
-        // 그래도 방어적으로 남기고 싶으면 유지해도 되고, 안 써도 됨.
-        ClickLog log = ClickLog.builder()
-                .trackingLink(trackingLink)
-                .clickedAt(LocalDateTime.now())
-                .ip(extractClientIp(request))
-                .userAgent(request.getHeader("User-Agent"))
-                .referer(request.getHeader("Referer"))
-                .build();
+    // Netty 핫패스: off-heap 인덱스 HIT 면 RedirectTarget 없이 hit 에 슬롯만 채움 (miss 면 resolveWithoutDb 경로로)
+    // 이벤트 루프에서 호출 → 클래스 레벨 REQUIRED 트랜잭션(커넥션 획득)을 열지 않도록 SUPPORTS
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean resolveIndexed(String slug, OffHeapSlugIndex.Hit hit) {
+        return slugIndex.lookup(slug, hit);
+    }
 
-        clickLogRepository.save(log);
+    // DB 를 안 거치고 결정할 수 있는 만큼만 (캐시 → 인덱스 → Bloom)
+    // 대상이면 반환, 확실히 없는 slug 면 예외, 판단 못 하면 null (→ resolveActiveLink 로 DB 조회)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public RedirectTarget resolveWithoutDb(String slug) {
+        RedirectTarget cached = slugCache.get(slug);
+        if (cached != null) return cached;
+
+        // 전체 ACTIVE slug off-heap 인덱스 (미스여도 방금 생긴 링크일 수 있으니 아래로 진행)
+        RedirectTarget indexed = slugIndex.lookup(slug);
+        if (indexed != null) return indexed;
+
+        // Bloom filter 에 없으면 확실히 없는 slug → DB 조회 없이 거절
+        // (필터가 아직 반영 못 한 새 번호의 slug 는 mightContain 이 true → DB 로)
+        if (!slugBloomFilter.mightContain(slug)) {
+            throw new IllegalArgumentException("유효하지 않은 링크입니다.");
+        }
+        return null;
+    }
 
-        return trackingLink.getFinalUrl();
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public RedirectTarget resolveActiveLink(String slug) {
+        RedirectTarget known = resolveWithoutDb(slug);
+        if (known != null) return known;
+
+        // 캐시 MISS → ACTIVE 인 slug 만 허용 (엔티티 대신 projection 조회)
+        RedirectTarget target = trackingLinkRepository
+                .findRedirectTargetBySlugAndStatus(slug, Status.ACTIVE)
+                .orElseThrow(() -> {
+                    slugBloomFilter.recordFalsePositive();
+                    return new IllegalArgumentException("유효하지 않은 링크입니다.");
+                });
+
+        slugCache.put(slug, target);
+        return target;
     }
 
     // 캠페인별 트래킹 링크 목록 조회
@@ -158,18 +273,6 @@ public class TrackingLinkService {
     }
 
 
-    //slug 생성기 (간단 버전)
-    private String randomAlphaNumeric(int length) {
-        String chars = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        StringBuilder sb = new StringBuilder(length);
-        ThreadLocalRandom rnd = ThreadLocalRandom.current();
-        for (int i = 0; i < length; i++) {
-            sb.append(chars.charAt(rnd.nextInt(chars.length())));
-        }
-        return sb.toString();
-    }
-
-
     private String extractClientIp(HttpServletRequest request) {
         //프록시 등 고려하면 X-Forwarded-For 등을 봐야 하지만, 지금은 간단 버전으로 만든다.
         String ip = request.getHeader("X-Forwarded-For");
@@ -186,6 +289,35 @@ public class TrackingLinkService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 트래킹 링크입니다."));
 
         link.deactivate();
+        onDeactivated(List.of(link.getSlug()), 1);
+        statsCacheGeneration.bump(link.getCampaign().getId());
+    }
+
+    // creator 삭제 시 정합성 강제: 연결된 ACTIVE 링크 일괄 비활성화 + 리다이렉트 캐시 무효화
+    @Transactional
+    public int deactivateAllByCreatorId(Long creatorId) {
+        List<String> slugs = trackingLinkRepository.findSlugsByCreatorIdAndStatus(creatorId, Status.ACTIVE);
+        statsCacheGeneration.bumpAll(trackingLinkRepository.findCampaignIdsByCreatorIdAndStatus(creatorId, Status.ACTIVE));
+        int updated = trackingLinkRepository.deactivateAllByCreatorId(creatorId, Status.ACTIVE, Status.INACTIVE, LocalDateTime.now());
+        onDeactivated(slugs, updated);
+        return updated;
+    }
+
+    // channel 삭제 시 정합성 강제: 연결된 ACTIVE 링크 일괄 비활성화 + 리다이렉트 캐시 무효화
+    @Transactional
+    public int deactivateAllByChannelId(Long channelId) {
+        List<String> slugs = trackingLinkRepository.findSlugsByChannelIdAndStatus(channelId, Status.ACTIVE);
+        statsCacheGeneration.bumpAll(trackingLinkRepository.findCampaignIdsByChannelIdAndStatus(channelId, Status.ACTIVE));
+        int updated = trackingLinkRepository.deactivateAllByChannelId(channelId, Status.ACTIVE, Status.INACTIVE, LocalDateTime.now());
+        onDeactivated(slugs, updated);
+        return updated;
+    }
+
+    // 비활성화된 slug 를 리다이렉트 경로(캐시/인덱스/Bloom)에서 제외
+    private void onDeactivated(List<String> slugs, int updated) {
+        slugCache.evictAll(slugs);
+        slugIndex.markDeleted(slugs);
+        slugBloomFilter.recordRemovals(updated);
     }
 
 }
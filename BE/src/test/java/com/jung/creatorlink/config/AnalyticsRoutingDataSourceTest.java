@@ -0,0 +1,62 @@
+package com.jung.creatorlink.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyticsRoutingDataSourceTest {
+
+    private final AnalyticsRoutingDataSource routing = new AnalyticsRoutingDataSource();
+
+    @AfterEach
+    void resetTransactionState() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void outsideAnalyticsScopeEverythingGoesToPrimary() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // 리다이렉트 등 readOnly 조회도 primary (replica 지연 영향 없음)
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(AnalyticsRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void analyticsScopeWithoutTransactionUsesAnalyticsPool() {
+        Object key = AnalyticsRoutingDataSource.analytics(routing::determineCurrentLookupKey);
+
+        assertThat(key).isEqualTo(AnalyticsRoutingDataSource.ANALYTICS);
+    }
+
+    @Test
+    void analyticsScopeInReadOnlyTransactionUsesAnalyticsPool() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Object key = AnalyticsRoutingDataSource.analytics(routing::determineCurrentLookupKey);
+
+        assertThat(key).isEqualTo(AnalyticsRoutingDataSource.ANALYTICS);
+    }
+
+    @Test
+    void writeTransactionStaysOnPrimaryEvenInAnalyticsScope() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        Object key = AnalyticsRoutingDataSource.analytics(routing::determineCurrentLookupKey);
+
+        assertThat(key).isEqualTo(AnalyticsRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void scopeEndsWithOutermostCall() {
+        Object inner = AnalyticsRoutingDataSource.analytics(() ->
+                AnalyticsRoutingDataSource.analytics(routing::determineCurrentLookupKey));
+
+        assertThat(inner).isEqualTo(AnalyticsRoutingDataSource.ANALYTICS);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(AnalyticsRoutingDataSource.PRIMARY);
+    }
+}
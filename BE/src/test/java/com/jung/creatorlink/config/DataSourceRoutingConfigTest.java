@@ -0,0 +1,60 @@
+package com.jung.creatorlink.config;
+
+import com.jung.creatorlink.config.props.AnalyticsDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커넥션은 꺼내지 않으므로 MySQL 없이 빈 구성만 확인
+class DataSourceRoutingConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(PropsConfig.class, DataSourceRoutingConfig.class)
+            .withPropertyValues("spring.datasource.url=jdbc:mysql://localhost:3306/creatorlink",
+                    "spring.datasource.username=test");
+
+    @Test
+    void slugSequencePoolDoesNotReplaceDefaultDataSource() {
+        runner.run(context -> {
+            // 타입으로 찾으면 자동 설정 DataSource 하나만 후보 (slug 풀은 이름으로만)
+            assertThat(context).hasBean("dataSource");
+            HikariDataSource main = (HikariDataSource) context.getBean(DataSource.class);
+            HikariDataSource slug = context.getBean("slugSequenceDataSource", HikariDataSource.class);
+
+            assertThat(main).isNotSameAs(slug);
+            assertThat(slug.getPoolName()).isEqualTo("slug-sequence");
+            assertThat(slug.getMaximumPoolSize()).isEqualTo(1);
+            assertThat(slug.isAutoCommit()).isTrue();
+        });
+    }
+
+    @Test
+    void slugSequencePoolIsClosedWithContext() {
+        HikariDataSource[] slug = new HikariDataSource[1];
+        runner.run(context -> slug[0] = context.getBean("slugSequenceDataSource", HikariDataSource.class));
+
+        assertThat(slug[0].isClosed()).isTrue();
+    }
+
+    @Test
+    void analyticsRoutingStaysPrimaryWhenEnabled() {
+        runner.withPropertyValues("app.analytics-datasource.enabled=true").run(context -> {
+            assertThat(context.getBean(DataSource.class)).isNotInstanceOf(HikariDataSource.class);
+            assertThat(context).hasBean("primaryDataSource").hasBean("analyticsDataSource");
+        });
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(AnalyticsDataSourceProperties.class)
+    static class PropsConfig {
+    }
+}
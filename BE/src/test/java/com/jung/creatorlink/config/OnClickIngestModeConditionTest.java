@@ -0,0 +1,63 @@
+package com.jung.creatorlink.config;
+
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OnClickIngestModeConditionTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(ModeBeans.class);
+
+    @Test
+    void everySpellingAcceptedByBindingActivatesTheMode() {
+        for (String value : new String[]{"redis-stream", "REDIS_STREAM", "redis_stream", "Redis-Stream"}) {
+            runner.withPropertyValues("app.click-ingest.mode=" + value).run(context -> assertThat(context)
+                    .as(value)
+                    .hasBean("redisStream")
+                    .doesNotHaveBean("direct"));
+        }
+    }
+
+    @Test
+    void missingModeFallsBackToDirect() {
+        runner.run(context -> assertThat(context)
+                .hasBean("direct")
+                .doesNotHaveBean("redisStream")
+                .doesNotHaveBean("journal"));
+    }
+
+    @Test
+    void onlyTheSelectedModeIsActive() {
+        runner.withPropertyValues("app.click-ingest.mode=JOURNAL").run(context -> assertThat(context)
+                .hasBean("journal")
+                .doesNotHaveBean("direct")
+                .doesNotHaveBean("redisStream"));
+    }
+
+    @Configuration
+    static class ModeBeans {
+
+        @Bean
+        @ConditionalOnClickIngestMode(ClickIngestProperties.Mode.DIRECT)
+        String direct() {
+            return "direct";
+        }
+
+        @Bean
+        @ConditionalOnClickIngestMode(ClickIngestProperties.Mode.REDIS_STREAM)
+        String redisStream() {
+            return "redis-stream";
+        }
+
+        @Bean
+        @ConditionalOnClickIngestMode(ClickIngestProperties.Mode.JOURNAL)
+        String journal() {
+            return "journal";
+        }
+    }
+}
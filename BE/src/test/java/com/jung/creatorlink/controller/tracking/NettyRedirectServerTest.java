@@ -0,0 +1,31 @@
+package com.jung.creatorlink.controller.tracking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jung.creatorlink.config.props.RedirectServerProperties;
+import com.jung.creatorlink.service.ingest.ClickSink;
+import com.jung.creatorlink.service.tracking.TrackingLinkService;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class NettyRedirectServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final NettyRedirectServer server = new NettyRedirectServer(
+            mock(TrackingLinkService.class), mock(ClickSink.class), new RedirectServerProperties(), objectMapper);
+
+    @Test
+    void errorBodyEscapesMessage() throws Exception {
+        String message = "잘못된 slug: \"a\\b\"}\n<script>";
+
+        String body = server.errorBody(message);
+
+        assertThat(objectMapper.readTree(body).get("message").asText()).isEqualTo(message);
+    }
+
+    @Test
+    void nullMessageStillProducesJson() throws Exception {
+        assertThat(objectMapper.readTree(server.errorBody(null)).has("message")).isTrue();
+    }
+}
@@ -0,0 +1,57 @@
+package com.jung.creatorlink.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedPayloadTest {
+
+    private static final byte[] JSON = "[{\"linkId\":1,\"clicks\":42}]".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void smallPayloadIsStoredPlainAndRoundTrips() {
+        CachedPayload payload = CachedPayload.of(JSON, 2_048, 1_000L);
+
+        CachedPayload decoded = CachedPayload.decode(payload.encode());
+
+        assertThat(decoded.gzip()).isFalse();
+        assertThat(decoded.body()).isEqualTo(JSON);
+        assertThat(decoded.freshUntil()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void largePayloadIsGzippedAndJsonIsInflated() {
+        byte[] large = ("[" + "{\"linkId\":1,\"clicks\":42},".repeat(200) + "{}]").getBytes(StandardCharsets.UTF_8);
+
+        CachedPayload payload = CachedPayload.of(large, 2_048, 1_000L);
+        CachedPayload decoded = CachedPayload.decode(payload.encode());
+
+        assertThat(decoded.gzip()).isTrue();
+        assertThat(decoded.body().length).isLessThan(large.length);
+        assertThat(decoded.json()).isEqualTo(large);
+    }
+
+    @Test
+    void zeroThresholdDisablesCompression() {
+        byte[] large = "x".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(CachedPayload.of(large, 0, 0L).gzip()).isFalse();
+    }
+
+    @Test
+    void foreignOrTruncatedValuesDecodeAsMiss() {
+        assertThat(CachedPayload.decode(null)).isNull();
+        assertThat(CachedPayload.decode(new byte[]{'J', 0, 0})).isNull();
+        assertThat(CachedPayload.decode("[{\"old\":\"string format\"}]".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void staleOnceFreshUntilIsReached() {
+        CachedPayload payload = CachedPayload.of(JSON, 0, 1_000L);
+
+        assertThat(payload.isStale(999L)).isFalse();
+        assertThat(payload.isStale(1_000L)).isTrue();
+    }
+}
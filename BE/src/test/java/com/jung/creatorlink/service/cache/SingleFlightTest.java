@@ -0,0 +1,142 @@
+package com.jung.creatorlink.service.cache;
+
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private SingleFlight singleFlight;
+
+    @AfterEach
+    void tearDown() {
+        singleFlight.shutdown();
+    }
+
+    @Test
+    void concurrentCallsForSameKeyShareOneLoad() throws Exception {
+        singleFlight = singleFlight(2, 10, 5_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(singleFlight.execute("k", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return "v";
+            }));
+        }
+        release.countDown();
+
+        for (CompletableFuture<String> f : futures) {
+            assertThat(f.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void differentKeysLoadSeparately() throws Exception {
+        singleFlight = singleFlight(2, 10, 5_000);
+
+        CompletableFuture<String> a = singleFlight.execute("a", () -> "A");
+        CompletableFuture<String> b = singleFlight.execute("b", () -> "B");
+
+        assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("B");
+    }
+
+    @Test
+    void waiterTimesOutWithoutCancellingSharedLoad() throws Exception {
+        singleFlight = singleFlight(1, 10, 200);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = singleFlight.execute("k", () -> {
+            await(release);
+            return "v";
+        });
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        // 아직 진행 중인 공유 조회에 새 대기자가 붙고, 앞선 timeout 과 무관하게 결과를 받는다
+        CompletableFuture<String> second = singleFlight.execute("k", () -> "other");
+        release.countDown();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+    }
+
+    @Test
+    void completedKeyIsReleasedForNextLoad() throws Exception {
+        singleFlight = singleFlight(1, 10, 5_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(singleFlight.execute("k", loads::incrementAndGet).get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(singleFlight.execute("k", loads::incrementAndGet).get(5, TimeUnit.SECONDS)).isEqualTo(2);
+    }
+
+    @Test
+    void failedLoadIsReleasedForNextLoad() throws Exception {
+        singleFlight = singleFlight(1, 10, 5_000);
+
+        CompletableFuture<String> failed = singleFlight.execute("k", () -> {
+            throw new IllegalStateException("db down");
+        });
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("k", () -> "v").get(5, TimeUnit.SECONDS)).isEqualTo("v");
+    }
+
+    @Test
+    void fullLoaderQueueRejectsAndReleasesKey() throws Exception {
+        singleFlight = singleFlight(1, 1, 5_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> busy = singleFlight.execute("busy", () -> {
+            started.countDown();
+            await(release);
+            return "v";
+        });
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = singleFlight.execute("queued", () -> "v");
+
+        CompletableFuture<String> rejected = singleFlight.execute("k", () -> "v");
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        busy.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(singleFlight.execute("k", () -> "again").get(5, TimeUnit.SECONDS)).isEqualTo("again");
+    }
+
+    private static SingleFlight singleFlight(int threads, int queueCapacity, long waitTimeoutMs) {
+        StatsCacheProperties props = new StatsCacheProperties();
+        props.setLoaderThreads(threads);
+        props.setLoaderQueueCapacity(queueCapacity);
+        props.setWaitTimeoutMs(waitTimeoutMs);
+        return new SingleFlight(props);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.jung.creatorlink.service.cache;
+
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatsCacheGenerationTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private StatsCacheGeneration generation;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        generation = new StatsCacheGeneration(redisTemplate, new StatsCacheProperties(),
+                mock(RedisMessageListenerContainer.class));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void currentIsReadFromRedisOnceThenServedLocally() {
+        when(values.get("stats:gen:7")).thenReturn("3");
+
+        assertThat(generation.current(7L)).isEqualTo(3L);
+        assertThat(generation.current(7L)).isEqualTo(3L);
+        assertThat(generation.current(8L)).isZero(); // 키 없음 = 0세대
+
+        verify(values, times(1)).get("stats:gen:7");
+    }
+
+    @Test
+    void bumpIncrementsPublishesAndDropsLocalValue() {
+        when(values.get("stats:gen:7")).thenReturn("3", "4");
+        generation.current(7L);
+
+        generation.bump(7L);
+
+        verify(values).increment("stats:gen:7");
+        verify(redisTemplate).convertAndSend(StatsCacheGeneration.CHANNEL, "7");
+        assertThat(generation.current(7L)).isEqualTo(4L);
+    }
+
+    @Test
+    void bumpInsideTransactionWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        generation.bumpAll(List.of(7L, 8L, 7L));
+        verify(values, never()).increment(anyString());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(values, times(1)).increment("stats:gen:7");
+        verify(values, times(1)).increment("stats:gen:8");
+    }
+
+    @Test
+    void invalidationFromOtherNodeRereadsRedis() {
+        when(values.get("stats:gen:7")).thenReturn("3", "5");
+        generation.current(7L);
+
+        generation.onMessage(message("7"), null);
+        generation.onMessage(message("not-a-number"), null); // 무시
+
+        assertThat(generation.current(7L)).isEqualTo(5L);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(StatsCacheGeneration.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,120 @@
+package com.jung.creatorlink.service.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatsCacheServiceTest {
+
+    private static final TypeReference<Map<Long, Long>> LINK_COUNTS = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisStringCommands strings = mock(RedisStringCommands.class);
+    private StatsCacheService cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(connection.stringCommands()).thenReturn(strings);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(inv -> ((RedisCallback<?>) inv.getArgument(0)).doInRedis(connection));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(inv -> {
+            ((RedisCallback<?>) inv.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+
+        StatsCacheProperties props = new StatsCacheProperties();
+        props.setEnabled(true);
+        StatsLocalCache localCache = new StatsLocalCache(props, redisTemplate, mock(RedisMessageListenerContainer.class));
+        cache = new StatsCacheService(redisTemplate, objectMapper, props, localCache);
+    }
+
+    @Test
+    void getAllReadsMissingKeysWithOneMget() throws Exception {
+        long future = System.currentTimeMillis() + 60_000;
+        byte[] fresh = CachedPayload.of(objectMapper.writeValueAsBytes(Map.of(1L, 5L)), 0, future).encode();
+        byte[] stale = CachedPayload.of(objectMapper.writeValueAsBytes(Map.of(2L, 9L)), 0, 1L).encode();
+        when(strings.mGet(any(byte[][].class))).thenReturn(Arrays.asList(fresh, null, stale));
+
+        Map<String, Map<Long, Long>> hits = cache.getAll(List.of("a", "b", "c"), LINK_COUNTS);
+
+        assertThat(hits).containsOnlyKeys("a");
+        assertThat(hits.get("a")).containsEntry(1L, 5L);
+        verify(strings, times(1)).mGet(any(byte[][].class));
+        verify(strings, never()).get(any());
+    }
+
+    @Test
+    void getAllServesFreshLocalEntriesWithoutRedis() {
+        cache.setAll(Map.of("a", Map.of(1L, 5L)), key -> Duration.ofMinutes(1));
+
+        Map<String, Map<Long, Long>> hits = cache.getAll(List.of("a"), LINK_COUNTS);
+
+        assertThat(hits.get("a")).containsEntry(1L, 5L);
+        verify(strings, never()).mGet(any(byte[][].class));
+    }
+
+    @Test
+    void setAllWritesEveryKeyInOnePipelineWithItsOwnTtl() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("closed", Map.of(1L, 1L));
+        values.put("today", Map.of(2L, 2L));
+
+        cache.setAll(values, key -> key.equals("closed") ? Duration.ofDays(30) : Duration.ofSeconds(60));
+
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(strings).set(eq("closed".getBytes(StandardCharsets.UTF_8)), any(),
+                eq(Expiration.from(Duration.ofDays(30).plusSeconds(300))), eq(RedisStringCommands.SetOption.upsert()));
+        verify(strings).set(eq("today".getBytes(StandardCharsets.UTF_8)), any(),
+                eq(Expiration.from(Duration.ofSeconds(360))), eq(RedisStringCommands.SetOption.upsert()));
+        // 다른 노드 L1 무효화도 같은 파이프라인으로 (키마다 따로 publish 왕복 X)
+        verify(connection, times(2)).publish(eq(StatsLocalCache.CHANNEL.getBytes(StandardCharsets.UTF_8)), any());
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+    }
+
+    @Test
+    void staleValueIsServedWithRefreshOnlyToCallersThatAcceptIt() throws Exception {
+        byte[] stale = CachedPayload.of(objectMapper.writeValueAsBytes(Map.of(1L, 5L)), 0, 1L).encode();
+        when(strings.get("a".getBytes(StandardCharsets.UTF_8))).thenReturn(stale);
+        AtomicInteger refreshes = new AtomicInteger();
+
+        assertThat(cache.get("a", LINK_COUNTS)).isEmpty();
+        assertThat(refreshes).hasValue(0);
+
+        assertThat(cache.getOrStale("a", LINK_COUNTS, refreshes::incrementAndGet)).hasValue(Map.of(1L, 5L));
+        assertThat(refreshes).hasValue(1);
+
+        // L1 에 올라간 stale 값도 같은 규칙: 받는 호출자에게는 값 + 갱신, 아니면 miss
+        assertThat(cache.getOrStale("a", LINK_COUNTS, refreshes::incrementAndGet)).hasValue(Map.of(1L, 5L));
+        assertThat(refreshes).hasValue(2);
+        assertThat(cache.get("a", LINK_COUNTS)).isEmpty();
+    }
+}
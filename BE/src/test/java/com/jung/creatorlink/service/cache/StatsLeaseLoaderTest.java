@@ -0,0 +1,114 @@
+package com.jung.creatorlink.service.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatsLeaseLoaderTest {
+
+    private static final TypeReference<Long> LONG = new TypeReference<>() {
+    };
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final StatsCacheService cache = mock(StatsCacheService.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final StatsCacheProperties props = new StatsCacheProperties();
+    private final AtomicInteger computed = new AtomicInteger();
+    private StatsLeaseLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        props.setEnabled(true);
+        props.setDistributedLease(true);
+        props.setWaitTimeoutMs(1_000);
+        props.setLeasePollMs(50);
+        loader = new StatsLeaseLoader(cache, redisTemplate, props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    void leaseHolderComputesAndWritesWithItsFencingToken() {
+        when(cache.get("k", LONG)).thenReturn(Optional.empty());
+        leaseToken(7L);
+        when(cache.setIfLeaseHeld("k", 42L, TTL, "lease:k", "7")).thenReturn(true);
+
+        assertThat(loader.load("k", LONG, TTL, this::compute)).isEqualTo(42L);
+
+        assertThat(computed).hasValue(1);
+        verify(cache).setIfLeaseHeld("k", 42L, TTL, "lease:k", "7");
+        // 해제는 자기 token 일 때만 (RELEASE 스크립트 인자)
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lease:k")), eq("7"));
+    }
+
+    @Test
+    void otherNodesWaitForTheCachedResultInsteadOfComputing() {
+        when(cache.get("k", LONG)).thenReturn(Optional.empty(), Optional.empty(), Optional.of(42L));
+        leaseToken(null);
+
+        assertThat(loader.load("k", LONG, TTL, this::compute)).isEqualTo(42L);
+
+        assertThat(computed).hasValue(0);
+    }
+
+    @Test
+    void waitGivesUpAfterTimeout() {
+        props.setWaitTimeoutMs(200);
+        when(cache.get("k", LONG)).thenReturn(Optional.empty());
+        leaseToken(null);
+
+        assertThatThrownBy(() -> loader.load("k", LONG, TTL, this::compute))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(computed).hasValue(0);
+    }
+
+    @Test
+    void withoutDistributedLeaseLoadsLocally() {
+        props.setDistributedLease(false);
+        when(cache.get("k", LONG)).thenReturn(Optional.empty());
+
+        assertThat(loader.load("k", LONG, TTL, this::compute)).isEqualTo(42L);
+
+        verify(cache).set("k", 42L, TTL);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    // ACQUIRE 는 [lease, fence] 두 키를 받는 유일한 스크립트
+    @SuppressWarnings("unchecked")
+    private void leaseToken(Long token) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+            List<String> keys = inv.getArgument(1);
+            return keys.size() == 2 ? token : Long.valueOf(1L);
+        });
+    }
+
+    private Long compute() {
+        computed.incrementAndGet();
+        return 42L;
+    }
+}
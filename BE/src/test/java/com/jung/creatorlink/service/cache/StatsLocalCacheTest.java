@@ -0,0 +1,90 @@
+package com.jung.creatorlink.service.cache;
+
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class StatsLocalCacheTest {
+
+    private static final CachedPayload PAYLOAD =
+            CachedPayload.of("[1,2]".getBytes(StandardCharsets.UTF_8), 0, 1_000L);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void storedListIsImmutableCopy() {
+        StatsLocalCache cache = cache(new StatsCacheProperties());
+        List<Integer> value = new ArrayList<>(List.of(1, 2));
+
+        cache.put("k", value, PAYLOAD);
+        value.add(3);
+
+        StatsLocalCache.Entry entry = cache.get("k");
+        assertThat(entry.freshUntil()).isEqualTo(1_000L);
+        assertThat(entry.value()).contains(List.of(1, 2));
+        assertThatThrownBy(() -> ((List<Object>) entry.value().orElseThrow()).add(4))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void invalidationFromOtherNodeDropsBothSlots() {
+        StatsCacheProperties props = new StatsCacheProperties();
+        props.setRawPassthrough(true);
+        StatsLocalCache cache = cache(props);
+        cache.putOwn("k", List.of(1, 2), PAYLOAD);
+        assertThat(cache.getPayload("k")).isNotNull();
+
+        cache.onMessage(message("other-node|k"), null);
+
+        assertThat(cache.get("k")).isNull();
+        assertThat(cache.getPayload("k")).isNull();
+    }
+
+    @Test
+    void ownInvalidationIsIgnored() {
+        StatsLocalCache cache = cache(new StatsCacheProperties());
+        cache.putAndBroadcast("k", List.of(1, 2), PAYLOAD);
+
+        cache.onMessage(message(new String(cache.invalidationMessage("k"), StandardCharsets.UTF_8)), null);
+
+        assertThat(cache.get("k")).isNotNull();
+        verify(redisTemplate).convertAndSend(eq(StatsLocalCache.CHANNEL), anyString());
+    }
+
+    @Test
+    void disabledCacheStoresNothingAndPublishesNothing() {
+        StatsCacheProperties props = new StatsCacheProperties();
+        props.setLocalEnabled(false);
+        StatsLocalCache cache = cache(props);
+
+        cache.putAndBroadcast("k", List.of(1, 2), PAYLOAD);
+
+        assertThat(cache.get("k")).isNull();
+        assertThat(cache.invalidationMessage("k")).isNull();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private StatsLocalCache cache(StatsCacheProperties props) {
+        return new StatsLocalCache(props, redisTemplate, mock(RedisMessageListenerContainer.class));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(StatsLocalCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
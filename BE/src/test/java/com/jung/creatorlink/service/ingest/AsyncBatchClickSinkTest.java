@@ -0,0 +1,63 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AsyncBatchClickSinkTest {
+
+    private final ClickLogWriter writer = mock(ClickLogWriter.class);
+
+    @Test
+    void zeroFlushIntervalIsRejected() {
+        ClickIngestProperties props = new ClickIngestProperties();
+        props.setFlushIntervalMs(0);
+
+        assertThatThrownBy(() -> new AsyncBatchClickSink(writer, props))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("flush-interval-ms");
+    }
+
+    @Test
+    void zeroBatchSizeIsRejected() {
+        ClickIngestProperties props = new ClickIngestProperties();
+        props.setBatchSize(0);
+
+        assertThatThrownBy(() -> new AsyncBatchClickSink(writer, props))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("batch-size");
+    }
+
+    @Test
+    void partialBatchIsFlushedAfterInterval() {
+        ClickIngestProperties props = new ClickIngestProperties();
+        props.setBatchSize(100);
+        props.setFlushIntervalMs(50);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        // writer 는 배치 리스트를 재사용(flush 후 clear)하므로 호출 시점 크기를 기록
+        doAnswer(inv -> batchSizes.add(((List<?>) inv.getArgument(0)).size())).when(writer).write(anyList());
+        AsyncBatchClickSink sink = new AsyncBatchClickSink(writer, props);
+        sink.start();
+        try {
+            sink.accept(ClickEvent.of(1L, 1L, LocalDateTime.now(), null, null, null));
+            sink.accept(ClickEvent.of(2L, 1L, LocalDateTime.now(), null, null, null));
+
+            long deadline = System.currentTimeMillis() + 2_000;
+            while (batchSizes.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertThat(batchSizes).containsExactly(2);
+        } finally {
+            sink.stop();
+        }
+    }
+}
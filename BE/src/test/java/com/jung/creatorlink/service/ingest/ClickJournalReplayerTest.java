@@ -0,0 +1,177 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClickJournalReplayerTest {
+
+    private static final LocalDateTime CLICKED_AT = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+    @TempDir
+    Path dir;
+
+    private final ClickLogWriter writer = mock(ClickLogWriter.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Long> written = new CopyOnWriteArrayList<>();
+    private ClickIngestProperties props;
+    private ClickJournal journal;
+    private ClickJournalReplayer replayer;
+
+    @AfterEach
+    void tearDown() {
+        if (replayer != null) replayer.stop();
+        if (journal != null) journal.close();
+    }
+
+    @Test
+    void checkpointForMissingSegmentIsResetAndActiveSegmentIsReplayed() throws IOException {
+        // 저널 디렉터리가 비워진 뒤 checkpoint 만 살아남은 상태 (seq 5 를 가리킴)
+        writeCheckpoint(5L, 128);
+        journal = openJournal();
+        journal.append(click(1L));
+        journal.append(click(2L));
+        recordWrites();
+
+        replayer = start();
+
+        awaitWritten(2);
+        assertThat(written).containsExactly(1L, 2L);
+        assertThat(journal.segmentPath(journal.activeSeq())).exists();
+    }
+
+    @Test
+    void finishedSegmentCoveredByCheckpointIsDeleted() throws IOException {
+        Files.createDirectories(dir);
+        Files.write(dir.resolve("clicks-000000000001.seg"), new byte[64]);
+        Files.write(dir.resolve("clicks-000000000002.seg"), new byte[64]);
+        writeCheckpoint(2L, 0);
+        journal = openJournal();
+
+        replayer = start();
+
+        awaitMissing(journal.segmentPath(1L));
+        awaitMissing(journal.segmentPath(2L)); // 끝까지 읽은 rotate 세그먼트
+        assertThat(journal.segmentPath(journal.activeSeq())).exists();
+    }
+
+    @Test
+    void permanentlyFailingRecordIsDeadLetteredAndRestContinue() throws IOException {
+        journal = openJournal();
+        journal.append(click(1L));
+        journal.append(click(2L));
+        journal.append(click(3L));
+        doAnswer(inv -> {
+            List<ClickEvent> events = inv.getArgument(0);
+            if (events.stream().anyMatch(e -> e.getTrackingLinkId() == 2L)) {
+                throw new DataIntegrityViolationException("fk_click_logs_tracking_link");
+            }
+            events.forEach(e -> written.add(e.getTrackingLinkId()));
+            return null;
+        }).when(writer).write(anyList());
+
+        replayer = start();
+
+        awaitCounter(1.0);
+        awaitWritten(2);
+        assertThat(written).containsExactly(1L, 3L);
+        assertThat(Files.readString(dir.resolve("dead-letter.log"))).startsWith("2\t");
+    }
+
+    @Test
+    void databaseOutageIsRetriedWithoutDeadLettering() throws IOException {
+        journal = openJournal();
+        journal.append(click(1L));
+        doAnswer(inv -> {
+            throw new DataAccessResourceFailureException("connection refused");
+        }).when(writer).write(anyList());
+
+        replayer = start();
+
+        verify(writer, timeout(2_000).atLeast(2)).write(anyList());
+        assertThat(registry.get("clicks.ingest.dead_letter").counter().count()).isZero();
+        assertThat(dir.resolve("dead-letter.log")).doesNotExist();
+    }
+
+    private ClickJournalReplayer start() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ClickJournalReplayer replayer = new ClickJournalReplayer(journal, writer, transactionManager, props, registry);
+        replayer.start();
+        return replayer;
+    }
+
+    private ClickJournal openJournal() throws IOException {
+        props = new ClickIngestProperties();
+        props.getJournal().setDir(dir.toString());
+        props.getJournal().setSegmentSizeBytes(64 * 1024);
+        props.getJournal().setForceIntervalMs(60_000);
+        props.getJournal().setReplayIntervalMs(20);
+        props.getJournal().setReplayRetryBackoffMs(50);
+        return new ClickJournal(props);
+    }
+
+    private void recordWrites() {
+        doAnswer(inv -> {
+            List<ClickEvent> events = inv.getArgument(0);
+            events.forEach(e -> written.add(e.getTrackingLinkId()));
+            return null;
+        }).when(writer).write(anyList());
+    }
+
+    private void writeCheckpoint(long seq, int offset) throws IOException {
+        Files.createDirectories(dir);
+        Files.write(dir.resolve("checkpoint"), ByteBuffer.allocate(12).putLong(seq).putInt(offset).array());
+    }
+
+    private void awaitMissing(Path path) {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (Files.exists(path) && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(path).doesNotExist();
+    }
+
+    private void awaitWritten(int expected) {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (written.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitCounter(double expected) {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (registry.get("clicks.ingest.dead_letter").counter().count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(registry.get("clicks.ingest.dead_letter").counter().count()).isEqualTo(expected);
+    }
+
+    private static ClickEvent click(long trackingLinkId) {
+        return ClickEvent.of(trackingLinkId, 1L, CLICKED_AT, null, "ua", null);
+    }
+}
@@ -0,0 +1,188 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClickJournalTest {
+
+    private static final LocalDateTime CLICKED_AT = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 600_000_000);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void appendedRecordsRoundTrip() throws IOException {
+        ClickJournal journal = open(64 * 1024);
+        journal.append(ClickEvent.of(1L, 10L, CLICKED_AT, "1.2.3.4", "ua", "https://ref.example"));
+        journal.append(ClickEvent.of(2L, null, CLICKED_AT.plusSeconds(1), null, "한글 UA", null));
+        long seq = journal.segmentSeqs().get(0);
+        int limit = journal.readLimit(seq);
+        journal.close();
+
+        List<ClickEvent> out = new ArrayList<>();
+        int next = ClickJournal.readRecords(map(journal.segmentPath(seq)), 0, limit, 100, out);
+
+        assertThat(next).isEqualTo(limit);
+        assertThat(out).hasSize(2);
+        assertThat(out.get(0).getTrackingLinkId()).isEqualTo(1L);
+        assertThat(out.get(0).getCampaignId()).isEqualTo(10L);
+        assertThat(out.get(0).getClickedAt()).isEqualTo(CLICKED_AT);
+        assertThat(out.get(0).getIp()).isEqualTo("1.2.3.4");
+        assertThat(out.get(0).getReferer()).isEqualTo("https://ref.example");
+        assertThat(out.get(1).getCampaignId()).isNull();
+        assertThat(out.get(1).getIp()).isNull();
+        assertThat(out.get(1).getUserAgent()).isEqualTo("한글 UA");
+    }
+
+    @Test
+    void readsStopAtMaxRecordsAndResumeFromReturnedOffset() throws IOException {
+        ClickJournal journal = open(64 * 1024);
+        for (long i = 1; i <= 5; i++) {
+            journal.append(ClickEvent.of(i, 1L, CLICKED_AT, null, null, null));
+        }
+        long seq = journal.segmentSeqs().get(0);
+        journal.close();
+        ByteBuffer buffer = map(journal.segmentPath(seq));
+
+        List<ClickEvent> first = new ArrayList<>();
+        int offset = ClickJournal.readRecords(buffer, 0, -1, 3, first);
+        List<ClickEvent> rest = new ArrayList<>();
+        ClickJournal.readRecords(buffer, offset, -1, 100, rest);
+
+        assertThat(first).extracting(ClickEvent::getTrackingLinkId).containsExactly(1L, 2L, 3L);
+        assertThat(rest).extracting(ClickEvent::getTrackingLinkId).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void oldFormatRecordWithoutCampaignIdReadsAsNull() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int end = writeRecord(buffer, 0, payload(7L, false));
+
+        List<ClickEvent> out = new ArrayList<>();
+        int next = ClickJournal.readRecords(buffer, 0, -1, 100, out);
+
+        assertThat(next).isEqualTo(end);
+        assertThat(out).singleElement().satisfies(e -> {
+            assertThat(e.getTrackingLinkId()).isEqualTo(7L);
+            assertThat(e.getCampaignId()).isNull();
+            assertThat(e.getClickedAt()).isEqualTo(CLICKED_AT);
+        });
+    }
+
+    @Test
+    void corruptRecordStopsReadAtThatOffset() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int second = writeRecord(buffer, 0, payload(1L, true));
+        int third = writeRecord(buffer, second, payload(2L, true));
+        writeRecord(buffer, third, payload(3L, true));
+        buffer.put(second + ClickJournal.HEADER_BYTES, (byte) (buffer.get(second + ClickJournal.HEADER_BYTES) ^ 0x1));
+
+        List<ClickEvent> out = new ArrayList<>();
+        int next = ClickJournal.readRecords(buffer, 0, -1, 100, out);
+
+        assertThat(out).extracting(ClickEvent::getTrackingLinkId).containsExactly(1L);
+        assertThat(next).isEqualTo(second);
+    }
+
+    @Test
+    void truncatedRecordIsNotRead() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int second = writeRecord(buffer, 0, payload(1L, true));
+        int end = writeRecord(buffer, second, payload(2L, true));
+
+        // 두 번째 레코드 중간까지만 기록된 상태 (limit 이 레코드 끝보다 앞)
+        List<ClickEvent> out = new ArrayList<>();
+        int next = ClickJournal.readRecords(buffer, 0, end - 3, 100, out);
+
+        assertThat(out).extracting(ClickEvent::getTrackingLinkId).containsExactly(1L);
+        assertThat(next).isEqualTo(second);
+    }
+
+    @Test
+    void zeroLengthMarksEndOfSegment() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int end = writeRecord(buffer, 0, payload(1L, true));
+
+        List<ClickEvent> out = new ArrayList<>();
+        int next = ClickJournal.readRecords(buffer, 0, -1, 100, out);
+
+        assertThat(out).hasSize(1);
+        assertThat(next).isEqualTo(end);
+    }
+
+    @Test
+    void rotationAcrossSegmentsKeepsEveryRecord() throws IOException {
+        ClickJournal journal = open(1024);
+        for (long i = 1; i <= 100; i++) {
+            journal.append(ClickEvent.of(i, 1L, CLICKED_AT, "1.2.3.4", "ua", null));
+        }
+        long active = journal.activeSeq();
+        journal.close();
+
+        List<ClickEvent> out = new ArrayList<>();
+        for (long seq : journal.segmentSeqs()) {
+            if (seq > active) continue; // 미리 만들어 두기만 한 다음 세그먼트
+            ClickJournal.readRecords(map(journal.segmentPath(seq)), 0, -1, 1000, out);
+        }
+
+        assertThat(active).isGreaterThan(1L);
+        assertThat(out).extracting(ClickEvent::getTrackingLinkId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 100).boxed().toList());
+    }
+
+    private ClickJournal open(int segmentSize) throws IOException {
+        ClickIngestProperties props = new ClickIngestProperties();
+        props.getJournal().setDir(dir.toString());
+        props.getJournal().setSegmentSizeBytes(segmentSize);
+        props.getJournal().setForceIntervalMs(60_000);
+        return new ClickJournal(props);
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    // ClickJournal.append 와 같은 포맷. withCampaign=false 면 campaignId 필드가 없던 이전 포맷
+    private static byte[] payload(long linkId, boolean withCampaign) {
+        byte[] ua = "ua".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer p = ByteBuffer.allocate(256);
+        p.putLong(linkId);
+        p.putLong(CLICKED_AT.toEpochSecond(ZoneOffset.UTC));
+        p.putInt(CLICKED_AT.getNano());
+        p.putShort((short) -1);
+        p.putShort((short) ua.length).put(ua);
+        p.putShort((short) -1);
+        if (withCampaign) p.putLong(99L);
+        p.flip();
+        byte[] bytes = new byte[p.remaining()];
+        p.get(bytes);
+        return bytes;
+    }
+
+    private static int writeRecord(ByteBuffer buffer, int offset, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.putInt(offset, payload.length);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.put(offset + ClickJournal.HEADER_BYTES, payload);
+        return offset + ClickJournal.HEADER_BYTES + payload.length;
+    }
+}
@@ -0,0 +1,171 @@
+package com.jung.creatorlink.service.ingest;
+
+import com.jung.creatorlink.config.props.ClickIngestProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisStreamClickConsumerTest {
+
+    private static final String KEY = "clicks:stream";
+    private static final String GROUP = "click-writers";
+    private static final String DEAD = "clicks:stream:dead";
+
+    @SuppressWarnings("unchecked")
+    private final StreamOperations<String, Object, Object> stream = mock(StreamOperations.class);
+    private final ClickLogWriter clickLogWriter = mock(ClickLogWriter.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<RecordId> acked = new ArrayList<>();
+    private RedisStreamClickConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForStream()).thenAnswer(inv -> stream);
+        when(stream.acknowledge(eq(KEY), eq(GROUP), any(RecordId[].class))).thenAnswer(inv -> {
+            for (int i = 2; i < inv.getArguments().length; i++) acked.add(inv.getArgument(i));
+            return 1L;
+        });
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        ClickIngestProperties props = new ClickIngestProperties();
+        props.getStream().setConsumerName("test");
+        consumer = new RedisStreamClickConsumer(redisTemplate, clickLogWriter, transactionManager, props, registry);
+    }
+
+    @Test
+    void committedBatchIsAcked() {
+        consumer.persistAndAck(List.of(record("1-0", 1), record("2-0", 2)));
+
+        verify(clickLogWriter).write(anyList());
+        assertThat(acked).extracting(RecordId::getValue).containsExactly("1-0", "2-0");
+    }
+
+    @Test
+    void databaseOutageLeavesBatchPending() {
+        doThrow(new CannotGetJdbcConnectionException("down")).when(clickLogWriter).write(anyList());
+
+        assertThatThrownBy(() -> consumer.persistAndAck(List.of(record("1-0", 1), record("2-0", 2))))
+                .isInstanceOf(CannotGetJdbcConnectionException.class);
+
+        assertThat(acked).isEmpty();
+        verify(stream, never()).delete(anyString(), any(RecordId[].class));
+        verify(stream, never()).add(any());
+    }
+
+    @Test
+    void badRecordIsIsolatedAndOthersAreKept() {
+        doAnswer(inv -> {
+            List<ClickEvent> events = inv.getArgument(0);
+            if (events.stream().anyMatch(e -> e.getTrackingLinkId() == 13)) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return null;
+        }).when(clickLogWriter).write(anyList());
+
+        consumer.persistAndAck(List.of(record("1-0", 1), record("2-0", 13), record("3-0", 3)));
+
+        // 배치 1번 + 한 건씩 3번
+        verify(clickLogWriter, times(4)).write(anyList());
+        assertThat(acked).extracting(RecordId::getValue).containsExactlyInAnyOrder("1-0", "2-0", "3-0");
+        Map<Object, Object> dead = deadLetterFields();
+        assertThat(dead).containsEntry("l", "13").containsEntry("sourceId", "2-0").containsKey("error");
+        assertThat(registry.get("clicks.ingest.dead_letter").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void outageWhileIsolatingStopsWithoutDroppingRest() {
+        doAnswer(inv -> {
+            List<ClickEvent> events = inv.getArgument(0);
+            if (events.size() > 1) throw new DataIntegrityViolationException("fk");
+            if (events.get(0).getTrackingLinkId() == 2) throw new CannotGetJdbcConnectionException("down");
+            return null;
+        }).when(clickLogWriter).write(anyList());
+
+        assertThatThrownBy(() -> consumer.persistAndAck(List.of(record("1-0", 1), record("2-0", 2), record("3-0", 3))))
+                .isInstanceOf(CannotGetJdbcConnectionException.class);
+
+        assertThat(acked).extracting(RecordId::getValue).containsExactly("1-0");
+        verify(stream, never()).add(any());
+    }
+
+    @Test
+    void malformedEntryGoesToDeadLetter() {
+        Map<Object, Object> broken = new HashMap<>();
+        broken.put("l", "not-a-number");
+        MapRecord<String, Object, Object> bad = StreamRecords.newRecord().in(KEY).withId(RecordId.of("9-0")).ofMap(broken);
+
+        consumer.persistAndAck(List.of(bad, record("10-0", 10)));
+
+        assertThat(acked).extracting(RecordId::getValue).containsExactlyInAnyOrder("9-0", "10-0");
+        assertThat(deadLetterFields()).containsEntry("sourceId", "9-0");
+    }
+
+    @Test
+    void longRedeliveredEntriesAreRetriedNotRetired() {
+        PendingMessage stale = new PendingMessage(RecordId.of("1-0"), Consumer.from(GROUP, "dead-node"),
+                Duration.ofMinutes(10), 50);
+        when(stream.pending(eq(KEY), eq(GROUP), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, List.of(stale)));
+        when(stream.claim(eq(KEY), eq(GROUP), eq("test"), any(Duration.class), any(RecordId[].class)))
+                .thenReturn(List.of(record("1-0", 1)));
+        doThrow(new CannotGetJdbcConnectionException("down")).when(clickLogWriter).write(anyList());
+
+        assertThatThrownBy(() -> consumer.reclaimStale()).isInstanceOf(CannotGetJdbcConnectionException.class);
+
+        assertThat(acked).isEmpty();
+        verify(stream, never()).add(any());
+    }
+
+    private Map<Object, Object> deadLetterFields() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArgumentCaptor<MapRecord<String, Object, Object>> captor = (ArgumentCaptor) ArgumentCaptor.forClass(MapRecord.class);
+        verify(stream).add(captor.capture());
+        assertThat(captor.getValue().getStream()).isEqualTo(DEAD);
+        return captor.getValue().getValue();
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, long linkId) {
+        Map<Object, Object> fields = new HashMap<>(RedisStreamClickSink.ClickEventCodec.toFields(
+                ClickEvent.of(linkId, 1L, LocalDateTime.of(2025, 1, 1, 0, 0), "1.2.3.4", "ua", null)));
+        return StreamRecords.newRecord().in(KEY).withId(RecordId.of(id)).ofMap(fields);
+    }
+}
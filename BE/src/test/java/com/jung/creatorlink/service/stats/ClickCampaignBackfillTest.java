@@ -0,0 +1,74 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.ClickCampaignBackfillProperties;
+import com.jung.creatorlink.repository.tracking.ClickLogJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class ClickCampaignBackfillTest {
+
+    private final ClickLogJdbcRepository repository = mock(ClickLogJdbcRepository.class);
+    private final ClickCampaignBackfillProperties props = new ClickCampaignBackfillProperties();
+    private ClickCampaignBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        props.setChunkSize(100);
+        props.setMaxChunksPerRun(2);
+        backfill = new ClickCampaignBackfill(repository, props);
+    }
+
+    @Test
+    void cursorAdvancesByChunkAcrossRunsUntilStartMaxId() {
+        when(repository.minIdWithoutCampaign()).thenReturn(50L, (Long) null);
+        when(repository.maxId()).thenReturn(300L);
+
+        backfill.backfill(); // [50,150) [150,250)
+        backfill.backfill(); // [250,350) → 끝 확인
+        backfill.backfill(); // 끝난 뒤에는 아무것도 안 함
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).backfillCampaignIds(50L, 150L);
+        order.verify(repository).backfillCampaignIds(150L, 250L);
+        order.verify(repository).backfillCampaignIds(250L, 350L);
+        verify(repository, times(2)).minIdWithoutCampaign();
+        verify(repository, times(1)).maxId();
+    }
+
+    @Test
+    void nothingToFillFinishesImmediately() {
+        when(repository.minIdWithoutCampaign()).thenReturn(null);
+
+        backfill.backfill();
+        backfill.backfill();
+
+        verify(repository, times(1)).minIdWithoutCampaign();
+        verify(repository, never()).backfillCampaignIds(anyLong(), anyLong());
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void failedChunkIsRetriedFromSameCursor() {
+        when(repository.minIdWithoutCampaign()).thenReturn(0L);
+        when(repository.maxId()).thenReturn(50L);
+        when(repository.backfillCampaignIds(0L, 100L))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenReturn(50);
+
+        backfill.backfill();
+        backfill.backfill();
+
+        verify(repository, times(2)).backfillCampaignIds(0L, 100L);
+    }
+}
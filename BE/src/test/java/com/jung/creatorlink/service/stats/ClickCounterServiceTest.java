@@ -0,0 +1,100 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.ClickCounterProperties;
+import com.jung.creatorlink.service.ingest.ClickEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClickCounterServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 2);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final StringRedisConnection connection = mock(StringRedisConnection.class);
+    private final ClickCounterProperties props = new ClickCounterProperties();
+    private ClickCounterService counters;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        props.setEnabled(true);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(inv -> {
+            ((RedisCallback<?>) inv.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        counters = new ClickCounterService(redisTemplate, props);
+    }
+
+    @Test
+    void clicksAreAggregatedPerKeyInOnePipeline() {
+        counters.recordInserted(List.of(click(1L, DAY), click(1L, DAY), click(1L, DAY.plusDays(1)), click(2L, DAY)));
+
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection).incrBy("clicks:link:1:day:2025-01-02", 2L);
+        verify(connection).incrBy("clicks:link:1:day:2025-01-03", 1L);
+        verify(connection).incrBy("clicks:link:2:day:2025-01-02", 1L);
+        verify(connection).incrBy("clicks:link:1:total", 3L);
+        verify(connection).incrBy("clicks:link:2:total", 1L);
+        verify(connection).expire("clicks:link:1:day:2025-01-02", 3 * 24 * 3600L);
+    }
+
+    @Test
+    void redisFailureDoesNotFailIngest() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new QueryTimeoutException("redis down"));
+
+        assertThatCode(() -> counters.recordInserted(List.of(click(1L, DAY)))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void disabledCounterWritesNothing() {
+        props.setEnabled(false);
+
+        counters.recordInserted(List.of(click(1L, DAY)));
+
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void readsAreChunkedAndMissingKeysCountAsZero() {
+        List<Long> linkIds = LongStream.rangeClosed(1, 1_500).boxed().toList();
+        when(values.multiGet(anyList())).thenAnswer(inv -> {
+            List<String> keys = inv.getArgument(0);
+            String[] raw = new String[keys.size()];
+            Arrays.fill(raw, "2");
+            raw[0] = null;
+            return Arrays.asList(raw);
+        });
+
+        assertThat(counters.sumTotal(linkIds)).isEqualTo((1_500 - 2) * 2L);
+        verify(values, times(2)).multiGet(anyList());
+    }
+
+    private static ClickEvent click(long trackingLinkId, LocalDate day) {
+        return ClickEvent.of(trackingLinkId, 1L, LocalDateTime.of(day, LocalTime.NOON), null, "ua", null);
+    }
+}
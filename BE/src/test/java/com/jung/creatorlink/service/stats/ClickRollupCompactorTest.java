@@ -0,0 +1,157 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.ClickRollupProperties;
+import com.jung.creatorlink.repository.tracking.ClickRollupJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClickRollupCompactorTest {
+
+    private final ClickRollupJdbcRepository repository = mock(ClickRollupJdbcRepository.class);
+    private final AtomicLong watermark = new AtomicLong();
+    private ClickRollupCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        when(repository.lockWatermark()).thenAnswer(inv -> watermark.get());
+        doAnswer(inv -> {
+            watermark.set(inv.getArgument(0));
+            return null;
+        }).when(repository).saveWatermark(anyLong());
+
+        ClickRollupProperties props = new ClickRollupProperties();
+        props.setChunkSize(100);
+        props.setGapRetentionMs(5_000);
+        compactor = new ClickRollupCompactor(repository, transactionManager, props);
+    }
+
+    @Test
+    void firstTickOnlyObservesMaxId() {
+        when(repository.maxClickLogId()).thenReturn(250L);
+
+        compactor.compact();
+
+        verify(repository, never()).rollup(anyLong(), anyLong());
+    }
+
+    @Test
+    void rollsUpToPreviouslyObservedMaxInChunks() {
+        when(repository.maxClickLogId()).thenReturn(250L, 400L);
+
+        compactor.compact();
+        compactor.compact();
+
+        // 두 번째 tick 은 첫 tick 에 본 250 까지만 (그 사이 늦게 커밋될 id 를 기다림)
+        InOrder order = inOrder(repository);
+        order.verify(repository).rollup(0L, 100L);
+        order.verify(repository).saveWatermark(100L);
+        order.verify(repository).rollup(100L, 200L);
+        order.verify(repository).saveWatermark(200L);
+        order.verify(repository).rollup(200L, 250L);
+        order.verify(repository).saveWatermark(250L);
+        verify(repository, never()).rollup(anyLong(), longThat(to -> to > 250L));
+    }
+
+    @Test
+    void nextTickContinuesFromWatermark() {
+        when(repository.maxClickLogId()).thenReturn(250L, 400L, 400L);
+
+        compactor.compact();
+        compactor.compact();
+        compactor.compact();
+
+        verify(repository).rollup(250L, 350L);
+        verify(repository).rollup(350L, 400L);
+    }
+
+    @Test
+    void watermarkAdvancedByAnotherNodeIsNotRolledAgain() {
+        when(repository.maxClickLogId()).thenReturn(250L, 400L);
+        watermark.set(300L);
+
+        compactor.compact();
+        compactor.compact();
+
+        verify(repository, never()).rollup(anyLong(), anyLong());
+    }
+
+    @Test
+    void missingIdsInRolledChunkAreRecordedAsGaps() {
+        when(repository.maxClickLogId()).thenReturn(80L, 80L);
+        List<long[]> gaps = List.<long[]>of(new long[]{40L, 41L});
+        when(repository.findGaps(0L, 80L)).thenReturn(gaps);
+
+        compactor.compact();
+        compactor.compact();
+
+        // 롤업과 같은 트랜잭션에서 gap 기록 → watermark 저장
+        InOrder order = inOrder(repository);
+        order.verify(repository).rollup(0L, 80L);
+        order.verify(repository).saveGaps(gaps);
+        order.verify(repository).saveWatermark(80L);
+    }
+
+    @Test
+    void lateCommittedRowsInsideGapAreRolledUpOnce() {
+        // 40~45 가 롤업 때 비어 있었고, 이제 41,42,44 가 커밋됨
+        when(repository.listGaps()).thenReturn(List.of(new ClickRollupJdbcRepository.Gap(7L, 40L, 45L)));
+        when(repository.findIdsIn(40L, 45L)).thenReturn(List.of(41L, 42L, 44L));
+        when(repository.maxClickLogId()).thenReturn(0L);
+
+        compactor.compact();
+
+        verify(repository).rollup(40L, 42L);
+        verify(repository).rollup(43L, 44L);
+        verify(repository, never()).rollup(longThat(from -> from < 40L), anyLong());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<long[]>> remaining = ArgumentCaptor.forClass(List.class);
+        verify(repository).replaceGap(eq(7L), remaining.capture());
+        assertThat(remaining.getValue()).containsExactly(
+                new long[]{40L, 40L}, new long[]{43L, 43L}, new long[]{45L, 45L});
+    }
+
+    @Test
+    void gapWithoutNewRowsIsLeftAlone() {
+        when(repository.listGaps()).thenReturn(List.of(new ClickRollupJdbcRepository.Gap(7L, 40L, 45L)));
+        when(repository.findIdsIn(40L, 45L)).thenReturn(List.of());
+        when(repository.maxClickLogId()).thenReturn(0L);
+
+        compactor.compact();
+
+        verify(repository, never()).rollup(anyLong(), anyLong());
+        verify(repository, never()).replaceGap(anyLong(), anyList());
+    }
+
+    @Test
+    void expiredGapsAreDroppedEveryTick() {
+        when(repository.maxClickLogId()).thenReturn(0L);
+
+        compactor.compact();
+
+        verify(repository).deleteGapsOlderThan(5_000L);
+    }
+}
@@ -0,0 +1,114 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.domain.common.Status;
+import com.jung.creatorlink.dto.stats.CampaignKpiClicksAgg;
+import com.jung.creatorlink.dto.stats.ChannelRankingResponse;
+import com.jung.creatorlink.dto.stats.CombinationStatsResponse;
+import com.jung.creatorlink.repository.tracking.ClickCountHourlyRepository;
+import com.jung.creatorlink.repository.tracking.ClickLogRepository;
+import com.jung.creatorlink.repository.tracking.ClickRollupJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClickRollupStatsReaderTest {
+
+    private static final long CAMPAIGN_ID = 1L;
+    private static final long WATERMARK = 500L;
+    private static final LocalDateTime TODAY = LocalDateTime.of(2025, 3, 10, 0, 0);
+    private static final LocalDateTime TOMORROW = TODAY.plusDays(1);
+    private static final LocalDateTime FROM = TODAY.minusDays(7);
+
+    private final ClickRollupJdbcRepository rollupRepository = mock(ClickRollupJdbcRepository.class);
+    private final ClickCountHourlyRepository hourlyRepository = mock(ClickCountHourlyRepository.class);
+    private final ClickLogRepository clickLogRepository = mock(ClickLogRepository.class);
+    private final ClickRollupStatsReader reader = new ClickRollupStatsReader(rollupRepository, hourlyRepository, clickLogRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(rollupRepository.currentWatermark()).thenReturn(WATERMARK);
+    }
+
+    @Test
+    void combinationStatsAddTailAfterWatermarkToRollup() {
+        when(hourlyRepository.findCombinationStats(CAMPAIGN_ID, Status.ACTIVE, TODAY, TOMORROW, FROM, TOMORROW))
+                .thenReturn(List.of(
+                        combination(10L, 100L, 1, 5, 20),
+                        combination(10L, 200L, 0, 0, 0),
+                        combination(20L, 100L, 2, 3, 4)));
+        when(clickLogRepository.findCombinationStatsTail(WATERMARK, CAMPAIGN_ID, Status.ACTIVE, TODAY, TOMORROW, FROM, TOMORROW))
+                .thenReturn(List.of(
+                        combination(10L, 200L, 4, 4, 4),
+                        combination(20L, 100L, 1, 1, 1)));
+
+        List<CombinationStatsResponse> result = reader.findCombinationStats(CAMPAIGN_ID, TODAY, TOMORROW, FROM, TOMORROW);
+
+        // 오늘 → 기간 클릭 내림차순, 같으면 creatorId/channelId 오름차순
+        assertThat(result)
+                .extracting(CombinationStatsResponse::getCreatorId, CombinationStatsResponse::getChannelId,
+                        CombinationStatsResponse::getTodayClicks, CombinationStatsResponse::getRangeClicks,
+                        CombinationStatsResponse::getTotalClicks)
+                .containsExactly(
+                        tuple(10L, 200L, 4L, 4L, 4L),
+                        tuple(20L, 100L, 3L, 4L, 5L),
+                        tuple(10L, 100L, 1L, 5L, 20L));
+    }
+
+    @Test
+    void tailIsReadFromTheSameWatermark() {
+        when(rollupRepository.currentWatermark()).thenReturn(42L);
+
+        reader.findCombinationStats(CAMPAIGN_ID, TODAY, TOMORROW, FROM, TOMORROW);
+
+        verify(clickLogRepository).findCombinationStatsTail(eq(42L), eq(CAMPAIGN_ID), eq(Status.ACTIVE),
+                any(), any(), any(), any());
+    }
+
+    @Test
+    void channelRankingMergesSortsAndLimits() {
+        when(hourlyRepository.findChannelRanking(CAMPAIGN_ID, Status.ACTIVE, FROM, TOMORROW))
+                .thenReturn(List.of(ranking(1L, 10), ranking(2L, 8), ranking(3L, 1)));
+        when(clickLogRepository.findChannelRankingTail(WATERMARK, CAMPAIGN_ID, Status.ACTIVE, FROM, TOMORROW))
+                .thenReturn(List.of(ranking(2L, 2), ranking(3L, 20), ranking(4L, 5)));
+
+        List<ChannelRankingResponse> result = reader.findChannelRanking(CAMPAIGN_ID, FROM, TOMORROW, 3);
+
+        assertThat(result)
+                .extracting(ChannelRankingResponse::getChannelId, ChannelRankingResponse::getClicks)
+                .containsExactly(tuple(3L, 21L), tuple(1L, 10L), tuple(2L, 10L));
+    }
+
+    @Test
+    void kpiClicksSumRollupAndTail() {
+        when(hourlyRepository.findCampaignKpiClicks(CAMPAIGN_ID, Status.ACTIVE, TODAY, TOMORROW, FROM, TOMORROW))
+                .thenReturn(new CampaignKpiClicksAgg(1L, 10L, 100L));
+        when(clickLogRepository.findCampaignKpiClicksTail(anyLong(), eq(CAMPAIGN_ID), eq(Status.ACTIVE),
+                any(), any(), any(), any()))
+                .thenReturn(new CampaignKpiClicksAgg(2L, null, 3L));
+
+        CampaignKpiClicksAgg result = reader.findCampaignKpiClicks(CAMPAIGN_ID, TODAY, TOMORROW, FROM, TOMORROW);
+
+        assertThat(result.getTodayClicks()).isEqualTo(3);
+        assertThat(result.getRangeClicks()).isEqualTo(10);
+        assertThat(result.getTotalClicks()).isEqualTo(103);
+    }
+
+    private static CombinationStatsResponse combination(Long creatorId, Long channelId, long today, long range, long total) {
+        return new CombinationStatsResponse(creatorId, "creator" + creatorId, channelId, "channel" + channelId, today, range, total);
+    }
+
+    private static ChannelRankingResponse ranking(Long channelId, long clicks) {
+        return new ChannelRankingResponse(channelId, "channel" + channelId, clicks);
+    }
+}
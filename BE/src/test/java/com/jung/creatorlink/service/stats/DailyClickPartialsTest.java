@@ -0,0 +1,96 @@
+package com.jung.creatorlink.service.stats;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.jung.creatorlink.config.props.ClickRollupProperties;
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import com.jung.creatorlink.repository.tracking.ClickCountJdbcRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
+import com.jung.creatorlink.service.cache.StatsCacheService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DailyClickPartialsTest {
+
+    private static final long CAMPAIGN_ID = 7L;
+
+    private final StatsCacheService cache = mock(StatsCacheService.class);
+    private final ClickCountJdbcRepository repository = mock(ClickCountJdbcRepository.class);
+    private final ParallelStatsAggregator aggregator = mock(ParallelStatsAggregator.class);
+    private final DailyClickPartials partials = new DailyClickPartials(cache, repository, new ClickRollupProperties(),
+            new StatsCacheProperties(), aggregator, mock(StatsCacheGeneration.class));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rangeReadsAllDaysInOneBatchAndStoresComputedDaysInOne() {
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        LocalDate from = today.minusDays(90);
+        LocalDate to = today.minusDays(1);
+        LocalDate missingFrom = today.minusDays(10);
+
+        // 앞 80일은 캐시 HIT (링크 1 에 하루 1클릭), 마지막 10일은 MISS
+        Map<String, Map<Long, Long>> cached = new HashMap<>();
+        for (LocalDate day = from; day.isBefore(missingFrom); day = day.plusDays(1)) {
+            cached.put("stats:day:" + CAMPAIGN_ID + ":" + day, Map.of(1L, 1L));
+        }
+        when(cache.getAll(anyList(), any(TypeReference.class))).thenReturn(cached);
+        Map<LocalDate, Map<Long, Long>> computed = new HashMap<>();
+        for (LocalDate day = missingFrom; !day.isAfter(to); day = day.plusDays(1)) {
+            computed.put(day, Map.of(2L, 3L));
+        }
+        when(repository.countByLinkAndDayForCampaign(eq(CAMPAIGN_ID), any(LocalDateTime.class), any(LocalDateTime.class), anyBoolean()))
+                .thenReturn(computed);
+
+        Map<Long, Long> result = partials.rangeByLink(CAMPAIGN_ID, from, to);
+
+        assertThat(result).containsEntry(1L, 80L).containsEntry(2L, 30L);
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(cache, times(1)).getAll(keys.capture(), any(TypeReference.class));
+        assertThat(keys.getValue()).hasSize(90);
+        verify(cache, never()).get(anyString(), any(TypeReference.class));
+
+        ArgumentCaptor<Map<String, ?>> stored = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Function<String, Duration>> ttls = ArgumentCaptor.forClass(Function.class);
+        verify(cache, times(1)).setAll(stored.capture(), ttls.capture());
+        assertThat(stored.getValue()).hasSize(10).containsKey("stats:day:" + CAMPAIGN_ID + ":" + to);
+        assertThat(ttls.getValue().apply("stats:day:" + CAMPAIGN_ID + ":" + missingFrom)).isPositive();
+        verify(cache, never()).set(anyString(), any(), any(Duration.class));
+        verify(repository, times(1)).countByLinkAndDayForCampaign(eq(CAMPAIGN_ID),
+                eq(missingFrom.atStartOfDay()), eq(today.atStartOfDay()), anyBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fullyCachedRangeDoesNotTouchDatabase() {
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        LocalDate day = today.minusDays(3);
+        when(cache.getAll(anyList(), any(TypeReference.class)))
+                .thenReturn(Map.of("stats:day:" + CAMPAIGN_ID + ":" + day, Map.of(5L, 4L)));
+
+        assertThat(partials.rangeByLink(CAMPAIGN_ID, day, day)).containsExactly(Map.entry(5L, 4L));
+
+        verify(repository, never()).countByLinkAndDayForCampaign(any(), any(), any(), anyBoolean());
+        verify(cache, never()).setAll(any(), any());
+    }
+}
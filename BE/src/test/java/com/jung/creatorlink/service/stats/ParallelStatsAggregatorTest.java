@@ -0,0 +1,106 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.StatsCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelStatsAggregatorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private ParallelStatsAggregator aggregator;
+
+    @AfterEach
+    void tearDown() {
+        if (aggregator != null) aggregator.shutdown();
+    }
+
+    @Test
+    void partsRunConcurrentlyInReadOnlyTransactionsAndKeepInputOrder() throws Exception {
+        aggregator = aggregator(3);
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<Supplier<Integer>> parts = List.of(1, 2, 3).stream()
+                .<Supplier<Integer>>map(n -> () -> {
+                    threads.add(Thread.currentThread().getName());
+                    allStarted.countDown();
+                    await(allStarted); // 세 조각이 동시에 돌아야 통과
+                    return n * 10;
+                })
+                .toList();
+
+        assertThat(aggregator.invokeAll(parts)).containsExactly(10, 20, 30);
+        assertThat(threads).hasSize(3).allMatch(name -> name.startsWith("stats-agg-"));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definition.capture());
+        assertThat(definition.getAllValues()).allMatch(TransactionDefinition::isReadOnly);
+    }
+
+    @Test
+    void singlePartRunsOnCallerThread() {
+        aggregator = aggregator(3);
+        String caller = Thread.currentThread().getName();
+
+        List<String> result = aggregator.invokeAll(List.of(() -> Thread.currentThread().getName()));
+
+        assertThat(result).containsExactly(caller);
+    }
+
+    @Test
+    void failingPartIsRethrown() {
+        aggregator = aggregator(2);
+        List<Supplier<Integer>> parts = List.of(() -> 1, () -> {
+            throw new IllegalStateException("slice failed");
+        });
+
+        assertThatThrownBy(() -> aggregator.invokeAll(parts))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("slice failed");
+    }
+
+    @Test
+    void enabledOnlyWithMoreThanOneThread() {
+        aggregator = aggregator(1);
+        assertThat(aggregator.isEnabled()).isFalse();
+        aggregator.shutdown();
+
+        aggregator = aggregator(2);
+        assertThat(aggregator.isEnabled()).isTrue();
+    }
+
+    private ParallelStatsAggregator aggregator(int threads) {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        StatsCacheProperties props = new StatsCacheProperties();
+        props.setAggregationThreads(threads);
+        return new ParallelStatsAggregator(props, transactionManager);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.common.exception.GlobalExceptionHandler;
+import com.jung.creatorlink.common.exception.StatsOverloadedException;
+import com.jung.creatorlink.config.props.StatsBulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatsBulkheadTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenNoWaitingRoomLeft() throws Exception {
+        StatsBulkhead bulkhead = new StatsBulkhead(props(1, 1, 0, 5_000), registry);
+        occupy(bulkhead, StatsBulkhead.COMBINATION);
+
+        assertThatThrownBy(() -> bulkhead.call(StatsBulkhead.COMBINATION, () -> "v"))
+                .isInstanceOfSatisfying(StatsOverloadedException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(7));
+        assertThat(registry.get("stats.bulkhead.rejected").tag("endpoint", StatsBulkhead.COMBINATION).counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void waiterIsRejectedWhenWaitExpires() throws Exception {
+        StatsBulkhead bulkhead = new StatsBulkhead(props(1, 1, 5, 50), registry);
+        occupy(bulkhead, StatsBulkhead.RANKING);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> bulkhead.call(StatsBulkhead.RANKING, () -> "v"))
+                .isInstanceOf(StatsOverloadedException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(40);
+    }
+
+    @Test
+    void waiterRunsOncePermitIsReleased() throws Exception {
+        StatsBulkhead bulkhead = new StatsBulkhead(props(1, 1, 5, 5_000), registry);
+        CompletableFuture<String> busy = occupy(bulkhead, StatsBulkhead.KPI);
+
+        CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> bulkhead.call(StatsBulkhead.KPI, () -> "next"), executor);
+        release.countDown();
+
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("busy");
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("next");
+    }
+
+    @Test
+    void totalLimitAppliesAcrossCompartments() throws Exception {
+        StatsBulkhead bulkhead = new StatsBulkhead(props(1, 2, 0, 5_000), registry);
+        occupy(bulkhead, StatsBulkhead.COMBINATION);
+
+        // ranking 칸에는 자리가 남아 있지만 전체 상한에 막힌다
+        assertThatThrownBy(() -> bulkhead.call(StatsBulkhead.RANKING, () -> "v"))
+                .isInstanceOf(StatsOverloadedException.class);
+    }
+
+    @Test
+    void endpointOverrideGetsItsOwnCompartment() throws Exception {
+        StatsBulkheadProperties props = props(4, 1, 0, 5_000);
+        StatsBulkheadProperties.Limit background = new StatsBulkheadProperties.Limit();
+        background.setMaxConcurrent(2);
+        props.getEndpoints().put(StatsBulkhead.BACKGROUND, background);
+        StatsBulkhead bulkhead = new StatsBulkhead(props, registry);
+
+        occupy(bulkhead, StatsBulkhead.BACKGROUND);
+        occupy(bulkhead, StatsBulkhead.BACKGROUND);
+        assertThatThrownBy(() -> bulkhead.call(StatsBulkhead.BACKGROUND, () -> "v"))
+                .isInstanceOf(StatsOverloadedException.class);
+
+        // 백그라운드가 꽉 차도 사용자 요청 칸은 영향 없음
+        assertThat(bulkhead.call(StatsBulkhead.COMBINATION, () -> "v")).isEqualTo("v");
+    }
+
+    @Test
+    void permitsAreReturnedWhenWorkFails() {
+        StatsBulkhead bulkhead = new StatsBulkhead(props(1, 1, 0, 5_000), registry);
+
+        assertThatThrownBy(() -> bulkhead.call(StatsBulkhead.TODAY, () -> {
+            throw new IllegalStateException("query failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(bulkhead.call(StatsBulkhead.TODAY, () -> "v")).isEqualTo("v");
+    }
+
+    @Test
+    void disabledBulkheadNeverRejects() throws Exception {
+        StatsBulkheadProperties props = props(1, 1, 0, 5_000);
+        props.setEnabled(false);
+        StatsBulkhead bulkhead = new StatsBulkhead(props, registry);
+        CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> bulkhead.call(StatsBulkhead.KPI, () -> {
+            await(release);
+            return "busy";
+        }), executor);
+
+        assertThat(bulkhead.call(StatsBulkhead.KPI, () -> "v")).isEqualTo("v");
+        release.countDown();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo("busy");
+    }
+
+    @Test
+    void overloadMapsTo503WithRetryAfter() {
+        ResponseEntity<?> response = new GlobalExceptionHandler()
+                .handleOverloaded(new StatsOverloadedException("busy", 7));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+    }
+
+    private static StatsBulkheadProperties props(int maxTotal, int maxConcurrent, int maxWaiting, long maxWaitMs) {
+        StatsBulkheadProperties props = new StatsBulkheadProperties();
+        props.setEnabled(true);
+        props.setMaxTotalConcurrent(maxTotal);
+        props.setMaxConcurrent(maxConcurrent);
+        props.setMaxWaiting(maxWaiting);
+        props.setMaxWaitMs(maxWaitMs);
+        props.setRetryAfterSeconds(7);
+        return props;
+    }
+
+    // release 전까지 자리를 잡고 있는 실행. 자리를 잡은 뒤에 반환
+    private CompletableFuture<String> occupy(StatsBulkhead bulkhead, String endpoint) throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> bulkhead.call(endpoint, () -> {
+            entered.countDown();
+            await(release);
+            return "busy";
+        }), executor);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        return future;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
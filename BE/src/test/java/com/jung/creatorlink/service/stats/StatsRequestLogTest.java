@@ -0,0 +1,111 @@
+package com.jung.creatorlink.service.stats;
+
+import com.jung.creatorlink.config.props.StatsWarmProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatsRequestLogTest {
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final StringRedisConnection connection = mock(StringRedisConnection.class);
+    private final StatsWarmProperties props = new StatsWarmProperties();
+    private StatsRequestLog requestLog;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        props.setEnabled(true);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(inv -> {
+            ((RedisCallback<?>) inv.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        requestLog = new StatsRequestLog(redisTemplate, props);
+    }
+
+    @Test
+    void requestsAreCountedInMemoryAndFlushedInOnePipeline() {
+        requestLog.recordCombination(3L, 1L, TODAY.minusDays(6), TODAY);
+        requestLog.recordCombination(3L, 1L, TODAY.minusDays(6), TODAY);
+        requestLog.recordChannelRanking(3L, 1L, TODAY.minusDays(29), TODAY.minusDays(1), 10);
+
+        requestLog.flush();
+
+        String key = "stats:reqlog:" + TODAY;
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection).zIncrBy(key, 2L, "comb|1|3|6|0|0");
+        verify(connection).zIncrBy(key, 1L, "rank|1|3|29|1|10");
+        verify(connection).zRemRange(key, 0, -(props.getMaxMembersPerDay() + 1L));
+
+        // 보낸 뒤에는 비어 있음
+        requestLog.flush();
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void distinctEntriesOverCapAreDropped() {
+        props.setMaxPendingMembers(1);
+
+        requestLog.recordCombination(3L, 1L, TODAY.minusDays(6), TODAY);
+        requestLog.recordCombination(4L, 1L, TODAY.minusDays(6), TODAY);
+        requestLog.recordCombination(3L, 1L, TODAY.minusDays(6), TODAY); // 이미 있는 항목은 계속 센다
+        requestLog.flush();
+
+        verify(connection).zIncrBy(anyString(), eq(2.0), eq("comb|1|3|6|0|0"));
+        verify(connection, never()).zIncrBy(anyString(), anyDouble(), eq("comb|1|4|6|0|0"));
+    }
+
+    @Test
+    void disabledLogRecordsNothing() {
+        props.setEnabled(false);
+
+        requestLog.recordCombination(3L, 1L, TODAY.minusDays(6), TODAY);
+        requestLog.flush();
+
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void topRangesSumDaysAndSkipMalformedMembers() {
+        props.setLookbackDays(2);
+        ZSetOperations<String, String> zset = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zset);
+        when(zset.rangeWithScores("stats:reqlog:" + TODAY, 0, -1)).thenReturn(Set.of(
+                new DefaultTypedTuple<>("comb|1|3|6|0|0", 2.0),
+                new DefaultTypedTuple<>("rank|1|4|6|0|10", 3.0),
+                new DefaultTypedTuple<>("garbage", 100.0)));
+        when(zset.rangeWithScores("stats:reqlog:" + TODAY.minusDays(1), 0, -1)).thenReturn(Set.of(
+                new DefaultTypedTuple<>("comb|1|3|6|0|0", 4.0)));
+
+        List<StatsRequestLog.RequestedRange> ranges = requestLog.topRanges();
+
+        assertThat(ranges).extracting(StatsRequestLog.RequestedRange::campaignId).containsExactly(3L, 4L);
+        StatsRequestLog.RequestedRange top = ranges.get(0);
+        assertThat(top.count()).isEqualTo(6.0);
+        assertThat(top.from(TODAY)).isEqualTo(TODAY.minusDays(6));
+        assertThat(top.to(TODAY)).isEqualTo(TODAY);
+    }
+}
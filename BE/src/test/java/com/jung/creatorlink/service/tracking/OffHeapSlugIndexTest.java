@@ -0,0 +1,180 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.config.props.SlugIndexProperties;
+import com.jung.creatorlink.dto.tracking.RedirectTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OffHeapSlugIndexTest {
+
+    private OffHeapSlugIndex index;
+
+    @AfterEach
+    void tearDown() {
+        if (index != null) index.stop();
+    }
+
+    @Test
+    void builtSnapshotFindsEverySlugAndMissesUnknown() {
+        OffHeapSlugIndex.Snapshot.Builder builder = new OffHeapSlugIndex.Snapshot.Builder(5_000, 5_000 * 9);
+        for (long id = 1; id <= 5_000; id++) {
+            builder.add(id, SlugAllocator.encode(id), "https://example.com/p/" + (id % 10), id % 7);
+        }
+        OffHeapSlugIndex.Snapshot snapshot = builder.build();
+
+        for (long id = 1; id <= 5_000; id++) {
+            int slot = snapshot.find(SlugAllocator.encode(id));
+            assertThat(slot).isGreaterThanOrEqualTo(0);
+            assertThat(snapshot.linkId(slot)).isEqualTo(id);
+            assertThat(snapshot.campaignId(slot)).isEqualTo(id % 7);
+            assertThat(snapshot.url(slot)).isEqualTo("https://example.com/p/" + (id % 10));
+        }
+        assertThat(snapshot.find(SlugAllocator.encode(5_001))).isEqualTo(-1);
+        assertThat(snapshot.find("")).isEqualTo(-1);
+    }
+
+    @Test
+    void sharedUrlsResolveForEverySlot() {
+        OffHeapSlugIndex.Snapshot.Builder builder = new OffHeapSlugIndex.Snapshot.Builder(100, 1_000);
+        for (long id = 1; id <= 100; id++) {
+            builder.add(id, "s" + id, id % 2 == 0 ? "https://a.example/landing" : "https://b.example/한글", 1);
+        }
+        OffHeapSlugIndex.Snapshot snapshot = builder.build();
+
+        assertThat(snapshot.find("s99")).isGreaterThanOrEqualTo(0);
+        assertThat(snapshot.url(snapshot.find("s99"))).isEqualTo("https://b.example/한글");
+        assertThat(snapshot.url(snapshot.find("s100"))).isEqualTo("https://a.example/landing");
+        assertThat(snapshot.url(snapshot.find("s2"))).isEqualTo("https://a.example/landing");
+    }
+
+    @Test
+    void collidingHashesProbeToTheirOwnSlot() {
+        // 같은 해시 버킷(첫 슬롯)으로 떨어지는 slug 들을 찾아서 연속으로 넣는다
+        OffHeapSlugIndex.Snapshot.Builder builder = new OffHeapSlugIndex.Snapshot.Builder(16, 1_000);
+        List<String> sameBucket = new ArrayList<>();
+        for (int i = 0; sameBucket.size() < 4; i++) {
+            String slug = "k" + i;
+            if ((OffHeapSlugIndex.Snapshot.hash(slug) & 31) == 0) sameBucket.add(slug);
+        }
+        for (int i = 0; i < sameBucket.size(); i++) {
+            builder.add(i + 1, sameBucket.get(i), "https://example.com/" + i, 0);
+        }
+        OffHeapSlugIndex.Snapshot snapshot = builder.build();
+
+        for (int i = 0; i < sameBucket.size(); i++) {
+            assertThat(snapshot.linkId(snapshot.find(sameBucket.get(i)))).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    void nonAsciiAndOverflowingSlugsAreLeftToFallbackPath() {
+        OffHeapSlugIndex.Snapshot.Builder builder = new OffHeapSlugIndex.Snapshot.Builder(16, 10);
+        builder.add(1, "한글슬러그", "https://example.com", 0);
+        builder.add(2, "abcdefgh", "https://example.com", 0);
+        builder.add(3, "ijklmnop", "https://example.com", 0); // slug 버퍼 초과
+        OffHeapSlugIndex.Snapshot snapshot = builder.build();
+
+        assertThat(snapshot.find("한글슬러그")).isEqualTo(-1);
+        assertThat(snapshot.find("abcdefgh")).isGreaterThanOrEqualTo(0);
+        assertThat(snapshot.find("ijklmnop")).isEqualTo(-1);
+    }
+
+    @Test
+    void lookupFillsReusedHitWithoutTarget() throws Exception {
+        index = start(List.of(row(1, "aaa", "https://a.example", 10), row(2, "bbb", "https://b.example", 20)));
+
+        OffHeapSlugIndex.Hit hit = new OffHeapSlugIndex.Hit();
+        assertThat(index.lookup("bbb", hit)).isTrue();
+        assertThat(hit.linkId()).isEqualTo(2);
+        assertThat(hit.campaignId()).isEqualTo(20);
+        assertThat(hit.url()).isEqualTo("https://b.example");
+
+        assertThat(index.lookup("aaa", hit)).isTrue();
+        assertThat(hit.linkId()).isEqualTo(1);
+        assertThat(index.lookup("zzz", hit)).isFalse();
+
+        RedirectTarget target = index.lookup("aaa");
+        assertThat(target.getTrackingLinkId()).isEqualTo(1L);
+        assertThat(target.getFinalUrl()).isEqualTo("https://a.example");
+        assertThat(target.getCampaignId()).isEqualTo(10L);
+    }
+
+    @Test
+    void tombstoneHidesSlugUntilRebuild() throws Exception {
+        List<Object[]> rows = List.of(row(1, "aaa", "https://a.example", 10), row(2, "bbb", "https://b.example", 20));
+        index = start(rows);
+
+        index.markDeleted(List.of("aaa"));
+        assertThat(index.lookup("aaa")).isNull();
+        assertThat(index.lookup("bbb")).isNotNull();
+
+        // 재빌드 시작 전에 찍힌 tombstone 은 새 스냅샷(DB 기준)으로 대체된다
+        Thread.sleep(1);
+        index.stop();
+        index.start();
+        assertThat(index.lookup("aaa")).isNotNull();
+    }
+
+    @Test
+    void notLoadedIndexMissesEverything() {
+        SlugIndexProperties props = new SlugIndexProperties();
+        props.setEnabled(false);
+        index = new OffHeapSlugIndex(mock(JdbcTemplate.class), props);
+        index.start();
+
+        index.markDeleted(List.of("aaa"));
+        assertThat(index.lookup("aaa")).isNull();
+        assertThat(index.isRunning()).isFalse();
+    }
+
+    private static Object[] row(long id, String slug, String url, long campaignId) {
+        return new Object[]{id, slug, url, campaignId};
+    }
+
+    // 기동 시 전체 빌드: COUNT 조회 + tracking_links 스트리밍 스캔을 흉내 냄
+    private static OffHeapSlugIndex start(List<Object[]> rows) throws Exception {
+        Connection con = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(con.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenAnswer(inv -> resultSet(rows));
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(con);
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        long bytes = rows.stream().mapToLong(r -> ((String) r[1]).length()).sum();
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(Map.<String, Object>of("cnt", (long) rows.size(), "bytes", bytes));
+
+        SlugIndexProperties props = new SlugIndexProperties();
+        props.setRefreshIntervalMs(60_000);
+        OffHeapSlugIndex index = new OffHeapSlugIndex(jdbcTemplate, props);
+        index.start();
+        return index;
+    }
+
+    private static ResultSet resultSet(List<Object[]> rows) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(rs.next()).thenAnswer(inv -> cursor.incrementAndGet() < rows.size());
+        when(rs.getLong(1)).thenAnswer(inv -> rows.get(cursor.get())[0]);
+        when(rs.getString(2)).thenAnswer(inv -> rows.get(cursor.get())[1]);
+        when(rs.getString(3)).thenAnswer(inv -> rows.get(cursor.get())[2]);
+        when(rs.getLong(4)).thenAnswer(inv -> rows.get(cursor.get())[3]);
+        return rs;
+    }
+}
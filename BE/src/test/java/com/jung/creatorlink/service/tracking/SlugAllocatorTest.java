@@ -0,0 +1,145 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.config.props.SlugAllocProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlugAllocatorTest {
+
+    private static final int BLOCK_SIZE = 100;
+
+    @Test
+    void encodeIsFixedLengthAndDecodesBack() {
+        for (long id : new long[]{0, 1, 2, 61, 62, 1_000, 123_456_789L, (1L << 53) - 1}) {
+            String slug = SlugAllocator.encode(id);
+            assertThat(slug).hasSize(SlugAllocator.SLUG_LENGTH).matches("[0-9a-zA-Z]+");
+            assertThat(SlugAllocator.decode(slug)).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void consecutiveIdsDoNotLookConsecutive() {
+        String a = SlugAllocator.encode(1_000);
+        String b = SlugAllocator.encode(1_001);
+
+        assertThat(a.substring(0, 6)).isNotEqualTo(b.substring(0, 6));
+    }
+
+    @Test
+    void decodeRejectsForeignFormats() {
+        assertThat(SlugAllocator.decode(null)).isEqualTo(-1);
+        assertThat(SlugAllocator.decode("abc")).isEqualTo(-1);
+        assertThat(SlugAllocator.decode("abcdefgh-")).isEqualTo(-1);
+        assertThat(SlugAllocator.decode("ZZZZZZZZZ")).isEqualTo(-1); // 62^9 > 2^53
+    }
+
+    @Test
+    void slugsStayUniqueAcrossReservedBlocks() throws Exception {
+        AtomicLong nextVal = new AtomicLong();
+        AtomicBoolean seeded = new AtomicBoolean(false);
+        SlugAllocator allocator = allocator(nextVal, seeded);
+
+        List<String> slugs = new ArrayList<>(allocator.nextSlugs(BLOCK_SIZE * 3 + 7));
+        slugs.add(allocator.nextSlug());
+
+        Set<String> unique = new HashSet<>(slugs);
+        assertThat(unique).hasSize(slugs.size());
+        // 첫 예약에서 시작 row 를 만들고, 번호는 1 부터 빈틈없이 이어짐
+        assertThat(seeded).isTrue();
+        for (int i = 0; i < slugs.size(); i++) {
+            assertThat(SlugAllocator.decode(slugs.get(i))).isEqualTo(i + 1L);
+        }
+        assertThat(nextVal.get()).isEqualTo(1 + BLOCK_SIZE * 4L);
+    }
+
+    @Test
+    void blocksReservedByAnotherNodeAreSkipped() throws Exception {
+        AtomicLong nextVal = new AtomicLong(1);
+        AtomicBoolean seeded = new AtomicBoolean(true);
+        SlugAllocator allocator = allocator(nextVal, seeded);
+
+        String first = allocator.nextSlug();
+        nextVal.addAndGet(BLOCK_SIZE); // 다른 노드가 한 블록 예약
+        List<String> rest = allocator.nextSlugs(BLOCK_SIZE);
+
+        assertThat(SlugAllocator.decode(first)).isEqualTo(1);
+        assertThat(SlugAllocator.decode(rest.get(BLOCK_SIZE - 2))).isEqualTo(BLOCK_SIZE);
+        assertThat(SlugAllocator.decode(rest.get(BLOCK_SIZE - 1))).isEqualTo(1 + BLOCK_SIZE * 2L);
+    }
+
+    @Test
+    void staleBlockIsAbandoned() throws Exception {
+        AtomicLong nextVal = new AtomicLong(1);
+        SlugAllocator allocator = allocator(nextVal, new AtomicBoolean(true), 50);
+
+        String first = allocator.nextSlug();
+        Thread.sleep(80);
+        String second = allocator.nextSlug();
+
+        // 남은 번호(2..100)는 버리고 새 블록에서 발급
+        assertThat(SlugAllocator.decode(first)).isEqualTo(1);
+        assertThat(SlugAllocator.decode(second)).isEqualTo(1 + BLOCK_SIZE);
+    }
+
+    private static SlugAllocator allocator(AtomicLong nextVal, AtomicBoolean seeded) throws Exception {
+        return allocator(nextVal, seeded, 60_000);
+    }
+
+    // slug_sequence 한 row 를 흉내 내는 전용 커넥션 (UPDATE ... LAST_INSERT_ID(next_val + ?) / INSERT IGNORE)
+    private static SlugAllocator allocator(AtomicLong nextVal, AtomicBoolean seeded, long maxBlockAgeMs) throws Exception {
+        Connection con = mock(Connection.class);
+        AtomicLong lastInsertId = new AtomicLong();
+
+        PreparedStatement update = mock(PreparedStatement.class);
+        when(update.executeUpdate()).thenAnswer(inv -> {
+            if (!seeded.get()) return 0;
+            lastInsertId.set(nextVal.addAndGet(BLOCK_SIZE));
+            return 1;
+        });
+        PreparedStatement insert = mock(PreparedStatement.class);
+        when(insert.executeUpdate()).thenAnswer(inv -> {
+            if (seeded.compareAndSet(false, true)) {
+                nextVal.set(1);
+                return 1;
+            }
+            return 0;
+        });
+        PreparedStatement select = mock(PreparedStatement.class);
+        when(select.executeQuery()).thenAnswer(inv -> {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.next()).thenReturn(true);
+            when(rs.getLong(1)).thenReturn(lastInsertId.get());
+            return rs;
+        });
+        when(con.prepareStatement(anyString())).thenAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            if (sql.startsWith("UPDATE")) return update;
+            if (sql.startsWith("INSERT")) return insert;
+            return select;
+        });
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(con);
+
+        SlugAllocProperties props = new SlugAllocProperties();
+        props.setBlockSize(BLOCK_SIZE);
+        props.setMaxBlockAgeMs(maxBlockAgeMs);
+        return new SlugAllocator(mock(JdbcTemplate.class), dataSource, props);
+    }
+}
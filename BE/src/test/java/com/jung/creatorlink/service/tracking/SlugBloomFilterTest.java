@@ -0,0 +1,138 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.config.props.SlugBloomProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlugBloomFilterTest {
+
+    private static final long MAX_BLOCK_AGE_MS = 100;
+
+    @Test
+    void insertedSlugsAreNeverReportedMissing() {
+        SlugBloomFilter.Bits bits = new SlugBloomFilter.Bits(50_000, 0.01);
+        List<String> slugs = new ArrayList<>();
+        for (long id = 1; id <= 50_000; id++) {
+            String slug = SlugAllocator.encode(id);
+            slugs.add(slug);
+            bits.put(slug);
+        }
+
+        assertThat(slugs).allMatch(bits::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        SlugBloomFilter.Bits bits = new SlugBloomFilter.Bits(50_000, 0.01);
+        for (long id = 1; id <= 50_000; id++) {
+            bits.put(SlugAllocator.encode(id));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long id = 1_000_000; id < 1_000_000 + probes; id++) {
+            if (bits.mightContain(SlugAllocator.encode(id))) falsePositives++;
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+    }
+
+    @Test
+    void emptyFilterRejectsEverything() {
+        SlugBloomFilter.Bits bits = new SlugBloomFilter.Bits(1_000, 0.01);
+
+        assertThat(bits.mightContain(SlugAllocator.encode(1))).isFalse();
+        assertThat(bits.mightContain("")).isFalse();
+    }
+
+    @Test
+    void slugFromBlockReservedBeforeSyncIsNotRejected() throws Exception {
+        SlugAllocator allocator = mock(SlugAllocator.class);
+        when(allocator.maxBlockAgeMs()).thenReturn(MAX_BLOCK_AGE_MS);
+        // 빌드 시점 시퀀스 끝 1001 → 동기화 때 2001 → 한참 뒤 3001
+        when(allocator.reservedHighWater()).thenReturn(1001L, 2001L, 3001L);
+        SlugBloomFilter filter = filter(allocator);
+
+        filter.rebuild();
+        // 빌드 전에 다른 노드가 예약한 블록 [1, 1001) 에서 빌드 후 발급한 slug
+        assertThat(filter.mightContain(SlugAllocator.encode(5))).isTrue();
+
+        filter.sync();
+        // 동기화 전에 예약된 블록 [1001, 2001) 에서 동기화 후 발급 (pub/sub 도착 전)
+        assertThat(filter.mightContain(SlugAllocator.encode(1500))).isTrue();
+
+        Thread.sleep(MAX_BLOCK_AGE_MS + 50);
+        filter.sync();
+        // 블록 최대 사용 시간이 지난 뒤: 두 번째 관측(2001) 이후 블록만 열려 있을 수 있음
+        assertThat(filter.mightContain(SlugAllocator.encode(2500))).isTrue();
+        assertThat(filter.mightContain(SlugAllocator.encode(1500))).isFalse();
+        assertThat(filter.mightContain(SlugAllocator.encode(5))).isFalse();
+    }
+
+    @Test
+    void garbageSlugsAreStillRejected() throws Exception {
+        SlugAllocator allocator = mock(SlugAllocator.class);
+        when(allocator.maxBlockAgeMs()).thenReturn(MAX_BLOCK_AGE_MS);
+        when(allocator.reservedHighWater()).thenReturn(1001L);
+        SlugBloomFilter filter = filter(allocator);
+
+        filter.rebuild();
+
+        // 발급기 형식이 아니거나, 시퀀스 끝 + 창 너머의 번호
+        assertThat(filter.mightContain("not-a-slug")).isFalse();
+        assertThat(filter.mightContain("zzzzzzzzz")).isFalse();
+        assertThat(filter.mightContain(SlugAllocator.encode(1001 + 10_000))).isFalse();
+    }
+
+    @Test
+    void committedSlugIsFoundAfterFilterMovesOn() throws Exception {
+        SlugAllocator allocator = mock(SlugAllocator.class);
+        when(allocator.maxBlockAgeMs()).thenReturn(MAX_BLOCK_AGE_MS);
+        when(allocator.reservedHighWater()).thenReturn(1001L, 2001L);
+        SlugBloomFilter filter = filter(allocator);
+
+        filter.rebuild();
+        filter.addAfterCommit(List.of(SlugAllocator.encode(7)));
+        Thread.sleep(MAX_BLOCK_AGE_MS + 50);
+        filter.sync();
+
+        assertThat(filter.mightContain(SlugAllocator.encode(7))).isTrue();
+    }
+
+    // ACTIVE slug 가 하나도 없는 DB 에서 빌드 (동기화 조회도 빈 결과)
+    private static SlugBloomFilter filter(SlugAllocator allocator) throws Exception {
+        ResultSet empty = mock(ResultSet.class);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(empty);
+        Connection con = mock(Connection.class);
+        when(con.createStatement()).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(con);
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+
+        SlugBloomProperties props = new SlugBloomProperties();
+        props.setSyncIntervalMs(0);
+        props.setNewSlugWindow(10_000);
+        return new SlugBloomFilter(jdbcTemplate, mock(StringRedisTemplate.class), allocator, props,
+                new SimpleMeterRegistry(), mock(RedisMessageListenerContainer.class));
+    }
+}
@@ -0,0 +1,72 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.config.props.SlugCacheProperties;
+import com.jung.creatorlink.dto.tracking.RedirectTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlugCacheTest {
+
+    private static final RedirectTarget TARGET = new RedirectTarget(1L, "https://example.com", 10L);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void putThenGetHits() {
+        SlugCache cache = new SlugCache(new SlugCacheProperties());
+
+        cache.put("abc", TARGET);
+
+        assertThat(cache.get("abc")).isSameAs(TARGET);
+        assertThat(cache.get("other")).isNull();
+    }
+
+    @Test
+    void disabledCacheNeverHits() {
+        SlugCacheProperties props = new SlugCacheProperties();
+        props.setEnabled(false);
+        SlugCache cache = new SlugCache(props);
+
+        cache.put("abc", TARGET);
+
+        assertThat(cache.get("abc")).isNull();
+    }
+
+    @Test
+    void evictOutsideTransactionRemovesImmediately() {
+        SlugCache cache = new SlugCache(new SlugCacheProperties());
+        cache.put("abc", TARGET);
+
+        cache.evict("abc");
+
+        assertThat(cache.get("abc")).isNull();
+    }
+
+    @Test
+    void evictInsideTransactionRemovesAgainAfterCommit() {
+        SlugCache cache = new SlugCache(new SlugCacheProperties());
+        cache.put("abc", TARGET);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictAll(List.of("abc"));
+        assertThat(cache.get("abc")).isNull();
+        // 커밋 전, 다른 요청이 아직 ACTIVE 인 row 를 읽어 다시 올림
+        cache.put("abc", TARGET);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.get("abc")).isNull();
+    }
+}
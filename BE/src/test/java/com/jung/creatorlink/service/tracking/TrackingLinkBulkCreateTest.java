@@ -0,0 +1,150 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.domain.campaign.Campaign;
+import com.jung.creatorlink.domain.common.Status;
+import com.jung.creatorlink.domain.user.User;
+import com.jung.creatorlink.dto.tracking.TrackingLinkBulkCreateRequest;
+import com.jung.creatorlink.dto.tracking.TrackingLinkBulkCreateResponse;
+import com.jung.creatorlink.dto.tracking.TrackingLinkResponse;
+import com.jung.creatorlink.repository.campaign.CampaignRepository;
+import com.jung.creatorlink.repository.channel.ChannelRepository;
+import com.jung.creatorlink.repository.creator.CreatorRepository;
+import com.jung.creatorlink.repository.tracking.TrackingLinkJdbcRepository;
+import com.jung.creatorlink.repository.tracking.TrackingLinkRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
+import com.jung.creatorlink.service.ingest.ClickSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TrackingLinkBulkCreateTest {
+
+    private static final long ADVERTISER_ID = 1L;
+    private static final long CAMPAIGN_ID = 10L;
+
+    private final TrackingLinkRepository trackingLinkRepository = mock(TrackingLinkRepository.class);
+    private final CampaignRepository campaignRepository = mock(CampaignRepository.class);
+    private final CreatorRepository creatorRepository = mock(CreatorRepository.class);
+    private final ChannelRepository channelRepository = mock(ChannelRepository.class);
+    private final SlugAllocator slugAllocator = mock(SlugAllocator.class);
+    private final TrackingLinkJdbcRepository trackingLinkJdbcRepository = mock(TrackingLinkJdbcRepository.class);
+    private TrackingLinkService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrackingLinkService(
+                trackingLinkRepository,
+                campaignRepository,
+                creatorRepository,
+                channelRepository,
+                mock(SlugCache.class),
+                mock(SlugBloomFilter.class),
+                slugAllocator,
+                trackingLinkJdbcRepository,
+                mock(OffHeapSlugIndex.class),
+                mock(ClickSink.class),
+                mock(StatsCacheGeneration.class));
+
+        Campaign campaign = Campaign.builder()
+                .id(CAMPAIGN_ID)
+                .advertiser(User.builder().id(ADVERTISER_ID).build())
+                .landingUrl("https://example.com/landing")
+                .build();
+        when(campaignRepository.findById(CAMPAIGN_ID)).thenReturn(Optional.of(campaign));
+    }
+
+    @Test
+    void onlyMissingCombinationsAreInsertedInOneBatch() {
+        owns(List.of(100L, 101L), List.of(200L, 201L));
+        List<Object[]> existing = List.<Object[]>of(new Object[]{100L, 201L});
+        when(trackingLinkRepository.findCombinationsByCampaignAndStatus(
+                eq(CAMPAIGN_ID), anyCollection(), anyCollection(), eq(Status.ACTIVE))).thenReturn(existing);
+        when(slugAllocator.nextSlugs(3)).thenReturn(List.of("s1", "s2", "s3"));
+        when(trackingLinkJdbcRepository.insertBatch(eq(CAMPAIGN_ID), anyString(), any(), anyList()))
+                .thenReturn(new long[]{501L, 502L, 503L});
+
+        // 중복 id 는 한 번만
+        TrackingLinkBulkCreateResponse response =
+                service.createTrackingLinksBulk(request(List.of(100L, 101L, 100L), List.of(200L, 201L)));
+
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(response.getSkippedExisting()).isEqualTo(1);
+        assertThat(response.getLinks())
+                .extracting(TrackingLinkResponse::getCreatorId, TrackingLinkResponse::getChannelId,
+                        TrackingLinkResponse::getSlug, TrackingLinkResponse::getId)
+                .containsExactly(
+                        tuple(100L, 200L, "s1", 501L),
+                        tuple(101L, 200L, "s2", 502L),
+                        tuple(101L, 201L, "s3", 503L));
+        assertThat(response.getLinks()).allMatch(l -> l.getFinalUrl().equals("https://example.com/landing"));
+        verify(trackingLinkJdbcRepository).insertBatch(eq(CAMPAIGN_ID), eq("https://example.com/landing"), any(), eq(List.of(
+                new TrackingLinkJdbcRepository.NewLink(100L, 200L, "s1"),
+                new TrackingLinkJdbcRepository.NewLink(101L, 200L, "s2"),
+                new TrackingLinkJdbcRepository.NewLink(101L, 201L, "s3"))));
+    }
+
+    @Test
+    void creatorsOfOtherAdvertisersAreRejectedBeforeInsert() {
+        owns(List.of(100L), List.of(200L));
+
+        assertThatThrownBy(() -> service.createTrackingLinksBulk(request(List.of(100L, 999L), List.of(200L))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("creatorIds=[999]");
+        verify(trackingLinkJdbcRepository, never()).insertBatch(anyLong(), anyString(), any(), anyList());
+        verify(slugAllocator, never()).nextSlugs(anyInt());
+    }
+
+    @Test
+    void mismatchedAdvertiserIsRejected() {
+        TrackingLinkBulkCreateRequest request = request(List.of(100L), List.of(200L));
+        request.setAdvertiserId(2L);
+
+        assertThatThrownBy(() -> service.createTrackingLinksBulk(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(creatorRepository, channelRepository, trackingLinkJdbcRepository);
+    }
+
+    @Test
+    void requestOverCombinationCapIsRejectedBeforeAnyQuery() {
+        List<Long> creators = LongStream.rangeClosed(1, 201).boxed().toList();
+        List<Long> channels = LongStream.rangeClosed(1, 100).boxed().toList();
+
+        assertThatThrownBy(() -> service.createTrackingLinksBulk(request(creators, channels)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("20000");
+        verifyNoInteractions(campaignRepository, creatorRepository, channelRepository, trackingLinkJdbcRepository);
+    }
+
+    private void owns(List<Long> creatorIds, List<Long> channelIds) {
+        when(creatorRepository.findIdsOwnedBy(anyCollection(), eq(ADVERTISER_ID), eq(Status.ACTIVE))).thenReturn(creatorIds);
+        when(channelRepository.findIdsOwnedBy(anyCollection(), eq(ADVERTISER_ID), eq(Status.ACTIVE))).thenReturn(channelIds);
+    }
+
+    private static TrackingLinkBulkCreateRequest request(List<Long> creatorIds, List<Long> channelIds) {
+        TrackingLinkBulkCreateRequest request = new TrackingLinkBulkCreateRequest();
+        request.setCampaignId(CAMPAIGN_ID);
+        request.setCreatorIds(creatorIds);
+        request.setChannelIds(channelIds);
+        return request;
+    }
+}
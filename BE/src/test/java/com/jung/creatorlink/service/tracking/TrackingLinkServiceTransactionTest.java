@@ -0,0 +1,96 @@
+package com.jung.creatorlink.service.tracking;
+
+import com.jung.creatorlink.domain.common.Status;
+import com.jung.creatorlink.repository.campaign.CampaignRepository;
+import com.jung.creatorlink.repository.channel.ChannelRepository;
+import com.jung.creatorlink.repository.creator.CreatorRepository;
+import com.jung.creatorlink.repository.tracking.TrackingLinkJdbcRepository;
+import com.jung.creatorlink.repository.tracking.TrackingLinkRepository;
+import com.jung.creatorlink.service.cache.StatsCacheGeneration;
+import com.jung.creatorlink.service.ingest.ClickSink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 리다이렉트 핫패스가 트랜잭션(= 풀 커넥션)을 열지 않는지: 실제 @Transactional 프록시 + 커넥션을 세는 DataSource
+class TrackingLinkServiceTransactionTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final TrackingLinkRepository trackingLinkRepository = mock(TrackingLinkRepository.class);
+    private final OffHeapSlugIndex slugIndex = mock(OffHeapSlugIndex.class);
+    private TrackingLinkService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+
+        TrackingLinkService target = new TrackingLinkService(
+                trackingLinkRepository,
+                mock(CampaignRepository.class),
+                mock(CreatorRepository.class),
+                mock(ChannelRepository.class),
+                mock(SlugCache.class),
+                mock(SlugBloomFilter.class),
+                mock(SlugAllocator.class),
+                mock(TrackingLinkJdbcRepository.class),
+                slugIndex,
+                mock(ClickSink.class),
+                mock(StatsCacheGeneration.class));
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(
+                new DataSourceTransactionManager(dataSource), new AnnotationTransactionAttributeSource()));
+        service = (TrackingLinkService) proxyFactory.getProxy();
+    }
+
+    @Test
+    void indexHitRunsWithoutTransaction() throws Exception {
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        when(slugIndex.lookup(eq("abc"), any(OffHeapSlugIndex.Hit.class))).thenAnswer(inv -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return true;
+        });
+
+        assertThat(service.resolveIndexed("abc", new OffHeapSlugIndex.Hit())).isTrue();
+
+        assertThat(transactionActive).isFalse();
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    void recordClickRunsWithoutTransaction() throws Exception {
+        service.recordClick(1L, 2L, "1.2.3.4", "ua", null);
+
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    void classLevelTransactionStillAppliesElsewhere() throws Exception {
+        // 위 검증이 프록시 미적용으로 통과하는 게 아님을 확인 (기본 메서드는 커넥션을 잡는다)
+        when(trackingLinkRepository.findAllByCampaign_IdAndStatus(1L, Status.ACTIVE)).thenReturn(List.of());
+
+        service.getTrackingLinksByCampaign(1L);
+
+        verify(dataSource, atLeastOnce()).getConnection();
+    }
+}